@@ -0,0 +1,86 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.benchmark;
+
+import net.kemitix.mon.combinator.After;
+import net.kemitix.mon.combinator.Around;
+import net.kemitix.mon.combinator.Before;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Benchmarks for the {@link Before}, {@link After} and {@link Around} combinators.
+ *
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CombinatorBenchmark {
+
+    private int value;
+    private Function<Integer, Integer> plain;
+    private Function<Integer, Integer> before;
+    private Function<Integer, Integer> after;
+    private Function<Integer, Integer> around;
+
+    /**
+     * Decorate the function with each combinator.
+     *
+     * @param blackhole consumes the values seen by the decorations
+     */
+    @Setup
+    public void setUp(final Blackhole blackhole) {
+        value = 42;
+        plain = v -> v + 1;
+        before = Before.decorate(blackhole::consume, plain);
+        after = After.decorate(plain, (argument, result) -> blackhole.consume(result));
+        around = Around.decorate(plain, (executable, argument) -> blackhole.consume(executable.execute()));
+    }
+
+    @Benchmark
+    public Integer undecorated() {
+        return plain.apply(value);
+    }
+
+    @Benchmark
+    public Integer before() {
+        return before.apply(value);
+    }
+
+    @Benchmark
+    public Integer after() {
+        return after.apply(value);
+    }
+
+    @Benchmark
+    public Integer around() {
+        return around.apply(value);
+    }
+
+}
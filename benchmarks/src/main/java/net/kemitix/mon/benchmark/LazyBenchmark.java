@@ -0,0 +1,162 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.benchmark;
+
+import net.kemitix.mon.lazy.Lazy;
+import net.kemitix.mon.lazy.LazyMode;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link Lazy#value()}.
+ *
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LazyBenchmark {
+
+    private String value;
+    private Lazy<String> evaluated;
+    private Lazy<String> evaluatedPublication;
+    private Lazy<String> evaluatedThreadConfined;
+
+    /**
+     * Prepare already evaluated Lazies in each mode.
+     */
+    @Setup
+    public void setUp() {
+        value = "benchmark";
+        evaluated = Lazy.of(() -> value);
+        evaluated.value();
+        evaluatedPublication = Lazy.of(() -> value, LazyMode.PUBLICATION);
+        evaluatedPublication.value();
+        evaluatedThreadConfined = Lazy.of(() -> value, LazyMode.THREAD_CONFINED);
+        evaluatedThreadConfined.value();
+    }
+
+    /**
+     * Create and evaluate a new Lazy, measuring the first access.
+     *
+     * @return the value
+     */
+    @Benchmark
+    public String firstValue() {
+        return Lazy.of(() -> value).value();
+    }
+
+    /**
+     * Read the value from an already evaluated Lazy.
+     *
+     * @return the value
+     */
+    @Benchmark
+    public String evaluatedValue() {
+        return evaluated.value();
+    }
+
+    /**
+     * Create and evaluate a new publication mode Lazy.
+     *
+     * @return the value
+     */
+    @Benchmark
+    public String firstValuePublication() {
+        return Lazy.of(() -> value, LazyMode.PUBLICATION).value();
+    }
+
+    /**
+     * Create and evaluate a new thread-confined Lazy.
+     *
+     * @return the value
+     */
+    @Benchmark
+    public String firstValueThreadConfined() {
+        return Lazy.of(() -> value, LazyMode.THREAD_CONFINED).value();
+    }
+
+    /**
+     * Read the value from an already evaluated publication mode Lazy.
+     *
+     * @return the value
+     */
+    @Benchmark
+    public String evaluatedValuePublication() {
+        return evaluatedPublication.value();
+    }
+
+    /**
+     * Read the value from an already evaluated thread-confined Lazy.
+     *
+     * @return the value
+     */
+    @Benchmark
+    public String evaluatedValueThreadConfined() {
+        return evaluatedThreadConfined.value();
+    }
+
+    /**
+     * Read the value from an already evaluated Lazy from several threads.
+     *
+     * @return the value
+     */
+    @Benchmark
+    @Threads(4)
+    public String evaluatedValueShared() {
+        return evaluated.value();
+    }
+
+    /**
+     * Map over a Lazy and then evaluate it.
+     *
+     * @return the mapped value
+     */
+    @Benchmark
+    public Integer mapValue() {
+        return evaluated
+                .map(String::length)
+                .map(v -> v + 1)
+                .value();
+    }
+
+    /**
+     * Map a new Lazy several times and then evaluate it.
+     *
+     * @return the mapped value
+     */
+    @Benchmark
+    public Integer mapChainFirstValue() {
+        return Lazy.of(() -> value)
+                .map(String::length)
+                .map(v -> v + 1)
+                .map(v -> v * 2)
+                .map(v -> v - 3)
+                .map(v -> v + 5)
+                .value();
+    }
+
+}
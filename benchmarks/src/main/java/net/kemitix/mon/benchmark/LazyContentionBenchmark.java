@@ -0,0 +1,122 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.benchmark;
+
+import net.kemitix.mon.lazy.Lazy;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link Lazy} with the original LazySupplier design, for first
+ * access contended by several threads and for uncontended reads of an
+ * evaluated value.
+ *
+ * <p>Run with {@code -prof gc} to compare allocation per Lazy.</p>
+ *
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LazyContentionBenchmark {
+
+    private static final String VALUE = "benchmark";
+
+    /**
+     * A fresh, unevaluated Lazy for every invocation, shared by the threads
+     * in the group.
+     */
+    @State(Scope.Group)
+    public static class Fresh {
+
+        Lazy<String> lazy;
+        LegacyLazySupplier<String> legacy;
+
+        /**
+         * Create new unevaluated Lazies.
+         */
+        @Setup(Level.Invocation)
+        public void setUp() {
+            lazy = Lazy.of(() -> VALUE);
+            legacy = new LegacyLazySupplier<>(() -> VALUE);
+        }
+    }
+
+    /**
+     * An evaluated Lazy, read by a single thread.
+     */
+    @State(Scope.Thread)
+    public static class Evaluated {
+
+        Lazy<String> lazy;
+        LegacyLazySupplier<String> legacy;
+
+        /**
+         * Create and evaluate the Lazies.
+         */
+        @Setup
+        public void setUp() {
+            lazy = Lazy.of(() -> VALUE);
+            lazy.value();
+            legacy = new LegacyLazySupplier<>(() -> VALUE);
+            legacy.value();
+        }
+    }
+
+    @Benchmark
+    @Group("contendedFirst")
+    @GroupThreads(4)
+    public String contendedFirst(final Fresh fresh) {
+        return fresh.lazy.value();
+    }
+
+    @Benchmark
+    @Group("contendedFirstLegacy")
+    @GroupThreads(4)
+    public String contendedFirstLegacy(final Fresh fresh) {
+        return fresh.legacy.value();
+    }
+
+    @Benchmark
+    public String uncontendedRead(final Evaluated evaluated) {
+        return evaluated.lazy.value();
+    }
+
+    @Benchmark
+    public String uncontendedReadLegacy(final Evaluated evaluated) {
+        return evaluated.legacy.value();
+    }
+
+    @Benchmark
+    public Lazy<String> create() {
+        return Lazy.of(() -> VALUE);
+    }
+
+    @Benchmark
+    public LegacyLazySupplier<String> createLegacy() {
+        return new LegacyLazySupplier<>(() -> VALUE);
+    }
+
+}
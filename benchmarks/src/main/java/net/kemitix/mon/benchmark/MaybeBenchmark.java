@@ -0,0 +1,192 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.benchmark;
+
+import net.kemitix.mon.maybe.Maybe;
+import net.kemitix.mon.maybe.MaybeInt;
+import net.kemitix.mon.maybe.MaybePipeline;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmarks for {@link Maybe} map, filter, orElse, searching and bulk operations.
+ *
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MaybeBenchmark {
+
+    private static final MaybePipeline<String, Integer> PIPELINE = Maybe.<String>pipeline()
+            .map(String::length)
+            .map(v -> v + 1)
+            .filter(v -> v > 0)
+            .map(v -> v * 2);
+
+    private String value;
+    private Maybe<String> just;
+    private Maybe<String> nothing;
+    private List<Integer> candidates;
+    private int target;
+    private List<Maybe<Integer>> maybes;
+
+    /**
+     * Prepare the starting Maybes.
+     */
+    @Setup
+    public void setUp() {
+        value = "benchmark";
+        just = Maybe.just(value);
+        nothing = Maybe.nothing();
+        candidates = IntStream.range(0, 1_000_000).boxed().collect(Collectors.toList());
+        target = 750_000;
+        maybes = IntStream.range(0, 1_000)
+                .mapToObj(i -> i % 4 == 0 ? Maybe.<Integer>nothing() : Maybe.just(i))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public Maybe<String> maybe() {
+        return Maybe.maybe(value);
+    }
+
+    @Benchmark
+    public Integer mapChainJust() {
+        return just
+                .map(String::length)
+                .map(v -> v + 1)
+                .map(v -> v * 2)
+                .orElse(0);
+    }
+
+    @Benchmark
+    public Integer mapFilterChainJust() {
+        return just
+                .map(String::length)
+                .map(v -> v + 1)
+                .filter(v -> v > 0)
+                .map(v -> v * 2)
+                .orElse(0);
+    }
+
+    @Benchmark
+    public Integer pipelineJust() {
+        return PIPELINE.run(value)
+                .orElse(0);
+    }
+
+    @Benchmark
+    public int intMapChainJust() {
+        return just
+                .mapToInt(String::length)
+                .map(v -> v + 1)
+                .filter(v -> v > 0)
+                .map(v -> v * 2)
+                .orElse(0);
+    }
+
+    @Benchmark
+    public Integer mapChainNothing() {
+        return nothing
+                .map(String::length)
+                .map(v -> v + 1)
+                .map(v -> v * 2)
+                .orElse(0);
+    }
+
+    @Benchmark
+    public String filterPassJust() {
+        return just
+                .filter(v -> !v.isEmpty())
+                .orElse("");
+    }
+
+    @Benchmark
+    public String filterFailJust() {
+        return just
+                .filter(String::isEmpty)
+                .orElse("");
+    }
+
+    @Benchmark
+    public String orElseGetNothing() {
+        return nothing
+                .orElseGet(() -> value);
+    }
+
+    @Benchmark
+    public Integer findFirstStream() {
+        return Maybe.findFirst(candidates.stream().filter(v -> v == target))
+                .orElse(0);
+    }
+
+    @Benchmark
+    public Integer findFirstParallelStream() {
+        return Maybe.findFirst(candidates.parallelStream().filter(v -> v == target))
+                .orElse(0);
+    }
+
+    @Benchmark
+    public Integer findAnyParallelStream() {
+        return Maybe.findAny(candidates.parallelStream().filter(v -> v == target))
+                .orElse(0);
+    }
+
+    @Benchmark
+    public Integer parallelFindFirst() {
+        return Maybe.parallelFindFirst(candidates, v -> v == target)
+                .orElse(0);
+    }
+
+    @Benchmark
+    public Integer parallelFindAny() {
+        return Maybe.parallelFindAny(candidates, v -> v == target)
+                .orElse(0);
+    }
+
+    @Benchmark
+    public List<Integer> flatMapStreamJusts() {
+        return maybes.stream()
+                .flatMap(Maybe::stream)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Integer> catMaybesCollector() {
+        return maybes.stream()
+                .collect(Maybe.catMaybesCollector());
+    }
+
+    @Benchmark
+    public List<Integer> catMaybes() {
+        return Maybe.catMaybes(maybes);
+    }
+
+}
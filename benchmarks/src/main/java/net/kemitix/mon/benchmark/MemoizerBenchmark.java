@@ -0,0 +1,75 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.benchmark;
+
+import net.kemitix.mon.lazy.Memoizer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Benchmarks for cached lookups through a {@link Memoizer}.
+ *
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MemoizerBenchmark {
+
+    private static final int KEYS = 1024;
+
+    private Memoizer<Integer, String> unbounded;
+    private Memoizer<Integer, String> lru;
+
+    /**
+     * Fill each memoizer with every key.
+     */
+    @Setup
+    public void setUp() {
+        final Function<Integer, String> function = String::valueOf;
+        unbounded = Memoizer.of(function);
+        lru = Memoizer.lru(function, KEYS);
+        for (int i = 0; i < KEYS; i++) {
+            unbounded.apply(i);
+            lru.apply(i);
+        }
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String unboundedHit() {
+        return unbounded.apply(ThreadLocalRandom.current().nextInt(KEYS));
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String lruHit() {
+        return lru.apply(ThreadLocalRandom.current().nextInt(KEYS));
+    }
+
+}
@@ -0,0 +1,161 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.benchmark;
+
+import net.kemitix.mon.TypeReference;
+import net.kemitix.mon.result.IntResult;
+import net.kemitix.mon.result.Result;
+import net.kemitix.mon.result.ResultPipeline;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link Result} map, flatMap and recover chains.
+ *
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResultBenchmark {
+
+    private static final RuntimeException ERROR = new RuntimeException("benchmark");
+
+    private static final ResultPipeline<Integer, Integer> PIPELINE = Result.<Integer>pipeline()
+            .map(v -> v + 1)
+            .map(v -> v * 2)
+            .map(v -> v - 3)
+            .map(v -> v / 2)
+            .map(v -> v + 5);
+
+    private int value;
+    private int largeValue;
+    private boolean flag;
+    private Result<Integer> success;
+    private Result<Integer> error;
+
+    /**
+     * Prepare the starting Results.
+     */
+    @Setup
+    public void setUp() {
+        value = 42;
+        largeValue = 4242;
+        flag = true;
+        success = Result.ok(value);
+        error = Result.error(TypeReference.create(), ERROR);
+    }
+
+    @Benchmark
+    public Result<Integer> ok() {
+        return Result.ok(value);
+    }
+
+    @Benchmark
+    public Result<Boolean> okBoolean() {
+        return Result.ok(flag);
+    }
+
+    @Benchmark
+    public Result<Integer> okLargeInteger() {
+        return Result.ok(largeValue);
+    }
+
+    @Benchmark
+    public Result<Integer> of() {
+        return Result.of(() -> value);
+    }
+
+    @Benchmark
+    public Result<Integer> mapChainSuccess() {
+        return success
+                .map(v -> v + 1)
+                .map(v -> v * 2)
+                .map(v -> v - 3)
+                .map(v -> v / 2)
+                .map(v -> v + 5);
+    }
+
+    @Benchmark
+    public Result<Integer> pipelineSuccess() {
+        return PIPELINE.run(value);
+    }
+
+    @Benchmark
+    public IntResult intMapChainSuccess() {
+        return IntResult.ok(value)
+                .map(v -> v + 1)
+                .map(v -> v * 2)
+                .map(v -> v - 3)
+                .map(v -> v / 2)
+                .map(v -> v + 5);
+    }
+
+    @Benchmark
+    public Result<Integer> mapChainError() {
+        return error
+                .map(v -> v + 1)
+                .map(v -> v * 2)
+                .map(v -> v - 3)
+                .map(v -> v / 2)
+                .map(v -> v + 5);
+    }
+
+    @Benchmark
+    public Result<Integer> flatMapChainSuccess() {
+        return success
+                .flatMap(v -> Result.ok(v + 1))
+                .flatMap(v -> Result.ok(v * 2))
+                .flatMap(v -> Result.ok(v - 3))
+                .flatMap(v -> Result.ok(v / 2))
+                .flatMap(v -> Result.ok(v + 5));
+    }
+
+    @Benchmark
+    public Result<Integer> flatMapChainError() {
+        return error
+                .flatMap(v -> Result.ok(v + 1))
+                .flatMap(v -> Result.ok(v * 2))
+                .flatMap(v -> Result.ok(v - 3))
+                .flatMap(v -> Result.ok(v / 2))
+                .flatMap(v -> Result.ok(v + 5));
+    }
+
+    @Benchmark
+    public Result<Integer> recoverSuccess() {
+        return success
+                .recover(e -> Result.ok(0));
+    }
+
+    @Benchmark
+    public Result<Integer> recoverError() {
+        return error
+                .map(v -> v + 1)
+                .recover(e -> Result.ok(0))
+                .map(v -> v + 1);
+    }
+
+}
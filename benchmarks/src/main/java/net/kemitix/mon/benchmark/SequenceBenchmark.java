@@ -0,0 +1,95 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.benchmark;
+
+import net.kemitix.mon.result.Result;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmarks for converting a list of Results into a Result of a list.
+ *
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SequenceBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private List<Result<Integer>> results;
+
+    /**
+     * Prepare the Results.
+     */
+    @Setup
+    public void setUp() {
+        results = IntStream.range(0, size)
+                .mapToObj(Result::ok)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * The approach available before sequence: fold, copying the list at each step.
+     *
+     * @return the Result of the list
+     */
+    @Benchmark
+    public Result<List<Integer>> flatApplyOver() {
+        return Result.flatApplyOver(results.stream(),
+                r -> r.map(List::of),
+                List.of(),
+                (next, acc) -> {
+                    final List<Integer> list = new ArrayList<>(acc);
+                    list.addAll(next);
+                    return list;
+                });
+    }
+
+    @Benchmark
+    public Result<List<Integer>> sequence() {
+        return Result.sequence(results);
+    }
+
+    @Benchmark
+    public Result<List<Integer>> sequenceCollector() {
+        return results.stream()
+                .collect(Result.sequenceCollector());
+    }
+
+    @Benchmark
+    public Result<List<Integer>> sequenceCollectorParallel() {
+        return results.parallelStream()
+                .collect(Result.sequenceCollector());
+    }
+
+}
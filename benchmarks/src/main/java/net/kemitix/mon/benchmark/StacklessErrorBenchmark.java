@@ -0,0 +1,94 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.benchmark;
+
+import net.kemitix.mon.TypeReference;
+import net.kemitix.mon.result.Result;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for throwing from an error {@link Result}, with and without
+ * {@link Result#stacklessErrors(boolean)}.
+ *
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StacklessErrorBenchmark {
+
+    @Param({"false", "true"})
+    private boolean stackless;
+
+    private Result<Integer> error;
+
+    /**
+     * Apply the stackless setting and prepare the error Result.
+     */
+    @Setup
+    public void setUp() {
+        Result.stacklessErrors(stackless);
+        error = Result.error(TypeReference.create(), new IOException("benchmark"));
+    }
+
+    /**
+     * Restore the default setting.
+     */
+    @TearDown
+    public void tearDown() {
+        Result.stacklessErrors(false);
+    }
+
+    @Benchmark
+    public Object orElseThrow() {
+        try {
+            return error.orElseThrow();
+        } catch (Exception e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object orElseThrowType() {
+        try {
+            return error.orElseThrow(IllegalStateException.class);
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object orElseThrowUnchecked() {
+        try {
+            return error.orElseThrowUnchecked();
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+}
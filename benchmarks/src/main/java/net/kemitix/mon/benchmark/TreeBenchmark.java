@@ -0,0 +1,136 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.benchmark;
+
+import net.kemitix.mon.tree.Tree;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link Tree#map(java.util.function.Function)},
+ * {@link Tree#parallelMap(java.util.function.Function)} and {@link Tree#count()},
+ * for both the default and the {@link Tree#compact(Tree) compact} trees, and
+ * building a tree from paths.
+ *
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TreeBenchmark {
+
+    @Param({"4"})
+    private int width;
+
+    @Param({"6"})
+    private int depth;
+
+    private Tree<Integer> tree;
+    private Tree<Integer> compact;
+    private List<List<Integer>> paths;
+
+    /**
+     * Build a complete tree of the configured width and depth.
+     */
+    @Setup
+    public void setUp() {
+        tree = build(depth);
+        compact = Tree.compact(tree);
+        paths = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            paths.add(Arrays.asList(i % 16, i % 256, i));
+        }
+    }
+
+    private Tree<Integer> build(final int level) {
+        if (level == 0) {
+            return Tree.leaf(level);
+        }
+        final List<Tree<Integer>> children = new ArrayList<>(width);
+        for (int i = 0; i < width; i++) {
+            children.add(build(level - 1));
+        }
+        return Tree.of(level, Collections.unmodifiableList(children));
+    }
+
+    @Benchmark
+    public Tree<String> map() {
+        return tree.map(String::valueOf);
+    }
+
+    @Benchmark
+    public Tree<String> parallelMap() {
+        return tree.parallelMap(String::valueOf);
+    }
+
+    @Benchmark
+    public Tree<String> mapExpensive() {
+        return tree.map(TreeBenchmark::expensive);
+    }
+
+    @Benchmark
+    public Tree<String> parallelMapExpensive() {
+        return tree.parallelMap(TreeBenchmark::expensive);
+    }
+
+    private static String expensive(final Integer value) {
+        Blackhole.consumeCPU(1_000);
+        return String.valueOf(value);
+    }
+
+    @Benchmark
+    public int count() {
+        return tree.count();
+    }
+
+    @Benchmark
+    public Tree<String> compactMap() {
+        return compact.map(String::valueOf);
+    }
+
+    @Benchmark
+    public int compactCount() {
+        return compact.count();
+    }
+
+    @Benchmark
+    public Tree<Integer> compactCopy() {
+        return Tree.compact(tree);
+    }
+
+    @Benchmark
+    public Tree<Integer> buildFromPaths() {
+        return Tree.builder(Integer.class)
+                .addPaths(paths)
+                .build();
+    }
+
+}
@@ -0,0 +1,96 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.benchmark;
+
+import net.kemitix.mon.TypeReference;
+import net.kemitix.mon.result.Result;
+import net.kemitix.mon.result.Validation;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for accumulating errors with {@link Validation}, compared with
+ * collecting {@link Result}s into a list.
+ *
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    private static final RuntimeException ERROR = new RuntimeException("benchmark");
+
+    @Param({"0", "4"})
+    private int failures;
+
+    private int checks;
+
+    /**
+     * Set the number of checks performed.
+     */
+    @Setup
+    public void setUp() {
+        checks = 8;
+    }
+
+    private Validation<String> check(final int i) {
+        if (i < failures) {
+            return Validation.invalid(ERROR);
+        }
+        return Validation.valid("ok");
+    }
+
+    private Result<String> checkResult(final int i) {
+        if (i < failures) {
+            return Result.error(TypeReference.create(), ERROR);
+        }
+        return Result.ok("ok");
+    }
+
+    @Benchmark
+    public Validation<String> validation() {
+        Validation<String> validation = Validation.valid("value");
+        for (int i = 0; i < checks; i++) {
+            validation = validation.and(check(i));
+        }
+        return validation;
+    }
+
+    @Benchmark
+    public List<Throwable> resultList() {
+        final List<Result<String>> results = new ArrayList<>();
+        for (int i = 0; i < checks; i++) {
+            results.add(checkResult(i));
+        }
+        final List<Throwable> errors = new ArrayList<>();
+        results.forEach(result -> result.onError(errors::add));
+        return errors;
+    }
+
+}
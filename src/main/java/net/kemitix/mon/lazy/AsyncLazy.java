@@ -0,0 +1,93 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.lazy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Lazy evaluation of an 'expensive' expression on an {@link Executor}.
+ *
+ * <p>The first call to {@link #future()} starts the supplier on the executor.
+ * Later calls share the same computation, without blocking. If the supplier
+ * fails, then the failure is reported to the callers waiting for it, but is
+ * not kept, and the next call to {@link #future()} starts the supplier
+ * again.</p>
+ *
+ * <pre><code>
+ * AsyncLazy&lt;Config&gt; config = AsyncLazy.of(this::loadConfig, executor);
+ * config.future()
+ *       .thenAccept(this::configure);
+ * </code></pre>
+ *
+ * @param <T> the type of the value
+ *
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ */
+public interface AsyncLazy<T> {
+
+    /**
+     * Create a new AsyncLazy value from the supplier.
+     *
+     * @param supplier the source of the value
+     * @param executor the executor to run the supplier on
+     * @param <R>      the type of the value
+     * @return an AsyncLazy wrapper of the Supplier
+     */
+    static <R> AsyncLazy<R> of(final Supplier<R> supplier, final Executor executor) {
+        return new AsyncLazySupplier<>(() -> CompletableFuture.supplyAsync(supplier, executor));
+    }
+
+    /**
+     * Checks if the value has been evaluated successfully.
+     *
+     * @return true if the value is available
+     */
+    boolean isEvaluated();
+
+    /**
+     * The value, when it is available, starting the evaluation if it has not
+     * been started.
+     *
+     * <p>Each call returns a new {@link CompletableFuture}, so completing one
+     * does not affect the value seen by other callers.</p>
+     *
+     * @return a future of the value
+     */
+    CompletableFuture<T> future();
+
+    /**
+     * Create a new AsyncLazy that applies the function to the value once it
+     * is available.
+     *
+     * <p>Nothing is started until the {@link #future()} of the new AsyncLazy
+     * is requested.</p>
+     *
+     * @param f   the function to apply
+     * @param <R> the type of the new value
+     * @return a new AsyncLazy
+     */
+    <R> AsyncLazy<R> map(Function<T, R> f);
+
+}
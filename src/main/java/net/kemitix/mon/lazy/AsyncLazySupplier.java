@@ -0,0 +1,102 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.lazy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Implementation of AsyncLazy using a Supplier of a CompletableFuture.
+ *
+ * <p>The shared future is held in a single volatile field and claimed with a
+ * CAS, so only one caller starts the computation and no caller blocks. A
+ * failed future is cleared before it is completed, so that a caller reacting
+ * to the failure can start a fresh attempt.</p>
+ *
+ * @param <T> the type of the value
+ *
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ */
+class AsyncLazySupplier<T> implements AsyncLazy<T> {
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<AsyncLazySupplier, CompletableFuture> FUTURE =
+            AtomicReferenceFieldUpdater.newUpdater(AsyncLazySupplier.class, CompletableFuture.class, "shared");
+
+    private final Supplier<CompletableFuture<T>> starter;
+    private volatile CompletableFuture<T> shared;
+
+    /**
+     * Creates a new AsyncLazy wrapper for the starter.
+     *
+     * @param starter starts the computation of the value
+     */
+    AsyncLazySupplier(final Supplier<CompletableFuture<T>> starter) {
+        this.starter = starter;
+    }
+
+    @Override
+    public boolean isEvaluated() {
+        final CompletableFuture<T> current = shared;
+        return current != null && current.isDone() && !current.isCompletedExceptionally();
+    }
+
+    @Override
+    public CompletableFuture<T> future() {
+        CompletableFuture<T> current = shared;
+        while (current == null) {
+            final CompletableFuture<T> promise = new CompletableFuture<>();
+            if (FUTURE.compareAndSet(this, null, promise)) {
+                start(promise);
+                return promise.copy();
+            }
+            current = shared;
+        }
+        return current.copy();
+    }
+
+    @SuppressWarnings({"illegalcatch", "PMD.AvoidCatchingThrowable"})
+    private void start(final CompletableFuture<T> promise) {
+        CompletableFuture<T> started;
+        try {
+            started = starter.get();
+        } catch (Throwable e) {
+            started = CompletableFuture.failedFuture(e);
+        }
+        started.whenComplete((value, error) -> {
+            if (error == null) {
+                promise.complete(value);
+            } else {
+                FUTURE.compareAndSet(this, promise, null);
+                promise.completeExceptionally(error);
+            }
+        });
+    }
+
+    @Override
+    public <R> AsyncLazy<R> map(final Function<T, R> f) {
+        return new AsyncLazySupplier<>(() -> future().thenApply(f));
+    }
+
+}
@@ -0,0 +1,100 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.lazy;
+
+import java.util.function.Function;
+
+/**
+ * A Lazy that applies functions to the value of a Lazy that may change, such
+ * as an {@link ExpiringLazy}.
+ *
+ * <p>Nothing is memoized, the functions are applied on each call to
+ * {@link #value()}, so the value follows the upstream Lazy.</p>
+ *
+ * <p>Mapping a DerivedLazy links the function onto its functions and keeps
+ * the same upstream, so a chain of maps holds one upstream Lazy and a list of
+ * functions. The functions are applied in a loop, so evaluating a long chain
+ * does not use a deep stack.</p>
+ *
+ * @param <T> the type of the value
+ *
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ */
+class DerivedLazy<T> implements Lazy<T> {
+
+    private final Lazy<?> upstream;
+    private final DerivedLazy<?> previous;
+    private final Function<?, ?> function;
+    private final int length;
+
+    private DerivedLazy(
+            final Lazy<?> upstream,
+            final DerivedLazy<?> previous,
+            final Function<?, ?> function,
+            final int length
+    ) {
+        this.upstream = upstream;
+        this.previous = previous;
+        this.function = function;
+        this.length = length;
+    }
+
+    /**
+     * Creates a new Lazy derived from the upstream Lazy.
+     *
+     * @param upstream the upstream Lazy
+     * @param function the function to apply to the upstream value
+     * @param <S>      the type of the upstream value
+     * @param <T>      the type of the value
+     * @return the derived Lazy
+     */
+    static <S, T> DerivedLazy<T> of(final Lazy<S> upstream, final Function<S, T> function) {
+        return new DerivedLazy<>(upstream, null, function, 1);
+    }
+
+    @Override
+    public boolean isEvaluated() {
+        return upstream.isEvaluated();
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public T value() {
+        final Function[] functions = new Function[length];
+        DerivedLazy<?> step = this;
+        for (int i = length - 1; i >= 0; i--) {
+            functions[i] = step.function;
+            step = step.previous;
+        }
+        Object current = upstream.value();
+        for (final Function f : functions) {
+            current = f.apply(current);
+        }
+        return (T) current;
+    }
+
+    @Override
+    public <R> Lazy<R> map(final Function<T, R> f) {
+        return new DerivedLazy<>(upstream, this, f, length + 1);
+    }
+
+}
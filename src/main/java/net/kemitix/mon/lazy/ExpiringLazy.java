@@ -0,0 +1,143 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.lazy;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * A {@link Lazy} whose value expires after a time-to-live, or when
+ * invalidated, and is then evaluated again.
+ *
+ * <pre><code>
+ * ExpiringLazy&lt;Token&gt; token = ExpiringLazy.of(this::fetchToken, Duration.ofMinutes(5));
+ * Token current = token.value();
+ * </code></pre>
+ *
+ * <p>A refreshing {@code ExpiringLazy} keeps serving the expired value while
+ * a new one is evaluated in the background. It only blocks when there is no
+ * value at all.</p>
+ *
+ * <p>Time is read from a ticker, in nanoseconds, which defaults to
+ * {@link System#nanoTime()} and can be replaced for tests.</p>
+ *
+ * @param <T> the type of the value
+ *
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ */
+public interface ExpiringLazy<T> extends Lazy<T> {
+
+    /**
+     * Create a new ExpiringLazy value from the supplier.
+     *
+     * @param supplier the source of the value
+     * @param ttl      how long a value is used before it is evaluated again
+     * @param <R>      the type of the value
+     * @return an ExpiringLazy wrapper of the Supplier
+     */
+    static <R> ExpiringLazy<R> of(final Supplier<R> supplier, final Duration ttl) {
+        return of(supplier, ttl, System::nanoTime);
+    }
+
+    /**
+     * Create a new ExpiringLazy value from the supplier, using the ticker to
+     * measure time.
+     *
+     * @param supplier the source of the value
+     * @param ttl      how long a value is used before it is evaluated again
+     * @param ticker   the source of the time in nanoseconds
+     * @param <R>      the type of the value
+     * @return an ExpiringLazy wrapper of the Supplier
+     */
+    static <R> ExpiringLazy<R> of(final Supplier<R> supplier, final Duration ttl, final LongSupplier ticker) {
+        return new ExpiringLazySupplier<>(supplier, ttl.toNanos(), null, ticker);
+    }
+
+    /**
+     * Create a new ExpiringLazy value from the supplier that, once expired,
+     * is evaluated again on the executor while the expired value continues to
+     * be used.
+     *
+     * @param supplier the source of the value
+     * @param ttl      how long a value is used before it is refreshed
+     * @param executor the executor to refresh the value on
+     * @param <R>      the type of the value
+     * @return an ExpiringLazy wrapper of the Supplier
+     */
+    static <R> ExpiringLazy<R> refreshing(final Supplier<R> supplier, final Duration ttl, final Executor executor) {
+        return refreshing(supplier, ttl, executor, System::nanoTime);
+    }
+
+    /**
+     * Create a new ExpiringLazy value from the supplier that, once expired,
+     * is evaluated again on the executor while the expired value continues to
+     * be used, using the ticker to measure time.
+     *
+     * @param supplier the source of the value
+     * @param ttl      how long a value is used before it is refreshed
+     * @param executor the executor to refresh the value on
+     * @param ticker   the source of the time in nanoseconds
+     * @param <R>      the type of the value
+     * @return an ExpiringLazy wrapper of the Supplier
+     */
+    static <R> ExpiringLazy<R> refreshing(
+            final Supplier<R> supplier,
+            final Duration ttl,
+            final Executor executor,
+            final LongSupplier ticker
+    ) {
+        return new ExpiringLazySupplier<>(supplier, ttl.toNanos(), executor, ticker);
+    }
+
+    /**
+     * Checks if there is a value that has not expired.
+     *
+     * @return true if there is an unexpired value
+     */
+    @Override
+    boolean isEvaluated();
+
+    /**
+     * The value, evaluating it if there is none or it has expired.
+     *
+     * <p>A refreshing ExpiringLazy returns the expired value and evaluates a
+     * new one in the background. If that background evaluation throws, the
+     * expired value is discarded and the next call evaluates on the calling
+     * thread, throwing any exception to the caller.</p>
+     *
+     * @return the value
+     */
+    @Override
+    T value();
+
+    /**
+     * Discards the value, so that it is evaluated again on next use.
+     *
+     * <p>An evaluation or background refresh that is in progress will not
+     * replace the value, although an evaluation still returns its value to
+     * the caller that started it.</p>
+     */
+    void invalidate();
+
+}
@@ -0,0 +1,192 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.lazy;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Implementation of ExpiringLazy using a Supplier.
+ *
+ * <p>The value and its expiry time are held together in an immutable entry,
+ * in a single volatile field, so reading an unexpired value needs no lock.
+ * Evaluation without a value is guarded by the monitor of this object. Both
+ * an evaluation and a background refresh only replace the entry they started
+ * from, and each invalidation installs a new empty entry, so an invalidation
+ * while the supplier is running wins. A background refresh is claimed with a
+ * CAS.</p>
+ *
+ * <p>If the supplier throws during a background refresh, the expired entry is
+ * dropped, so that the next call to {@link #value()} evaluates on the calling
+ * thread, where the exception is thrown to the caller.</p>
+ *
+ * @param <T> the type of the value
+ *
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ */
+class ExpiringLazySupplier<T> implements ExpiringLazy<T> {
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<ExpiringLazySupplier, Entry> ENTRY =
+            AtomicReferenceFieldUpdater.newUpdater(ExpiringLazySupplier.class, Entry.class, "entry");
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<ExpiringLazySupplier> REFRESHING =
+            AtomicIntegerFieldUpdater.newUpdater(ExpiringLazySupplier.class, "refreshing");
+
+    private final Supplier<T> supplier;
+    private final long ttl;
+    private final Executor executor;
+    private final LongSupplier ticker;
+    private volatile Entry<T> entry;
+    private volatile int refreshing;
+
+    /**
+     * Creates a new ExpiringLazy wrapper for the Supplier.
+     *
+     * @param supplier the source of the value
+     * @param ttl      the time-to-live in nanoseconds
+     * @param executor the executor for background refreshes, or null to
+     *                 evaluate on the calling thread
+     * @param ticker   the source of the time in nanoseconds
+     */
+    ExpiringLazySupplier(
+            final Supplier<T> supplier,
+            final long ttl,
+            final Executor executor,
+            final LongSupplier ticker
+    ) {
+        this.supplier = supplier;
+        this.ttl = ttl;
+        this.executor = executor;
+        this.ticker = ticker;
+        this.entry = Entry.empty();
+    }
+
+    @Override
+    public boolean isEvaluated() {
+        final Entry<T> current = entry;
+        return current.present && current.isFresh(ticker.getAsLong());
+    }
+
+    @Override
+    public T value() {
+        final Entry<T> current = entry;
+        if (current.present) {
+            if (current.isFresh(ticker.getAsLong())) {
+                return current.value;
+            }
+            if (executor != null) {
+                refresh(current);
+                return current.value;
+            }
+        }
+        return evaluate();
+    }
+
+    private T evaluate() {
+        synchronized (this) {
+            final Entry<T> current = entry;
+            if (current.present && (executor != null || current.isFresh(ticker.getAsLong()))) {
+                return current.value;
+            }
+            final T value = supplier.get();
+            ENTRY.compareAndSet(this, current, new Entry<>(value, ticker.getAsLong() + ttl));
+            return value;
+        }
+    }
+
+    private void refresh(final Entry<T> stale) {
+        if (!REFRESHING.compareAndSet(this, 0, 1)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    final T value = supplier.get();
+                    ENTRY.compareAndSet(this, stale, new Entry<>(value, ticker.getAsLong() + ttl));
+                } catch (RuntimeException e) {
+                    ENTRY.compareAndSet(this, stale, Entry.empty());
+                } finally {
+                    refreshing = 0;
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing = 0;
+        }
+    }
+
+    @Override
+    public void invalidate() {
+        entry = Entry.empty();
+    }
+
+    @Override
+    public <R> Lazy<R> map(final Function<T, R> f) {
+        return DerivedLazy.of(this, f);
+    }
+
+    /**
+     * A value and the time it expires.
+     *
+     * @param <T> the type of the value
+     */
+    private static final class Entry<T> {
+
+        private final T value;
+        private final long expiresAt;
+        private final boolean present;
+
+        Entry(final T value, final long expiresAt) {
+            this(value, expiresAt, true);
+        }
+
+        private Entry(final T value, final long expiresAt, final boolean present) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+            this.present = present;
+        }
+
+        /**
+         * A new entry without a value.
+         *
+         * <p>Each call returns a distinct entry, so it can be told apart from
+         * earlier empty entries by identity.</p>
+         *
+         * @param <T> the type of the value
+         * @return an empty entry
+         */
+        static <T> Entry<T> empty() {
+            return new Entry<>(null, 0, false);
+        }
+
+        boolean isFresh(final long now) {
+            return now - expiresAt < 0;
+        }
+    }
+
+}
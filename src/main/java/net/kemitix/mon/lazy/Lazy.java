@@ -46,6 +46,28 @@ public interface Lazy<T> extends Functor<T, Lazy<?>> {
         return new LazySupplier<>(supplier);
     }
 
+    /**
+     * Create a new Lazy value from the supplier, guarding its evaluation as
+     * the mode requires.
+     *
+     * <p>Values created by {@link #map(Function)} use the same mode.</p>
+     *
+     * @param supplier the source of the value
+     * @param mode the guard against concurrent evaluation
+     * @param <R> the type of the value
+     * @return a Lazy wrapper of the Supplier
+     */
+    static <R> Lazy<R> of(final Supplier<R> supplier, final LazyMode mode) {
+        switch (mode) {
+            case PUBLICATION:
+                return new PublicationLazy<>(supplier);
+            case THREAD_CONFINED:
+                return new ThreadConfinedLazy<>(supplier);
+            default:
+                return new LazySupplier<>(supplier);
+        }
+    }
+
     /**
      * Checks if the value has been evaluated.
      *
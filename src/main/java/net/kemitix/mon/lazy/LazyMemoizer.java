@@ -0,0 +1,108 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.lazy;
+
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Implementation of Memoizer holding a Lazy for each key.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ *
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ */
+class LazyMemoizer<K, V> implements Memoizer<K, V> {
+
+    private final Function<K, V> function;
+    private final Map<K, Lazy<V>> cache;
+    private final LruMap<K, Lazy<V>> lru;
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates a new Memoizer.
+     *
+     * @param function the function to memoize
+     * @param cache    the thread-safe map to hold the cached values
+     * @param lru      the map wrapped by the cache, if it evicts, otherwise null
+     */
+    LazyMemoizer(final Function<K, V> function, final Map<K, Lazy<V>> cache, final LruMap<K, Lazy<V>> lru) {
+        this.function = function;
+        this.cache = cache;
+        this.lru = lru;
+    }
+
+    @Override
+    @SuppressWarnings({"illegalcatch", "PMD.AvoidCatchingGenericException"})
+    public V apply(final K key) {
+        requests.increment();
+        Lazy<V> lazy = cache.get(key);
+        if (lazy == null) {
+            lazy = cache.computeIfAbsent(key, this::compute);
+        }
+        try {
+            return lazy.value();
+        } catch (RuntimeException | Error e) {
+            cache.remove(key, lazy);
+            throw e;
+        }
+    }
+
+    private Lazy<V> compute(final K key) {
+        return Lazy.of(() -> {
+            misses.increment();
+            return function.apply(key);
+        });
+    }
+
+    @Override
+    public void invalidate(final K key) {
+        cache.remove(key);
+    }
+
+    @Override
+    public void invalidateAll() {
+        cache.clear();
+    }
+
+    @Override
+    public int size() {
+        return cache.size();
+    }
+
+    @Override
+    public MemoizerStats stats() {
+        final long missCount = misses.sum();
+        final long hitCount = Math.max(0, requests.sum() - missCount);
+        long evictions = 0;
+        if (lru != null) {
+            synchronized (cache) {
+                evictions = lru.evictions();
+            }
+        }
+        return new MemoizerStats(hitCount, missCount, evictions);
+    }
+
+}
@@ -0,0 +1,58 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.lazy;
+
+/**
+ * How a {@link Lazy} guards the evaluation of its value against concurrent
+ * access.
+ *
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ */
+public enum LazyMode {
+
+    /**
+     * Only one thread evaluates the value. Other threads wait for it.
+     *
+     * <p>The supplier is called at most once. This is the mode used by
+     * {@link Lazy#of(java.util.function.Supplier)}.</p>
+     */
+    SYNCHRONIZED,
+
+    /**
+     * Threads that find the value unevaluated may each call the supplier,
+     * without locking, but only the first value to be published is used.
+     *
+     * <p>For cheap, idempotent suppliers, where an occasional repeated call
+     * costs less than locking.</p>
+     */
+    PUBLICATION,
+
+    /**
+     * No synchronization at all.
+     *
+     * <p>Only for a Lazy that is created and used on a single thread. Access
+     * from more than one thread may call the supplier more than once and may
+     * see a partly constructed value.</p>
+     */
+    THREAD_CONFINED
+
+}
@@ -21,24 +21,31 @@
 
 package net.kemitix.mon.lazy;
 
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
  * Implementation of Lazy using a Supplier.
  *
+ * <p>The only state is the supplier, held in a volatile field until the value
+ * has been evaluated, and the value. Once evaluated, the supplier is dropped
+ * and reads of the value need only a single volatile read. The first
+ * evaluation is guarded by the monitor of this object, so the supplier is
+ * called at most once.</p>
+ *
+ * <p>Each {@link #map(Function)} creates a new Lazy, with its own memoised
+ * value, whose {@link MappedSupplier} refers to this Lazy until it is
+ * evaluated. Map chains are not fused into a single function, but are
+ * evaluated without recursion, so long chains do not use a deep stack.</p>
+ *
  * @param <T> the type of the value
  *
  * @author Paul Campbell (pcampbell@kemitix.net)
  */
 class LazySupplier<T> implements Lazy<T> {
 
-    private transient final Supplier<T> supplier;
-    private final AtomicBoolean evaluated = new AtomicBoolean(false);
-    private transient final AtomicReference<T> value = new AtomicReference<>();
-    private transient final Object lock = new Object();
+    private volatile Supplier<T> supplier;
+    private T value;
 
     /**
      * Creates a new Lazy wrapper for the Supplier.
@@ -51,26 +58,31 @@ class LazySupplier<T> implements Lazy<T> {
 
     @Override
     public boolean isEvaluated() {
-        return evaluated.get();
+        return supplier == null;
     }
 
     @Override
     public T value() {
-        if (evaluated.get()) {
-            return value.get();
+        if (supplier == null) {
+            return value;
         }
-        synchronized (lock) {
-            if (!evaluated.get()) {
-                value.set(supplier.get());
-                evaluated.set(true);
+        return evaluate();
+    }
+
+    private T evaluate() {
+        synchronized (this) {
+            final Supplier<T> source = supplier;
+            if (source != null) {
+                value = source.get();
+                supplier = null;
             }
+            return value;
         }
-        return value.get();
     }
 
     @Override
     public <R> Lazy<R> map(final Function<T, R> f) {
-        return new LazySupplier<R>(() -> f.apply(value()));
+        return new LazySupplier<>(MappedSupplier.of(this, supplier, f));
     }
 
 }
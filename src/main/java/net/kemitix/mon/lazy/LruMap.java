@@ -0,0 +1,80 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.lazy;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A map in access order that evicts its least recently used entry when it
+ * grows beyond its maximum size.
+ *
+ * <p>Not thread-safe. Wrap with
+ * {@link java.util.Collections#synchronizedMap(Map)}.</p>
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ *
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ */
+class LruMap<K, V> extends LinkedHashMap<K, V> {
+
+    private static final long serialVersionUID = 8212539648271945330L;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final int maximumSize;
+    private long evictions;
+
+    /**
+     * Creates a new empty map.
+     *
+     * @param maximumSize the maximum number of entries
+     */
+    LruMap(final int maximumSize) {
+        super(INITIAL_CAPACITY, LOAD_FACTOR, true);
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be at least 1: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+        if (size() > maximumSize) {
+            evictions++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * The number of entries evicted.
+     *
+     * <p>Read while holding the same lock used to update the map.</p>
+     *
+     * @return the number of evictions
+     */
+    long evictions() {
+        return evictions;
+    }
+}
@@ -0,0 +1,108 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.lazy;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * The supplier of a mapped Lazy: the Lazy being mapped and the function
+ * applied to its value.
+ *
+ * <p>Mapping a Lazy that is itself an unevaluated mapped Lazy links to that
+ * Lazy's supplier, so a chain of maps can be walked back to its first
+ * unevaluated Lazy without recursion. Each Lazy in the chain is then
+ * evaluated in turn, starting from the earliest, so that each only has to
+ * apply its own function to a value that is already memoised. Evaluating a
+ * long chain does not use a deep stack, and each function is applied at most
+ * once, even when intermediate Lazies in the chain are evaluated too.</p>
+ *
+ * <p>Until it is evaluated, a mapped Lazy keeps every unevaluated Lazy
+ * before it in the chain. Once evaluated, it drops this supplier, and with it
+ * those references.</p>
+ *
+ * @param <T> the type of the value
+ *
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ */
+final class MappedSupplier<T> implements Supplier<T> {
+
+    private final Lazy<?> source;
+    private final MappedSupplier<?> previous;
+    private final Function<?, ?> function;
+    private final int length;
+
+    private MappedSupplier(
+            final Lazy<?> source,
+            final MappedSupplier<?> previous,
+            final Function<?, ?> function,
+            final int length
+    ) {
+        this.source = source;
+        this.previous = previous;
+        this.function = function;
+        this.length = length;
+    }
+
+    /**
+     * The supplier for a Lazy that applies the function to the value of the
+     * Lazy.
+     *
+     * @param lazy     the Lazy being mapped
+     * @param supplier the current supplier of the Lazy, null if evaluated
+     * @param f        the function to apply
+     * @param <T>      the type of the value of the Lazy
+     * @param <R>      the type of the mapped value
+     * @return the supplier of the mapped value
+     */
+    static <T, R> Supplier<R> of(final Lazy<T> lazy, final Supplier<T> supplier, final Function<T, R> f) {
+        if (supplier instanceof MappedSupplier) {
+            final MappedSupplier<?> mapped = (MappedSupplier<?>) supplier;
+            return new MappedSupplier<>(lazy, mapped, f, mapped.length + 1);
+        }
+        return new MappedSupplier<>(lazy, null, f, 1);
+    }
+
+    /**
+     * Evaluates any unevaluated Lazies earlier in the chain, from the earliest
+     * onwards, then applies the function to the value of the Lazy being
+     * mapped.
+     *
+     * @return the mapped value
+     */
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public T get() {
+        final Lazy[] pending = new Lazy[length];
+        int count = 0;
+        MappedSupplier<?> step = this;
+        while (step.previous != null && !step.source.isEvaluated()) {
+            pending[count++] = step.source;
+            step = step.previous;
+        }
+        for (int i = count - 1; i >= 0; i--) {
+            pending[i].value();
+        }
+        return ((Function<Object, T>) function).apply(source.value());
+    }
+
+}
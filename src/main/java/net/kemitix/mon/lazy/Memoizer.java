@@ -0,0 +1,131 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.lazy;
+
+import java.util.Collections;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A {@link Function} that caches its results, computing the value for each
+ * key at most once.
+ *
+ * <pre><code>
+ * Memoizer&lt;String, Report&gt; reports = Memoizer.lru(this::buildReport, 1_000);
+ * Report report = reports.apply("monthly");
+ * </code></pre>
+ *
+ * <p>Each key is held with a {@link Lazy} of its value, so concurrent callers
+ * for the same key wait for a single computation, while callers for other
+ * keys are not blocked by it. If the function throws, then nothing is cached
+ * for that key.</p>
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ *
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ */
+public interface Memoizer<K, V> extends Function<K, V> {
+
+    /**
+     * Create a memoizer that keeps every value.
+     *
+     * <p>Keys must not be null.</p>
+     *
+     * @param function the function to memoize
+     * @param <K>      the type of the keys
+     * @param <V>      the type of the values
+     * @return the memoized function
+     */
+    static <K, V> Memoizer<K, V> of(final Function<K, V> function) {
+        return new LazyMemoizer<>(function, new ConcurrentHashMap<>(), null);
+    }
+
+    /**
+     * Create a memoizer that keeps up to the maximum number of values,
+     * evicting the least recently used.
+     *
+     * @param function    the function to memoize
+     * @param maximumSize the maximum number of values to keep
+     * @param <K>         the type of the keys
+     * @param <V>         the type of the values
+     * @return the memoized function
+     */
+    static <K, V> Memoizer<K, V> lru(final Function<K, V> function, final int maximumSize) {
+        final LruMap<K, Lazy<V>> map = new LruMap<>(maximumSize);
+        return new LazyMemoizer<>(function, Collections.synchronizedMap(map), map);
+    }
+
+    /**
+     * Create a memoizer that holds its keys weakly, so that a value is
+     * discarded once its key is no longer used elsewhere.
+     *
+     * <p>As with {@link WeakHashMap}, keys are compared with
+     * {@link Object#equals(Object)}, and a value that refers to its own key
+     * will keep that key from being collected.</p>
+     *
+     * @param function the function to memoize
+     * @param <K>      the type of the keys
+     * @param <V>      the type of the values
+     * @return the memoized function
+     */
+    static <K, V> Memoizer<K, V> weakKeys(final Function<K, V> function) {
+        return new LazyMemoizer<>(function, Collections.synchronizedMap(new WeakHashMap<>()), null);
+    }
+
+    /**
+     * The value for the key, computing it if it is not cached.
+     *
+     * @param key the key
+     * @return the value
+     */
+    @Override
+    V apply(K key);
+
+    /**
+     * Discard the cached value for the key, if any.
+     *
+     * @param key the key
+     */
+    void invalidate(K key);
+
+    /**
+     * Discard all cached values.
+     */
+    void invalidateAll();
+
+    /**
+     * The number of cached keys.
+     *
+     * @return the number of keys
+     */
+    int size();
+
+    /**
+     * A snapshot of the hit, miss and eviction counts.
+     *
+     * @return the statistics
+     */
+    MemoizerStats stats();
+
+}
@@ -0,0 +1,94 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.lazy;
+
+/**
+ * Statistics for a {@link Memoizer}.
+ *
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ */
+public final class MemoizerStats {
+
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+
+    /**
+     * Creates a new snapshot of the statistics.
+     *
+     * @param hitCount      the number of calls that used a cached value
+     * @param missCount     the number of calls that computed a value
+     * @param evictionCount the number of values evicted to stay within the
+     *                      maximum size
+     */
+    MemoizerStats(final long hitCount, final long missCount, final long evictionCount) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+    }
+
+    /**
+     * The number of calls that used a cached value.
+     *
+     * @return the number of hits
+     */
+    public long hitCount() {
+        return hitCount;
+    }
+
+    /**
+     * The number of calls that computed a value.
+     *
+     * @return the number of misses
+     */
+    public long missCount() {
+        return missCount;
+    }
+
+    /**
+     * The number of values evicted to stay within the maximum size.
+     *
+     * @return the number of evictions
+     */
+    public long evictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * The proportion of calls that used a cached value.
+     *
+     * @return the hit rate, from 0 to 1, or 1 if there have been no calls
+     */
+    public double hitRate() {
+        final long requests = hitCount + missCount;
+        if (requests == 0) {
+            return 1.0;
+        }
+        return (double) hitCount / requests;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("MemoizerStats{hitCount=%d, missCount=%d, evictionCount=%d}",
+                hitCount, missCount, evictionCount);
+    }
+}
@@ -0,0 +1,85 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.lazy;
+
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Implementation of Lazy that publishes the first value to be evaluated,
+ * without locking.
+ *
+ * @param <T> the type of the value
+ *
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ * @see LazyMode#PUBLICATION
+ */
+class PublicationLazy<T> implements Lazy<T> {
+
+    private static final Object UNSET = new Object();
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<PublicationLazy, Object> VALUE =
+            AtomicReferenceFieldUpdater.newUpdater(PublicationLazy.class, Object.class, "value");
+
+    private volatile Supplier<T> supplier;
+    private volatile Object value = UNSET;
+
+    /**
+     * Creates a new Lazy wrapper for the Supplier.
+     *
+     * @param supplier the source of the value
+     */
+    PublicationLazy(final Supplier<T> supplier) {
+        this.supplier = supplier;
+    }
+
+    @Override
+    public boolean isEvaluated() {
+        return value != UNSET;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T value() {
+        final Object current = value;
+        if (current != UNSET) {
+            return (T) current;
+        }
+        final Supplier<T> source = supplier;
+        if (source != null) {
+            final T evaluated = source.get();
+            if (VALUE.compareAndSet(this, UNSET, evaluated)) {
+                supplier = null;
+                return evaluated;
+            }
+        }
+        return (T) value;
+    }
+
+    @Override
+    public <R> Lazy<R> map(final Function<T, R> f) {
+        return new PublicationLazy<>(MappedSupplier.of(this, supplier, f));
+    }
+
+}
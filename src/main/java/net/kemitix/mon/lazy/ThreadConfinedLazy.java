@@ -0,0 +1,70 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.lazy;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Implementation of Lazy without any synchronization, for use on a single
+ * thread.
+ *
+ * @param <T> the type of the value
+ *
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ * @see LazyMode#THREAD_CONFINED
+ */
+class ThreadConfinedLazy<T> implements Lazy<T> {
+
+    private Supplier<T> supplier;
+    private T value;
+
+    /**
+     * Creates a new Lazy wrapper for the Supplier.
+     *
+     * @param supplier the source of the value
+     */
+    ThreadConfinedLazy(final Supplier<T> supplier) {
+        this.supplier = supplier;
+    }
+
+    @Override
+    public boolean isEvaluated() {
+        return supplier == null;
+    }
+
+    @Override
+    public T value() {
+        final Supplier<T> source = supplier;
+        if (source != null) {
+            value = source.get();
+            supplier = null;
+        }
+        return value;
+    }
+
+    @Override
+    public <R> Lazy<R> map(final Function<T, R> f) {
+        return new ThreadConfinedLazy<>(MappedSupplier.of(this, supplier, f));
+    }
+
+}
@@ -0,0 +1,174 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.maybe;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * Fork/join task to search a range of a list for an item that matches a
+ * predicate.
+ *
+ * <p>Ranges larger than the threshold are split in two and the halves
+ * searched in parallel. The index of the match is shared between all the
+ * tasks.</p>
+ *
+ * <p>When ordered, the earliest match seen so far is kept and any task, or
+ * remaining item, that comes after it is skipped, while those before it
+ * continue in case they hold an earlier match. When unordered, every task
+ * stops as soon as any match is found.</p>
+ *
+ * @param <T> the type of the list items
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ */
+class FindTask<T> extends RecursiveAction {
+
+    private static final long serialVersionUID = 6129183519466389547L;
+
+    /**
+     * The index used when no match has been found.
+     */
+    private static final int NOT_FOUND = Integer.MAX_VALUE;
+
+    /**
+     * The smallest range that will be split between tasks.
+     */
+    private static final int MIN_THRESHOLD = 1024;
+
+    /**
+     * The number of tasks to aim for per worker thread.
+     */
+    private static final int TASKS_PER_THREAD = 4;
+
+    private final transient List<T> items;
+    private final int from;
+    private final int to;
+    private final int threshold;
+    private final transient Predicate<T> predicate;
+    private final boolean ordered;
+    private final AtomicInteger found;
+
+    @SuppressWarnings("checkstyle:parameternumber")
+    private FindTask(
+            final List<T> items,
+            final int from,
+            final int to,
+            final int threshold,
+            final Predicate<T> predicate,
+            final boolean ordered,
+            final AtomicInteger found
+    ) {
+        this.items = items;
+        this.from = from;
+        this.to = to;
+        this.threshold = threshold;
+        this.predicate = predicate;
+        this.ordered = ordered;
+        this.found = found;
+    }
+
+    /**
+     * Searches the items in the common fork/join pool.
+     *
+     * @param items     the items
+     * @param predicate the test for a matching item
+     * @param ordered   true to find the first match in list order, false to
+     *                  accept any match
+     * @param <T>       the type of the items
+     * @return a Maybe of the matching item, or nothing if none match
+     */
+    static <T> Maybe<T> invoke(
+            final List<T> items,
+            final Predicate<T> predicate,
+            final boolean ordered
+    ) {
+        final List<T> randomAccess = items instanceof RandomAccess ? items : new ArrayList<>(items);
+        final ForkJoinPool pool = ForkJoinPool.commonPool();
+        final int threshold = Math.max(MIN_THRESHOLD,
+                randomAccess.size() / (pool.getParallelism() * TASKS_PER_THREAD));
+        final AtomicInteger found = new AtomicInteger(NOT_FOUND);
+        pool.invoke(new FindTask<>(randomAccess, 0, randomAccess.size(), threshold, predicate, ordered, found));
+        final int index = found.get();
+        if (index == NOT_FOUND) {
+            return Maybe.nothing();
+        }
+        return Maybe.maybe(randomAccess.get(index));
+    }
+
+    /**
+     * Searches the range.
+     */
+    @Override
+    protected void compute() {
+        if (isSkipped(from)) {
+            return;
+        }
+        if (to - from <= threshold) {
+            search();
+            return;
+        }
+        final int mid = (from + to) >>> 1;
+        final FindTask<T> right = subTask(mid, to);
+        right.fork();
+        subTask(from, mid).compute();
+        if (isSkipped(mid)) {
+            right.cancel(false);
+        }
+        if (!right.isCancelled()) {
+            right.join();
+        }
+    }
+
+    private FindTask<T> subTask(final int start, final int end) {
+        return new FindTask<>(items, start, end, threshold, predicate, ordered, found);
+    }
+
+    private void search() {
+        for (int i = from; i < to; i++) {
+            if (isSkipped(i)) {
+                return;
+            }
+            if (predicate.test(items.get(i))) {
+                if (ordered) {
+                    found.accumulateAndGet(i, Math::min);
+                } else {
+                    found.compareAndSet(NOT_FOUND, i);
+                }
+                return;
+            }
+        }
+    }
+
+    private boolean isSkipped(final int index) {
+        final int match = found.get();
+        if (ordered) {
+            return match < index;
+        }
+        return match != NOT_FOUND;
+    }
+
+}
@@ -30,6 +30,9 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import java.util.stream.Stream;
 
 /**
@@ -64,6 +67,21 @@ final class Just<T> implements Maybe<T> {
         return new Just<>(f.apply(value));
     }
 
+    @Override
+    public MaybeInt mapToInt(final ToIntFunction<T> f) {
+        return new JustInt(f.applyAsInt(value));
+    }
+
+    @Override
+    public MaybeLong mapToLong(final ToLongFunction<T> f) {
+        return new JustLong(f.applyAsLong(value));
+    }
+
+    @Override
+    public MaybeDouble mapToDouble(final ToDoubleFunction<T> f) {
+        return new JustDouble(f.applyAsDouble(value));
+    }
+
     @Override
     public boolean equals(final Object other) {
         return other instanceof Just && Objects.equals(value, ((Just) other).value);
@@ -0,0 +1,157 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.maybe;
+
+import java.util.OptionalInt;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * A MaybeInt where a value is present.
+ *
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ */
+@SuppressWarnings({"methodcount", "PMD.TooManyMethods"})
+final class JustInt implements MaybeInt {
+
+    private final int value;
+
+    /**
+     * Creates a new JustInt.
+     *
+     * @param value the value
+     */
+    JustInt(final int value) {
+        this.value = value;
+    }
+
+    @Override
+    public boolean isJust() {
+        return true;
+    }
+
+    @Override
+    public boolean isNothing() {
+        return false;
+    }
+
+    @Override
+    public MaybeInt map(final IntUnaryOperator f) {
+        return new JustInt(f.applyAsInt(value));
+    }
+
+    @Override
+    public <R> Maybe<R> mapToObj(final IntFunction<R> f) {
+        return new Just<>(f.apply(value));
+    }
+
+    @Override
+    public MaybeLong mapToLong(final IntToLongFunction f) {
+        return new JustLong(f.applyAsLong(value));
+    }
+
+    @Override
+    public MaybeDouble mapToDouble(final IntToDoubleFunction f) {
+        return new JustDouble(f.applyAsDouble(value));
+    }
+
+    @Override
+    public MaybeInt flatMap(final IntFunction<MaybeInt> f) {
+        return f.apply(value);
+    }
+
+    @Override
+    public MaybeInt filter(final IntPredicate predicate) {
+        if (predicate.test(value)) {
+            return this;
+        }
+        return NothingInt.INSTANCE;
+    }
+
+    @Override
+    public int orElse(final int otherValue) {
+        return value;
+    }
+
+    @Override
+    public int orElseGet(final IntSupplier supplier) {
+        return value;
+    }
+
+    @Override
+    public <X extends Throwable> int orElseThrow(final Supplier<? extends X> e) {
+        return value;
+    }
+
+    @Override
+    public MaybeInt peek(final IntConsumer consumer) {
+        consumer.accept(value);
+        return this;
+    }
+
+    @Override
+    public void ifNothing(final Runnable runnable) {
+        // ignore - not nothing
+    }
+
+    @Override
+    public void match(final IntConsumer justMatcher, final Runnable nothingMatcher) {
+        justMatcher.accept(value);
+    }
+
+    @Override
+    public <R> R matchValue(final IntFunction<R> justMatcher, final Supplier<R> nothingMatcher) {
+        return justMatcher.apply(value);
+    }
+
+    @Override
+    public IntStream stream() {
+        return IntStream.of(value);
+    }
+
+    @Override
+    public OptionalInt toOptional() {
+        return OptionalInt.of(value);
+    }
+
+    @Override
+    public Maybe<Integer> boxed() {
+        return new Just<>(value);
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return other instanceof JustInt && value == ((JustInt) other).value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(value);
+    }
+}
@@ -0,0 +1,157 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.maybe;
+
+import java.util.OptionalLong;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+
+/**
+ * A MaybeLong where a value is present.
+ *
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ */
+@SuppressWarnings({"methodcount", "PMD.TooManyMethods"})
+final class JustLong implements MaybeLong {
+
+    private final long value;
+
+    /**
+     * Creates a new JustLong.
+     *
+     * @param value the value
+     */
+    JustLong(final long value) {
+        this.value = value;
+    }
+
+    @Override
+    public boolean isJust() {
+        return true;
+    }
+
+    @Override
+    public boolean isNothing() {
+        return false;
+    }
+
+    @Override
+    public MaybeLong map(final LongUnaryOperator f) {
+        return new JustLong(f.applyAsLong(value));
+    }
+
+    @Override
+    public <R> Maybe<R> mapToObj(final LongFunction<R> f) {
+        return new Just<>(f.apply(value));
+    }
+
+    @Override
+    public MaybeInt mapToInt(final LongToIntFunction f) {
+        return new JustInt(f.applyAsInt(value));
+    }
+
+    @Override
+    public MaybeDouble mapToDouble(final LongToDoubleFunction f) {
+        return new JustDouble(f.applyAsDouble(value));
+    }
+
+    @Override
+    public MaybeLong flatMap(final LongFunction<MaybeLong> f) {
+        return f.apply(value);
+    }
+
+    @Override
+    public MaybeLong filter(final LongPredicate predicate) {
+        if (predicate.test(value)) {
+            return this;
+        }
+        return NothingLong.INSTANCE;
+    }
+
+    @Override
+    public long orElse(final long otherValue) {
+        return value;
+    }
+
+    @Override
+    public long orElseGet(final LongSupplier supplier) {
+        return value;
+    }
+
+    @Override
+    public <X extends Throwable> long orElseThrow(final Supplier<? extends X> e) {
+        return value;
+    }
+
+    @Override
+    public MaybeLong peek(final LongConsumer consumer) {
+        consumer.accept(value);
+        return this;
+    }
+
+    @Override
+    public void ifNothing(final Runnable runnable) {
+        // ignore - not nothing
+    }
+
+    @Override
+    public void match(final LongConsumer justMatcher, final Runnable nothingMatcher) {
+        justMatcher.accept(value);
+    }
+
+    @Override
+    public <R> R matchValue(final LongFunction<R> justMatcher, final Supplier<R> nothingMatcher) {
+        return justMatcher.apply(value);
+    }
+
+    @Override
+    public LongStream stream() {
+        return LongStream.of(value);
+    }
+
+    @Override
+    public OptionalLong toOptional() {
+        return OptionalLong.of(value);
+    }
+
+    @Override
+    public Maybe<Long> boxed() {
+        return new Just<>(value);
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return other instanceof JustLong && value == ((JustLong) other).value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(value);
+    }
+}
@@ -24,11 +24,17 @@ package net.kemitix.mon.maybe;
 import lombok.NonNull;
 import net.kemitix.mon.Functor;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
 import java.util.stream.Stream;
 
 /**
@@ -94,6 +100,240 @@ public interface Maybe<T> extends Functor<T, Maybe<?>> {
                 .orElseGet(Maybe::nothing);
     }
 
+    /**
+     * Creates a Maybe from any item in the stream, or nothing if the stream is empty.
+     *
+     * <p>Unlike {@link #findFirst(Stream)}, this is free to return any item,
+     * which avoids the cost of keeping encounter order on a parallel stream.</p>
+     *
+     * @param stream the Stream
+     * @param <T> the type of the stream
+     * @return a Maybe containing an item from the stream
+     */
+    static <T> Maybe<T> findAny(Stream<T> stream) {
+        return stream.findAny()
+                .map(Maybe::just)
+                .orElseGet(Maybe::nothing);
+    }
+
+    /**
+     * Searches the list in parallel for the first item, in list order, that
+     * matches the predicate.
+     *
+     * <p>The list is split into ranges that are searched using the common
+     * {@link java.util.concurrent.ForkJoinPool}. Once a match is found, any
+     * ranges after it are skipped, while those before it continue in case
+     * they hold an earlier match. The predicate may be called from several
+     * threads at once.</p>
+     *
+     * <pre><code>
+     * Maybe&lt;String&gt; match = Maybe.parallelFindFirst(candidates, c -&gt; c.startsWith("x"));
+     * </code></pre>
+     *
+     * @param items     the items to search
+     * @param predicate the test for a matching item
+     * @param <T>       the type of the items
+     * @return a Maybe containing the first matching item, or nothing if none match
+     */
+    static <T> Maybe<T> parallelFindFirst(List<T> items, Predicate<T> predicate) {
+        return FindTask.invoke(items, predicate, true);
+    }
+
+    /**
+     * Searches the list in parallel for any item that matches the predicate.
+     *
+     * <p>The list is split into ranges that are searched using the common
+     * {@link java.util.concurrent.ForkJoinPool}. Once any match is found, all
+     * remaining work is skipped. The predicate may be called from several
+     * threads at once.</p>
+     *
+     * @param items     the items to search
+     * @param predicate the test for a matching item
+     * @param <T>       the type of the items
+     * @return a Maybe containing a matching item, or nothing if none match
+     */
+    static <T> Maybe<T> parallelFindAny(List<T> items, Predicate<T> predicate) {
+        return FindTask.invoke(items, predicate, false);
+    }
+
+    /**
+     * Extracts the values of the Justs from a collection of {@code Maybe}s,
+     * discarding any Nothings.
+     *
+     * <pre><code>
+     * List&lt;Integer&gt; values = Maybe.catMaybes(List.of(Maybe.just(1), Maybe.nothing()));
+     * // [1]
+     * </code></pre>
+     *
+     * @param maybes the Maybes
+     * @param <T>    the type of the values
+     * @return a new list of the values, in iteration order
+     */
+    static <T> List<T> catMaybes(final Collection<Maybe<T>> maybes) {
+        return partition(maybes).justs();
+    }
+
+    /**
+     * A {@link Collector} that extracts the values of the Justs from a stream
+     * of {@code Maybe}s, discarding any Nothings.
+     *
+     * <p>Avoids the one element stream created for each item by
+     * {@code flatMap(Maybe::stream)}. May be used with parallel streams.</p>
+     *
+     * <pre><code>
+     * List&lt;Integer&gt; values = Stream.of(Maybe.just(1), Maybe.&lt;Integer&gt;nothing())
+     *         .collect(Maybe.catMaybesCollector());
+     * // [1]
+     * </code></pre>
+     *
+     * @param <T> the type of the values
+     * @return a Collector
+     */
+    static <T> Collector<Maybe<T>, ?, List<T>> catMaybesCollector() {
+        return Collector.of(
+                MaybePartition<T>::new,
+                MaybePartition::add,
+                MaybePartition::combine,
+                MaybePartition::justs);
+    }
+
+    /**
+     * Splits a collection of {@code Maybe}s into the values of the Justs and a
+     * count of the Nothings.
+     *
+     * @param maybes the Maybes
+     * @param <T>    the type of the values
+     * @return the partition
+     */
+    static <T> MaybePartition<T> partition(final Collection<Maybe<T>> maybes) {
+        final MaybePartition<T> partition = new MaybePartition<>(maybes.size());
+        for (final Maybe<T> maybe : maybes) {
+            partition.add(maybe);
+        }
+        return partition;
+    }
+
+    /**
+     * A {@link Collector} that splits a stream of {@code Maybe}s into the
+     * values of the Justs and a count of the Nothings.
+     *
+     * <p>May be used with parallel streams.</p>
+     *
+     * @param <T> the type of the values
+     * @return a Collector
+     */
+    static <T> Collector<Maybe<T>, ?, MaybePartition<T>> partitionCollector() {
+        return Collector.of(
+                MaybePartition<T>::new,
+                MaybePartition::add,
+                MaybePartition::combine);
+    }
+
+    /**
+     * Converts a collection of {@code Maybe}s into a {@code Maybe} of a list
+     * of their values.
+     *
+     * <p>Returns a Just containing the values, in iteration order, if all the
+     * {@code Maybe}s are Justs, otherwise Nothing. Stops at the first
+     * Nothing.</p>
+     *
+     * <pre><code>
+     * Maybe&lt;List&lt;Integer&gt;&gt; result = Maybe.sequence(List.of(Maybe.just(1), Maybe.just(2)));
+     * // Just [1, 2]
+     * </code></pre>
+     *
+     * @param maybes the Maybes
+     * @param <T>    the type of the values
+     * @return a Just containing a new list of the values, or Nothing
+     */
+    static <T> Maybe<List<T>> sequence(final Collection<Maybe<T>> maybes) {
+        final MaybeListAccumulator<T> accumulator = new MaybeListAccumulator<>(maybes.size());
+        for (final Maybe<T> maybe : maybes) {
+            accumulator.add(maybe);
+            if (accumulator.isNothing()) {
+                break;
+            }
+        }
+        return accumulator.toMaybe();
+    }
+
+    /**
+     * Applies a function to each item of a collection, and converts the
+     * resulting {@code Maybe}s into a {@code Maybe} of a list of their values.
+     *
+     * <p>Returns a Just containing the values, in iteration order, if the
+     * function returns a Just for every item, otherwise Nothing. The function
+     * is not called for any items after the first Nothing.</p>
+     *
+     * <pre><code>
+     * Maybe&lt;List&lt;String&gt;&gt; result = Maybe.traverse(keys, key -&gt; Maybe.maybe(map.get(key)));
+     * </code></pre>
+     *
+     * @param items the items
+     * @param f     the function to apply to each item
+     * @param <T>   the type of the items
+     * @param <R>   the type of the values
+     * @return a Just containing a new list of the values, or Nothing
+     */
+    static <T, R> Maybe<List<R>> traverse(
+            final Collection<T> items,
+            final Function<T, Maybe<R>> f
+    ) {
+        final MaybeListAccumulator<R> accumulator = new MaybeListAccumulator<>(items.size());
+        for (final T item : items) {
+            accumulator.add(f, item);
+            if (accumulator.isNothing()) {
+                break;
+            }
+        }
+        return accumulator.toMaybe();
+    }
+
+    /**
+     * A {@link Collector} that converts a stream of {@code Maybe}s into a
+     * {@code Maybe} of a list of their values.
+     *
+     * <p>The {@code Collector} result is a Just containing the values, in
+     * encounter order, if all the {@code Maybe}s are Justs, otherwise
+     * Nothing. May be used with parallel streams.</p>
+     *
+     * @param <T> the type of the values
+     * @return a Collector
+     */
+    static <T> Collector<Maybe<T>, ?, Maybe<List<T>>> sequenceCollector() {
+        return Collector.of(
+                MaybeListAccumulator<T>::new,
+                MaybeListAccumulator::add,
+                MaybeListAccumulator::combine,
+                MaybeListAccumulator::toMaybe);
+    }
+
+    /**
+     * A {@link Collector} that applies a function to each item of a stream,
+     * and converts the resulting {@code Maybe}s into a {@code Maybe} of a list
+     * of their values.
+     *
+     * <p>The {@code Collector} result is a Just containing the values, in
+     * encounter order, if the function returns a Just for every item,
+     * otherwise Nothing. Once a Nothing is found, the function is not called
+     * for the remaining items given to the same container. May be used with
+     * parallel streams.</p>
+     *
+     * @param f   the function to apply to each item
+     * @param <T> the type of the items
+     * @param <R> the type of the values
+     * @return a Collector
+     */
+    static <T, R> Collector<T, ?, Maybe<List<R>>> traverseCollector(
+            final Function<T, Maybe<R>> f
+    ) {
+        return Collector.of(
+                MaybeListAccumulator<R>::new,
+                (MaybeListAccumulator<R> accumulator, T item) -> accumulator.add(f, item),
+                MaybeListAccumulator::combine,
+                MaybeListAccumulator::toMaybe);
+    }
+
     /**
      * Creates a Maybe from an Optional.
      *
@@ -106,6 +346,24 @@ public interface Maybe<T> extends Functor<T, Maybe<?>> {
                 .orElseGet(Maybe::nothing);
     }
 
+    /**
+     * Create an empty pipeline, to which map, filter and flatMap steps can be
+     * added, and which can then be run for many values.
+     *
+     * <pre><code>
+     * MaybePipeline&lt;String, Integer&gt; parse = Maybe.&lt;String&gt;pipeline()
+     *                                             .map(String::trim)
+     *                                             .map(Integer::parseInt);
+     * Maybe&lt;Integer&gt; maybe = parse.run(" 42 ");
+     * </code></pre>
+     *
+     * @param <T> the type of the value the pipeline will be run with
+     * @return an empty pipeline
+     */
+    static <T> MaybePipeline<T, T> pipeline() {
+        return MaybePipeline.empty();
+    }
+
     /**
      * Checks if the Maybe is a Just.
      *
@@ -132,6 +390,36 @@ public interface Maybe<T> extends Functor<T, Maybe<?>> {
     @Override
     <R> Maybe<R> map(Function<T, R> f);
 
+    /**
+     * Applies the function to the value if present, giving a {@link MaybeInt}.
+     *
+     * @param f the function to apply
+     * @return a MaybeInt of the function output, or nothing
+     */
+    default MaybeInt mapToInt(final ToIntFunction<T> f) {
+        return matchValue(value -> MaybeInt.just(f.applyAsInt(value)), MaybeInt::nothing);
+    }
+
+    /**
+     * Applies the function to the value if present, giving a {@link MaybeLong}.
+     *
+     * @param f the function to apply
+     * @return a MaybeLong of the function output, or nothing
+     */
+    default MaybeLong mapToLong(final ToLongFunction<T> f) {
+        return matchValue(value -> MaybeLong.just(f.applyAsLong(value)), MaybeLong::nothing);
+    }
+
+    /**
+     * Applies the function to the value if present, giving a {@link MaybeDouble}.
+     *
+     * @param f the function to apply
+     * @return a MaybeDouble of the function output, or nothing
+     */
+    default MaybeDouble mapToDouble(final ToDoubleFunction<T> f) {
+        return matchValue(value -> MaybeDouble.just(f.applyAsDouble(value)), MaybeDouble::nothing);
+    }
+
     /**
      * Provide a value to use when Maybe is Nothing.
      *
@@ -0,0 +1,235 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.maybe;
+
+import java.util.OptionalInt;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * A {@link Maybe} specialised for {@code int} values.
+ *
+ * <p>Holds either an {@code int} value or nothing, without boxing the
+ * value.</p>
+ *
+ * <pre><code>
+ * MaybeInt parsed = Maybe.maybe(text)
+ *                        .mapToInt(Integer::parseInt);
+ * int value = parsed.filter(v -&gt; v &gt; 0)
+ *                   .orElse(0);
+ * </code></pre>
+ *
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ */
+@SuppressWarnings({"methodcount", "PMD.TooManyMethods"})
+public interface MaybeInt {
+
+    /**
+     * Create a MaybeInt for the value.
+     *
+     * @param value the value
+     * @return a MaybeInt of the value
+     */
+    static MaybeInt just(final int value) {
+        return new JustInt(value);
+    }
+
+    /**
+     * Create a MaybeInt for a lack of a value.
+     *
+     * @return an empty MaybeInt
+     */
+    static MaybeInt nothing() {
+        return NothingInt.INSTANCE;
+    }
+
+    /**
+     * Creates a MaybeInt from an OptionalInt.
+     *
+     * @param optional the OptionalInt
+     * @return a MaybeInt of the value if present, otherwise nothing
+     */
+    static MaybeInt fromOptional(final OptionalInt optional) {
+        if (optional.isPresent()) {
+            return new JustInt(optional.getAsInt());
+        }
+        return nothing();
+    }
+
+    /**
+     * Checks if the MaybeInt has a value.
+     *
+     * @return true if there is a value
+     */
+    boolean isJust();
+
+    /**
+     * Checks if the MaybeInt has no value.
+     *
+     * @return true if there is no value
+     */
+    boolean isNothing();
+
+    /**
+     * Applies the function to the value if present.
+     *
+     * @param f the function to apply
+     * @return a MaybeInt of the function output, or nothing
+     * @see Maybe#map(Function)
+     */
+    MaybeInt map(IntUnaryOperator f);
+
+    /**
+     * Applies the function to the value if present, giving a {@link Maybe}.
+     *
+     * @param f   the function to apply
+     * @param <R> the type of the value returned by the function
+     * @return a Maybe of the function output, or nothing
+     */
+    <R> Maybe<R> mapToObj(IntFunction<R> f);
+
+    /**
+     * Applies the function to the value if present, giving a {@link MaybeLong}.
+     *
+     * @param f the function to apply
+     * @return a MaybeLong of the function output, or nothing
+     */
+    MaybeLong mapToLong(IntToLongFunction f);
+
+    /**
+     * Applies the function to the value if present, giving a {@link MaybeDouble}.
+     *
+     * @param f the function to apply
+     * @return a MaybeDouble of the function output, or nothing
+     */
+    MaybeDouble mapToDouble(IntToDoubleFunction f);
+
+    /**
+     * Maps the value, if present, into another MaybeInt using the function.
+     *
+     * @param f the function to apply
+     * @return the MaybeInt from the function, or nothing
+     * @see Maybe#flatMap(Function)
+     */
+    MaybeInt flatMap(IntFunction<MaybeInt> f);
+
+    /**
+     * Filter the value by the predicate, replacing with nothing when it fails.
+     *
+     * @param predicate the test
+     * @return this MaybeInt, or nothing if the test returns false
+     */
+    MaybeInt filter(IntPredicate predicate);
+
+    /**
+     * A value to use when there is no value.
+     *
+     * @param otherValue an alternate value
+     * @return the value if present, otherwise the otherValue
+     */
+    int orElse(int otherValue);
+
+    /**
+     * Provide a value to use when there is no value.
+     *
+     * @param supplier supplier for an alternate value
+     * @return the value if present, otherwise the value from the supplier
+     */
+    int orElseGet(IntSupplier supplier);
+
+    /**
+     * Throw the exception if there is no value.
+     *
+     * @param e   the exception to throw
+     * @param <X> the type of the exception to throw
+     * @return the value if present
+     * @throws X if there is no value
+     */
+    <X extends Throwable> int orElseThrow(Supplier<? extends X> e) throws X;
+
+    /**
+     * Provide the value, if present, to the consumer, and return this MaybeInt.
+     *
+     * @param consumer the consumer of the value if present
+     * @return this MaybeInt
+     */
+    MaybeInt peek(IntConsumer consumer);
+
+    /**
+     * Run the runnable if there is no value, otherwise do nothing.
+     *
+     * @param runnable the runnable to call if there is no value
+     */
+    void ifNothing(Runnable runnable);
+
+    /**
+     * Matches the MaybeInt, and performs either the consumer, with the value,
+     * or the runnable, when there is no value.
+     *
+     * @param justMatcher    the consumer to pass the value to
+     * @param nothingMatcher the runnable to call if there is no value
+     * @see Maybe#match(java.util.function.Consumer, Runnable)
+     */
+    void match(IntConsumer justMatcher, Runnable nothingMatcher);
+
+    /**
+     * Matches the MaybeInt, and returns the output of either the function,
+     * with the value, or the supplier, when there is no value.
+     *
+     * @param justMatcher    the function to pass the value to
+     * @param nothingMatcher the supplier to call if there is no value
+     * @param <R>            the type of the matched result
+     * @return the matched result
+     * @see Maybe#matchValue(Function, Supplier)
+     */
+    <R> R matchValue(IntFunction<R> justMatcher, Supplier<R> nothingMatcher);
+
+    /**
+     * Converts into either a single value stream or an empty stream.
+     *
+     * @return an IntStream containing the value or nothing
+     */
+    IntStream stream();
+
+    /**
+     * Convert to an {@link OptionalInt}.
+     *
+     * @return an OptionalInt containing the value if present, or empty
+     */
+    OptionalInt toOptional();
+
+    /**
+     * Convert to a {@link Maybe} of the boxed value.
+     *
+     * @return a Maybe of the value if present, or nothing
+     */
+    Maybe<Integer> boxed();
+
+}
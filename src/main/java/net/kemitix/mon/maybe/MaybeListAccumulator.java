@@ -0,0 +1,126 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.maybe;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Mutable container used to sequence Maybes into a Maybe of a List.
+ *
+ * <p>Collects the values of Justs until the first Nothing is added. Anything
+ * added after that is ignored.</p>
+ *
+ * @param <T> the type of the values
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ */
+class MaybeListAccumulator<T> {
+
+    private final List<T> values;
+    private boolean nothing;
+
+    /**
+     * Creates an empty accumulator.
+     */
+    MaybeListAccumulator() {
+        values = new ArrayList<>();
+    }
+
+    /**
+     * Creates an empty accumulator with room for the expected number of values.
+     *
+     * @param expectedSize the expected number of values
+     */
+    MaybeListAccumulator(final int expectedSize) {
+        values = new ArrayList<>(expectedSize);
+    }
+
+    /**
+     * Checks if a Nothing has been added.
+     *
+     * @return true if a Nothing has been added
+     */
+    boolean isNothing() {
+        return nothing;
+    }
+
+    /**
+     * Adds the value of the Maybe, unless a Nothing has already been added.
+     *
+     * @param maybe the Maybe to add
+     */
+    void add(final Maybe<T> maybe) {
+        if (nothing) {
+            return;
+        }
+        if (maybe.isJust()) {
+            values.add(maybe.orElse(null));
+        } else {
+            nothing = true;
+        }
+    }
+
+    /**
+     * Applies the function to the item and adds the Maybe, unless a Nothing
+     * has already been added, in which case the function is not called.
+     *
+     * @param f    the function to create the Maybe
+     * @param item the item to apply the function to
+     * @param <N>  the type of the item
+     */
+    <N> void add(final Function<N, Maybe<T>> f, final N item) {
+        if (!nothing) {
+            add(f.apply(item));
+        }
+    }
+
+    /**
+     * Combines with another accumulator that follows this one in encounter order.
+     *
+     * @param other the following accumulator
+     * @return the combined accumulator, which is Nothing if either is
+     */
+    MaybeListAccumulator<T> combine(final MaybeListAccumulator<T> other) {
+        if (nothing) {
+            return this;
+        }
+        if (other.nothing) {
+            return other;
+        }
+        values.addAll(other.values);
+        return this;
+    }
+
+    /**
+     * Creates the final Maybe.
+     *
+     * @return a Just containing the values, or Nothing
+     */
+    Maybe<List<T>> toMaybe() {
+        if (nothing) {
+            return Maybe.nothing();
+        }
+        return new Just<>(values);
+    }
+
+}
@@ -0,0 +1,235 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.maybe;
+
+import java.util.OptionalLong;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+
+/**
+ * A {@link Maybe} specialised for {@code long} values.
+ *
+ * <p>Holds either a {@code long} value or nothing, without boxing the
+ * value.</p>
+ *
+ * <pre><code>
+ * MaybeLong parsed = Maybe.maybe(text)
+ *                        .mapToLong(Long::parseLong);
+ * long value = parsed.filter(v -&gt; v &gt; 0)
+ *                   .orElse(0);
+ * </code></pre>
+ *
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ */
+@SuppressWarnings({"methodcount", "PMD.TooManyMethods"})
+public interface MaybeLong {
+
+    /**
+     * Create a MaybeLong for the value.
+     *
+     * @param value the value
+     * @return a MaybeLong of the value
+     */
+    static MaybeLong just(final long value) {
+        return new JustLong(value);
+    }
+
+    /**
+     * Create a MaybeLong for a lack of a value.
+     *
+     * @return an empty MaybeLong
+     */
+    static MaybeLong nothing() {
+        return NothingLong.INSTANCE;
+    }
+
+    /**
+     * Creates a MaybeLong from an OptionalLong.
+     *
+     * @param optional the OptionalLong
+     * @return a MaybeLong of the value if present, otherwise nothing
+     */
+    static MaybeLong fromOptional(final OptionalLong optional) {
+        if (optional.isPresent()) {
+            return new JustLong(optional.getAsLong());
+        }
+        return nothing();
+    }
+
+    /**
+     * Checks if the MaybeLong has a value.
+     *
+     * @return true if there is a value
+     */
+    boolean isJust();
+
+    /**
+     * Checks if the MaybeLong has no value.
+     *
+     * @return true if there is no value
+     */
+    boolean isNothing();
+
+    /**
+     * Applies the function to the value if present.
+     *
+     * @param f the function to apply
+     * @return a MaybeLong of the function output, or nothing
+     * @see Maybe#map(Function)
+     */
+    MaybeLong map(LongUnaryOperator f);
+
+    /**
+     * Applies the function to the value if present, giving a {@link Maybe}.
+     *
+     * @param f   the function to apply
+     * @param <R> the type of the value returned by the function
+     * @return a Maybe of the function output, or nothing
+     */
+    <R> Maybe<R> mapToObj(LongFunction<R> f);
+
+    /**
+     * Applies the function to the value if present, giving a {@link MaybeInt}.
+     *
+     * @param f the function to apply
+     * @return a MaybeInt of the function output, or nothing
+     */
+    MaybeInt mapToInt(LongToIntFunction f);
+
+    /**
+     * Applies the function to the value if present, giving a {@link MaybeDouble}.
+     *
+     * @param f the function to apply
+     * @return a MaybeDouble of the function output, or nothing
+     */
+    MaybeDouble mapToDouble(LongToDoubleFunction f);
+
+    /**
+     * Maps the value, if present, into another MaybeLong using the function.
+     *
+     * @param f the function to apply
+     * @return the MaybeLong from the function, or nothing
+     * @see Maybe#flatMap(Function)
+     */
+    MaybeLong flatMap(LongFunction<MaybeLong> f);
+
+    /**
+     * Filter the value by the predicate, replacing with nothing when it fails.
+     *
+     * @param predicate the test
+     * @return this MaybeLong, or nothing if the test returns false
+     */
+    MaybeLong filter(LongPredicate predicate);
+
+    /**
+     * A value to use when there is no value.
+     *
+     * @param otherValue an alternate value
+     * @return the value if present, otherwise the otherValue
+     */
+    long orElse(long otherValue);
+
+    /**
+     * Provide a value to use when there is no value.
+     *
+     * @param supplier supplier for an alternate value
+     * @return the value if present, otherwise the value from the supplier
+     */
+    long orElseGet(LongSupplier supplier);
+
+    /**
+     * Throw the exception if there is no value.
+     *
+     * @param e   the exception to throw
+     * @param <X> the type of the exception to throw
+     * @return the value if present
+     * @throws X if there is no value
+     */
+    <X extends Throwable> long orElseThrow(Supplier<? extends X> e) throws X;
+
+    /**
+     * Provide the value, if present, to the consumer, and return this MaybeLong.
+     *
+     * @param consumer the consumer of the value if present
+     * @return this MaybeLong
+     */
+    MaybeLong peek(LongConsumer consumer);
+
+    /**
+     * Run the runnable if there is no value, otherwise do nothing.
+     *
+     * @param runnable the runnable to call if there is no value
+     */
+    void ifNothing(Runnable runnable);
+
+    /**
+     * Matches the MaybeLong, and performs either the consumer, with the value,
+     * or the runnable, when there is no value.
+     *
+     * @param justMatcher    the consumer to pass the value to
+     * @param nothingMatcher the runnable to call if there is no value
+     * @see Maybe#match(java.util.function.Consumer, Runnable)
+     */
+    void match(LongConsumer justMatcher, Runnable nothingMatcher);
+
+    /**
+     * Matches the MaybeLong, and returns the output of either the function,
+     * with the value, or the supplier, when there is no value.
+     *
+     * @param justMatcher    the function to pass the value to
+     * @param nothingMatcher the supplier to call if there is no value
+     * @param <R>            the type of the matched result
+     * @return the matched result
+     * @see Maybe#matchValue(Function, Supplier)
+     */
+    <R> R matchValue(LongFunction<R> justMatcher, Supplier<R> nothingMatcher);
+
+    /**
+     * Converts into either a single value stream or an empty stream.
+     *
+     * @return a LongStream containing the value or nothing
+     */
+    LongStream stream();
+
+    /**
+     * Convert to an {@link OptionalLong}.
+     *
+     * @return an OptionalLong containing the value if present, or empty
+     */
+    OptionalLong toOptional();
+
+    /**
+     * Convert to a {@link Maybe} of the boxed value.
+     *
+     * @return a Maybe of the value if present, or nothing
+     */
+    Maybe<Long> boxed();
+
+}
@@ -0,0 +1,109 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.maybe;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The values of the Justs, and the number of Nothings, from a group of
+ * {@link Maybe}s.
+ *
+ * <pre><code>
+ * MaybePartition&lt;String&gt; partition = Maybe.partition(maybes);
+ * List&lt;String&gt; values = partition.justs();
+ * long missing = partition.nothingCount();
+ * </code></pre>
+ *
+ * @param <T> the type of the values
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ */
+public final class MaybePartition<T> {
+
+    private final List<T> justs;
+    private long nothingCount;
+
+    /**
+     * Creates an empty partition.
+     */
+    MaybePartition() {
+        justs = new ArrayList<>();
+    }
+
+    /**
+     * Creates an empty partition with room for the expected number of values.
+     *
+     * @param expectedSize the expected number of values
+     */
+    MaybePartition(final int expectedSize) {
+        justs = new ArrayList<>(expectedSize);
+    }
+
+    /**
+     * Adds the value of a Just, or counts a Nothing.
+     *
+     * @param maybe the Maybe to add
+     */
+    void add(final Maybe<T> maybe) {
+        if (maybe.isJust()) {
+            justs.add(maybe.orElse(null));
+        } else {
+            nothingCount++;
+        }
+    }
+
+    /**
+     * Combines with another partition that follows this one in encounter order.
+     *
+     * @param other the following partition
+     * @return this partition, now also holding the other's values and count
+     */
+    MaybePartition<T> combine(final MaybePartition<T> other) {
+        justs.addAll(other.justs);
+        nothingCount += other.nothingCount;
+        return this;
+    }
+
+    /**
+     * The values of the Justs, in encounter order.
+     *
+     * @return an unmodifiable list of the values
+     */
+    public List<T> justs() {
+        return Collections.unmodifiableList(justs);
+    }
+
+    /**
+     * The number of Nothings.
+     *
+     * @return the count of Nothings
+     */
+    public long nothingCount() {
+        return nothingCount;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("MaybePartition{justs=%s, nothingCount=%d}", justs, nothingCount);
+    }
+}
@@ -0,0 +1,165 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.maybe;
+
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A deferred chain of {@code map}, {@code filter} and {@code flatMap} steps
+ * that can be run to produce a {@link Maybe}.
+ *
+ * <p>Where {@link Maybe#map(Function)} creates a new {@code Just} for each
+ * step, a pipeline records the steps and runs them all in a single loop when
+ * {@link #run(Object)} is called. Only the final {@code Just} is created, and
+ * none at all if the result is {@link Maybe#nothing()}.</p>
+ *
+ * <p>A pipeline is immutable and may be reused, and shared between threads.
+ * Build it once and run it for each value.</p>
+ *
+ * <pre><code>
+ * private static final MaybePipeline&lt;String, Integer&gt; PARSE =
+ *         Maybe.&lt;String&gt;pipeline()
+ *              .map(String::trim)
+ *              .filter(s -&gt; !s.isEmpty())
+ *              .map(Integer::parseInt);
+ *
+ * Maybe&lt;Integer&gt; just = PARSE.run(" 42 "); // Just(42)
+ * Maybe&lt;Integer&gt; nothing = PARSE.run(" "); // Nothing
+ * </code></pre>
+ *
+ * @param <T> the type of the value the pipeline is run with
+ * @param <R> the type of the value in the Maybe produced
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ */
+public final class MaybePipeline<T, R> {
+
+    private static final Object ABSENT = new Object();
+
+    @SuppressWarnings("rawtypes")
+    private static final MaybePipeline<?, ?> EMPTY = new MaybePipeline<>(new Function[0]);
+
+    @SuppressWarnings("rawtypes")
+    private final Function[] stages;
+
+    @SuppressWarnings("rawtypes")
+    private MaybePipeline(final Function[] stages) {
+        this.stages = stages;
+    }
+
+    /**
+     * The pipeline with no steps.
+     *
+     * @param <T> the type of the value
+     * @return the empty pipeline
+     */
+    @SuppressWarnings("unchecked")
+    static <T> MaybePipeline<T, T> empty() {
+        return (MaybePipeline<T, T>) EMPTY;
+    }
+
+    @SuppressWarnings("rawtypes")
+    private <S> MaybePipeline<T, S> then(final Function stage) {
+        final Function[] next = Arrays.copyOf(stages, stages.length + 1);
+        next[stages.length] = stage;
+        return new MaybePipeline<>(next);
+    }
+
+    /**
+     * Creates a new pipeline that applies the function after the steps
+     * already in this pipeline.
+     *
+     * @param f   the function to apply
+     * @param <S> the type of the value returned by the function
+     * @return a new pipeline
+     * @see Maybe#map(Function)
+     */
+    public <S> MaybePipeline<T, S> map(final Function<R, S> f) {
+        return then(f);
+    }
+
+    /**
+     * Creates a new pipeline that becomes nothing if the value does not
+     * match the predicate.
+     *
+     * @param predicate the test to apply to the value
+     * @return a new pipeline
+     * @see Maybe#filter(Predicate)
+     */
+    public MaybePipeline<T, R> filter(final Predicate<R> predicate) {
+        return then((Function<R, Object>) value -> predicate.test(value) ? value : ABSENT);
+    }
+
+    /**
+     * Creates a new pipeline that continues with the value of the Maybe
+     * returned by the function, or becomes nothing.
+     *
+     * @param f   the function to apply
+     * @param <S> the type of the value in the Maybe returned by the function
+     * @return a new pipeline
+     * @see Maybe#flatMap(Function)
+     */
+    @SuppressWarnings("unchecked")
+    public <S> MaybePipeline<T, S> flatMap(final Function<R, Maybe<S>> f) {
+        return then((Function<R, Object>) value -> ((Maybe<Object>) f.apply(value)).orElse(ABSENT));
+    }
+
+    /**
+     * Runs each step in turn, starting with the value.
+     *
+     * <p>A {@code null} value, like {@link Maybe#maybe(Object)}, gives
+     * nothing. Once a step gives nothing, no further steps are applied.</p>
+     *
+     * @param value the value to give to the first step, may be null
+     * @return a Maybe of the output of the last step, or nothing
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Maybe<R> run(final T value) {
+        if (value == null) {
+            return Maybe.nothing();
+        }
+        Object current = value;
+        for (final Function stage : stages) {
+            current = stage.apply(current);
+            if (current == ABSENT) {
+                return Maybe.nothing();
+            }
+        }
+        return new Just<>((R) current);
+    }
+
+    /**
+     * Runs the pipeline with the value of the {@code Maybe}, if it is a
+     * {@code Just}.
+     *
+     * <p>Named apart from {@link #run(Object)} so that a pipeline whose input
+     * is itself a {@code Maybe} is not ambiguous.</p>
+     *
+     * @param maybe the Maybe to take the value from
+     * @return the Maybe from the pipeline, or nothing
+     */
+    public Maybe<R> runMaybe(final Maybe<T> maybe) {
+        return maybe.flatMap(this::run);
+    }
+
+}
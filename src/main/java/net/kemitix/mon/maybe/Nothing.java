@@ -26,6 +26,9 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import java.util.stream.Stream;
 
 /**
@@ -61,6 +64,21 @@ final class Nothing<T> implements Maybe<T> {
         return (Maybe<R>) INSTANCE;
     }
 
+    @Override
+    public MaybeInt mapToInt(final ToIntFunction<T> f) {
+        return MaybeInt.nothing();
+    }
+
+    @Override
+    public MaybeLong mapToLong(final ToLongFunction<T> f) {
+        return MaybeLong.nothing();
+    }
+
+    @Override
+    public MaybeDouble mapToDouble(final ToDoubleFunction<T> f) {
+        return MaybeDouble.nothing();
+    }
+
     @Override
     public T orElseGet(final Supplier<T> supplier) {
         return supplier.get();
@@ -0,0 +1,137 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.maybe;
+
+import java.util.OptionalDouble;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.DoubleStream;
+
+/**
+ * A MaybeDouble where no value is present.
+ *
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ */
+@SuppressWarnings({"methodcount", "PMD.TooManyMethods"})
+final class NothingDouble implements MaybeDouble {
+
+    static final MaybeDouble INSTANCE = new NothingDouble();
+
+    private NothingDouble() {
+    }
+
+    @Override
+    public boolean isJust() {
+        return false;
+    }
+
+    @Override
+    public boolean isNothing() {
+        return true;
+    }
+
+    @Override
+    public MaybeDouble map(final DoubleUnaryOperator f) {
+        return this;
+    }
+
+    @Override
+    public <R> Maybe<R> mapToObj(final DoubleFunction<R> f) {
+        return Maybe.nothing();
+    }
+
+    @Override
+    public MaybeInt mapToInt(final DoubleToIntFunction f) {
+        return MaybeInt.nothing();
+    }
+
+    @Override
+    public MaybeLong mapToLong(final DoubleToLongFunction f) {
+        return MaybeLong.nothing();
+    }
+
+    @Override
+    public MaybeDouble flatMap(final DoubleFunction<MaybeDouble> f) {
+        return this;
+    }
+
+    @Override
+    public MaybeDouble filter(final DoublePredicate predicate) {
+        return this;
+    }
+
+    @Override
+    public double orElse(final double otherValue) {
+        return otherValue;
+    }
+
+    @Override
+    public double orElseGet(final DoubleSupplier supplier) {
+        return supplier.getAsDouble();
+    }
+
+    @Override
+    public <X extends Throwable> double orElseThrow(final Supplier<? extends X> e) throws X {
+        throw e.get();
+    }
+
+    @Override
+    public MaybeDouble peek(final DoubleConsumer consumer) {
+        return this;
+    }
+
+    @Override
+    public void ifNothing(final Runnable runnable) {
+        runnable.run();
+    }
+
+    @Override
+    public void match(final DoubleConsumer justMatcher, final Runnable nothingMatcher) {
+        nothingMatcher.run();
+    }
+
+    @Override
+    public <R> R matchValue(final DoubleFunction<R> justMatcher, final Supplier<R> nothingMatcher) {
+        return nothingMatcher.get();
+    }
+
+    @Override
+    public DoubleStream stream() {
+        return DoubleStream.empty();
+    }
+
+    @Override
+    public OptionalDouble toOptional() {
+        return OptionalDouble.empty();
+    }
+
+    @Override
+    public Maybe<Double> boxed() {
+        return Maybe.nothing();
+    }
+}
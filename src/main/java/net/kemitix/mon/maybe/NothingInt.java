@@ -0,0 +1,137 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.maybe;
+
+import java.util.OptionalInt;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * A MaybeInt where no value is present.
+ *
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ */
+@SuppressWarnings({"methodcount", "PMD.TooManyMethods"})
+final class NothingInt implements MaybeInt {
+
+    static final MaybeInt INSTANCE = new NothingInt();
+
+    private NothingInt() {
+    }
+
+    @Override
+    public boolean isJust() {
+        return false;
+    }
+
+    @Override
+    public boolean isNothing() {
+        return true;
+    }
+
+    @Override
+    public MaybeInt map(final IntUnaryOperator f) {
+        return this;
+    }
+
+    @Override
+    public <R> Maybe<R> mapToObj(final IntFunction<R> f) {
+        return Maybe.nothing();
+    }
+
+    @Override
+    public MaybeLong mapToLong(final IntToLongFunction f) {
+        return MaybeLong.nothing();
+    }
+
+    @Override
+    public MaybeDouble mapToDouble(final IntToDoubleFunction f) {
+        return MaybeDouble.nothing();
+    }
+
+    @Override
+    public MaybeInt flatMap(final IntFunction<MaybeInt> f) {
+        return this;
+    }
+
+    @Override
+    public MaybeInt filter(final IntPredicate predicate) {
+        return this;
+    }
+
+    @Override
+    public int orElse(final int otherValue) {
+        return otherValue;
+    }
+
+    @Override
+    public int orElseGet(final IntSupplier supplier) {
+        return supplier.getAsInt();
+    }
+
+    @Override
+    public <X extends Throwable> int orElseThrow(final Supplier<? extends X> e) throws X {
+        throw e.get();
+    }
+
+    @Override
+    public MaybeInt peek(final IntConsumer consumer) {
+        return this;
+    }
+
+    @Override
+    public void ifNothing(final Runnable runnable) {
+        runnable.run();
+    }
+
+    @Override
+    public void match(final IntConsumer justMatcher, final Runnable nothingMatcher) {
+        nothingMatcher.run();
+    }
+
+    @Override
+    public <R> R matchValue(final IntFunction<R> justMatcher, final Supplier<R> nothingMatcher) {
+        return nothingMatcher.get();
+    }
+
+    @Override
+    public IntStream stream() {
+        return IntStream.empty();
+    }
+
+    @Override
+    public OptionalInt toOptional() {
+        return OptionalInt.empty();
+    }
+
+    @Override
+    public Maybe<Integer> boxed() {
+        return Maybe.nothing();
+    }
+}
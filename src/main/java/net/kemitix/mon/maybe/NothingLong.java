@@ -0,0 +1,137 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.maybe;
+
+import java.util.OptionalLong;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+
+/**
+ * A MaybeLong where no value is present.
+ *
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ */
+@SuppressWarnings({"methodcount", "PMD.TooManyMethods"})
+final class NothingLong implements MaybeLong {
+
+    static final MaybeLong INSTANCE = new NothingLong();
+
+    private NothingLong() {
+    }
+
+    @Override
+    public boolean isJust() {
+        return false;
+    }
+
+    @Override
+    public boolean isNothing() {
+        return true;
+    }
+
+    @Override
+    public MaybeLong map(final LongUnaryOperator f) {
+        return this;
+    }
+
+    @Override
+    public <R> Maybe<R> mapToObj(final LongFunction<R> f) {
+        return Maybe.nothing();
+    }
+
+    @Override
+    public MaybeInt mapToInt(final LongToIntFunction f) {
+        return MaybeInt.nothing();
+    }
+
+    @Override
+    public MaybeDouble mapToDouble(final LongToDoubleFunction f) {
+        return MaybeDouble.nothing();
+    }
+
+    @Override
+    public MaybeLong flatMap(final LongFunction<MaybeLong> f) {
+        return this;
+    }
+
+    @Override
+    public MaybeLong filter(final LongPredicate predicate) {
+        return this;
+    }
+
+    @Override
+    public long orElse(final long otherValue) {
+        return otherValue;
+    }
+
+    @Override
+    public long orElseGet(final LongSupplier supplier) {
+        return supplier.getAsLong();
+    }
+
+    @Override
+    public <X extends Throwable> long orElseThrow(final Supplier<? extends X> e) throws X {
+        throw e.get();
+    }
+
+    @Override
+    public MaybeLong peek(final LongConsumer consumer) {
+        return this;
+    }
+
+    @Override
+    public void ifNothing(final Runnable runnable) {
+        runnable.run();
+    }
+
+    @Override
+    public void match(final LongConsumer justMatcher, final Runnable nothingMatcher) {
+        nothingMatcher.run();
+    }
+
+    @Override
+    public <R> R matchValue(final LongFunction<R> justMatcher, final Supplier<R> nothingMatcher) {
+        return nothingMatcher.get();
+    }
+
+    @Override
+    public LongStream stream() {
+        return LongStream.empty();
+    }
+
+    @Override
+    public OptionalLong toOptional() {
+        return OptionalLong.empty();
+    }
+
+    @Override
+    public Maybe<Long> boxed() {
+        return Maybe.nothing();
+    }
+}
@@ -0,0 +1,202 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.result;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Fork/join task to fold a function over a range of a list.
+ *
+ * <p>Ranges larger than the threshold are split in two and the halves
+ * processed in parallel. Leaf ranges start from the zero value and their
+ * partial results are combined using the accumulator.</p>
+ *
+ * <p>The index of the earliest failure seen by any task is shared between
+ * them all. Once an error is found, any task, or remaining element, that
+ * comes after it is skipped, while those before it continue in case they
+ * hold an earlier error. The result is always the first error in encounter
+ * order. An exception thrown by the function or the accumulator is treated
+ * as an error for that item.</p>
+ *
+ * @param <T> the type of the list items
+ * @param <R> the type of the result
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ */
+@SuppressWarnings("PMD.ReturnEmptyCollectionRatherThanNull")
+class ApplyOverTask<T, R> extends RecursiveTask<Result<R>> {
+
+    private static final long serialVersionUID = -2170364521097469405L;
+
+    /**
+     * The smallest range that will be split between tasks.
+     */
+    private static final int MIN_THRESHOLD = 1024;
+
+    /**
+     * The number of tasks to aim for per worker thread.
+     */
+    private static final int TASKS_PER_THREAD = 4;
+
+    private final transient List<T> items;
+    private final int from;
+    private final int to;
+    private final int threshold;
+    private final transient Function<T, Result<R>> f;
+    private final transient R zero;
+    private final transient BiFunction<R, R, R> accumulator;
+    private final AtomicInteger firstError;
+
+    /**
+     * Folds the function over the items in the common fork/join pool.
+     *
+     * @param items       the items
+     * @param f           the function to apply to each item
+     * @param zero        the identity value for the accumulator
+     * @param accumulator the function to combine results
+     * @param <T>         the type of the items
+     * @param <R>         the type of the result
+     * @return the folded result or the first error
+     */
+    static <T, R> Result<R> invoke(
+            final List<T> items,
+            final Function<T, Result<R>> f,
+            final R zero,
+            final BiFunction<R, R, R> accumulator
+    ) {
+        final List<T> randomAccess = items instanceof RandomAccess ? items : new ArrayList<>(items);
+        final ForkJoinPool pool = ForkJoinPool.commonPool();
+        final int threshold = Math.max(MIN_THRESHOLD,
+                randomAccess.size() / (pool.getParallelism() * TASKS_PER_THREAD));
+        return pool.invoke(new ApplyOverTask<>(randomAccess, threshold, f, zero, accumulator));
+    }
+
+    /**
+     * Creates a task for the whole list.
+     *
+     * @param items       the items, must be random access
+     * @param threshold   the largest range to process without splitting
+     * @param f           the function to apply to each item
+     * @param zero        the identity value for the accumulator
+     * @param accumulator the function to combine results
+     */
+    ApplyOverTask(
+            final List<T> items,
+            final int threshold,
+            final Function<T, Result<R>> f,
+            final R zero,
+            final BiFunction<R, R, R> accumulator
+    ) {
+        this(items, 0, items.size(), threshold, f, zero, accumulator,
+                new AtomicInteger(Integer.MAX_VALUE));
+    }
+
+    @SuppressWarnings("checkstyle:parameternumber")
+    private ApplyOverTask(
+            final List<T> items,
+            final int from,
+            final int to,
+            final int threshold,
+            final Function<T, Result<R>> f,
+            final R zero,
+            final BiFunction<R, R, R> accumulator,
+            final AtomicInteger firstError
+    ) {
+        this.items = items;
+        this.from = from;
+        this.to = to;
+        this.threshold = threshold;
+        this.f = f;
+        this.zero = zero;
+        this.accumulator = accumulator;
+        this.firstError = firstError;
+    }
+
+    /**
+     * Folds the range.
+     *
+     * @return the folded result, the first error, or null if the range was
+     * skipped because an earlier item has already failed
+     */
+    @Override
+    protected Result<R> compute() {
+        if (firstError.get() < from) {
+            return null;
+        }
+        if (to - from <= threshold) {
+            return fold();
+        }
+        final int mid = (from + to) >>> 1;
+        final ApplyOverTask<T, R> left = subTask(from, mid);
+        final ApplyOverTask<T, R> right = subTask(mid, to);
+        right.fork();
+        final Result<R> leftResult = left.compute();
+        if (leftResult != null && leftResult.isError()) {
+            right.cancel(false);
+            return leftResult;
+        }
+        final Result<R> rightResult = right.join();
+        return combine(leftResult, rightResult);
+    }
+
+    private ApplyOverTask<T, R> subTask(final int start, final int end) {
+        return new ApplyOverTask<>(items, start, end, threshold, f, zero, accumulator, firstError);
+    }
+
+    @SuppressWarnings({"illegalcatch", "PMD.AvoidCatchingThrowable"})
+    private Result<R> fold() {
+        R acc = zero;
+        for (int i = from; i < to; i++) {
+            if (firstError.get() < i) {
+                return null;
+            }
+            try {
+                final Result<R> result = f.apply(items.get(i));
+                if (result.isError()) {
+                    firstError.accumulateAndGet(i, Math::min);
+                    return result;
+                }
+                acc = accumulator.apply(result.orElseThrowUnchecked(), acc);
+            } catch (Throwable e) {
+                firstError.accumulateAndGet(i, Math::min);
+                return new Err<>(e);
+            }
+        }
+        return new Success<>(acc);
+    }
+
+    private Result<R> combine(final Result<R> leftResult, final Result<R> rightResult) {
+        if (leftResult == null || rightResult == null || rightResult.isError()) {
+            return leftResult == null ? null : rightResult;
+        }
+        return leftResult.flatMap(l ->
+                rightResult.map(r ->
+                        accumulator.apply(r, l)));
+    }
+
+}
@@ -0,0 +1,186 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.result;
+
+import org.apiguardian.api.API;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+/**
+ * A {@link Result} that will be available in the future.
+ *
+ * <p>Each step in the chain is run on the {@link Executor} given when the
+ * {@code AsyncResult} was created, without blocking the calling thread. Any
+ * {@code Executor} may be used, including one that starts a virtual thread
+ * per task, on JDKs that support them.</p>
+ *
+ * <p>As with {@code Result}, exceptions are never thrown. An exception thrown
+ * by a callable, a function or a consumer, or a rejection by the executor,
+ * becomes an error.</p>
+ *
+ * <pre><code>
+ * Executor executor = Executors.newFixedThreadPool(4);
+ * AsyncResult&lt;String&gt; body = AsyncResult.of(() -&gt; fetch(url), executor)
+ *                                       .map(response -&gt; response.body())
+ *                                       .recover(e -&gt; AsyncResult.of(() -&gt; fetch(mirror), executor));
+ * Result&lt;String&gt; result = body.toResult(); // blocks until complete
+ * </code></pre>
+ *
+ * @param <T> the type of the result when a success
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ */
+@API(status = EXPERIMENTAL)
+public interface AsyncResult<T> {
+
+    /**
+     * Create an {@code AsyncResult} for the output of the {@link Callable},
+     * which will be called using the executor.
+     *
+     * @param callable the callable to produce the result
+     * @param executor the executor to run the callable, and later steps, on
+     * @param <T>      the type of the value
+     * @return an AsyncResult
+     */
+    static <T> AsyncResult<T> of(final Callable<T> callable, final Executor executor) {
+        return FutureResult.supply(() -> Result.of(callable), executor);
+    }
+
+    /**
+     * Create an already complete {@code AsyncResult} from a {@link Result}.
+     *
+     * @param result   the result
+     * @param executor the executor to run later steps on
+     * @param <T>      the type of the value
+     * @return an AsyncResult
+     */
+    static <T> AsyncResult<T> from(final Result<T> result, final Executor executor) {
+        return new FutureResult<>(CompletableFuture.completedFuture(result), executor);
+    }
+
+    /**
+     * Create an {@code AsyncResult} from a {@link CompletionStage}.
+     *
+     * <p>If the stage completes exceptionally, then the {@code AsyncResult}
+     * will be an error.</p>
+     *
+     * @param stage    the stage that will provide the value
+     * @param executor the executor to run later steps on
+     * @param <T>      the type of the value
+     * @return an AsyncResult
+     */
+    static <T> AsyncResult<T> from(final CompletionStage<T> stage, final Executor executor) {
+        return new FutureResult<>(stage.toCompletableFuture().thenApply(Result::ok), executor);
+    }
+
+    /**
+     * Applies the function to the value when it is a success, returning the
+     * result within another {@code AsyncResult}.
+     *
+     * <p>If the function throws an exception, then the {@code AsyncResult}
+     * will be an error containing that exception.</p>
+     *
+     * @param f   the function to apply
+     * @param <R> the type of the value returned by the function
+     * @return an AsyncResult
+     * @see Result#map(ThrowableFunction)
+     */
+    <R> AsyncResult<R> map(ThrowableFunction<T, R, ?> f);
+
+    /**
+     * Applies the function to the value when it is a success, returning the
+     * {@code AsyncResult} it creates.
+     *
+     * @param f   the function to create the next AsyncResult
+     * @param <R> the type of the value within the AsyncResult of the function
+     * @return an AsyncResult
+     * @see Result#flatMap(Function)
+     */
+    <R> AsyncResult<R> flatMap(Function<T, AsyncResult<R>> f);
+
+    /**
+     * Attempts to restore an error to a success.
+     *
+     * @param f the function to recover from the error
+     * @return if this is an error, the AsyncResult from the function,
+     * otherwise an AsyncResult with the same value
+     * @see Result#recover(Function)
+     */
+    AsyncResult<T> recover(Function<Throwable, AsyncResult<T>> f);
+
+    /**
+     * A handler for success states.
+     *
+     * <p>If the consumer throws an exception, then the {@code AsyncResult}
+     * returned will be an error containing that exception.</p>
+     *
+     * @param successConsumer the consumer to handle the success
+     * @return an AsyncResult that completes after the consumer has been called
+     * @see Result#onSuccess(Consumer)
+     */
+    AsyncResult<T> onSuccess(Consumer<T> successConsumer);
+
+    /**
+     * A handler for error states.
+     *
+     * <p>If the consumer throws an exception, then the {@code AsyncResult}
+     * returned will be an error containing that exception.</p>
+     *
+     * @param errorConsumer the consumer to handle the error
+     * @return an AsyncResult that completes after the consumer has been called
+     * @see Result#onError(Consumer)
+     */
+    AsyncResult<T> onError(Consumer<Throwable> errorConsumer);
+
+    /**
+     * Checks if the {@code AsyncResult} has completed.
+     *
+     * @return true if complete
+     */
+    boolean isDone();
+
+    /**
+     * Waits for the {@code AsyncResult} to complete and returns it as a
+     * {@link Result}.
+     *
+     * @return the Result
+     */
+    Result<T> toResult();
+
+    /**
+     * Converts into a {@link CompletableFuture} that will complete with the
+     * {@link Result}.
+     *
+     * <p>The future never completes exceptionally. Completing it will not
+     * affect this {@code AsyncResult}.</p>
+     *
+     * @return a new CompletableFuture
+     */
+    CompletableFuture<Result<T>> toFuture();
+
+}
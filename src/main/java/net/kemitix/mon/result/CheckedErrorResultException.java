@@ -32,8 +32,8 @@ public final class CheckedErrorResultException extends Exception {
 
     private static final long serialVersionUID = 6388860431020999870L;
 
-    private CheckedErrorResultException(final Throwable cause) {
-        super(cause);
+    private CheckedErrorResultException(final Throwable cause, final boolean writableStackTrace) {
+        super(cause == null ? null : cause.toString(), cause, true, writableStackTrace);
     }
 
     /**
@@ -43,6 +43,6 @@ public final class CheckedErrorResultException extends Exception {
      * @return a {@link CheckedErrorResultException} containing the cause
      */
     static CheckedErrorResultException with(final Throwable cause) {
-        return new CheckedErrorResultException(cause);
+        return new CheckedErrorResultException(cause, !StacklessErrors.isEnabled());
     }
 }
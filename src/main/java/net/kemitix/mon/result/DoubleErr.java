@@ -0,0 +1,110 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.result;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * An error {@link DoubleResult}.
+ *
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ */
+@SuppressWarnings({"methodcount", "PMD.TooManyMethods"})
+class DoubleErr extends PrimitiveErr implements DoubleResult {
+
+    /**
+     * Creates a new error DoubleResult.
+     *
+     * @param error the error
+     */
+    DoubleErr(final Throwable error) {
+        super("DoubleResult", error);
+    }
+
+    @Override
+    public double orElseThrow() throws CheckedErrorResultException {
+        throw checkedException();
+    }
+
+    @Override
+    public double orElseThrowUnchecked() {
+        throw uncheckedException();
+    }
+
+    @Override
+    public DoubleResult map(final DoubleUnaryOperator f) {
+        return this;
+    }
+
+    @Override
+    public <R> Result<R> mapToObj(final DoubleFunction<R> f) {
+        return toResult();
+    }
+
+    @Override
+    public IntResult mapToInt(final DoubleToIntFunction f) {
+        return toIntResult();
+    }
+
+    @Override
+    public LongResult mapToLong(final DoubleToLongFunction f) {
+        return toLongResult();
+    }
+
+    @Override
+    public DoubleResult flatMap(final DoubleFunction<DoubleResult> f) {
+        return this;
+    }
+
+    @Override
+    public DoubleResult match(final DoubleConsumer onSuccess, final Consumer<Throwable> onError) {
+        onError.accept(error());
+        return this;
+    }
+
+    @Override
+    public DoubleResult onSuccess(final DoubleConsumer successConsumer) {
+        return this;
+    }
+
+    @Override
+    public DoubleResult recover(final Function<Throwable, DoubleResult> f) {
+        return f.apply(error());
+    }
+
+    @Override
+    public DoubleResult reduce(final DoubleResult identity, final DoubleBinaryOperator operator) {
+        return this;
+    }
+
+    @Override
+    public Result<Double> boxed() {
+        return toResult();
+    }
+}
@@ -0,0 +1,226 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.result;
+
+import org.apiguardian.api.API;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+/**
+ * A {@link Result} specialised for {@code double} values.
+ *
+ * <p>Holds either a {@code double} value or an error, without boxing the
+ * value.</p>
+ *
+ * <pre><code>
+ * DoubleResult total = DoubleResult.ok(1.0)
+ *                        .map(v -&gt; v * 2);
+ * Result&lt;String&gt; text = total.mapToObj(String::valueOf);
+ * </code></pre>
+ *
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ */
+@API(status = EXPERIMENTAL)
+@SuppressWarnings({"methodcount", "PMD.TooManyMethods"})
+public interface DoubleResult extends BaseResult {
+
+    /**
+     * Create a success double Result.
+     *
+     * @param value the value
+     * @return a successful DoubleResult
+     */
+    @API(status = EXPERIMENTAL)
+    static DoubleResult ok(final double value) {
+        return new DoubleSuccess(value);
+    }
+
+    /**
+     * Create an error double Result.
+     *
+     * @param error the error
+     * @return an error DoubleResult
+     */
+    @API(status = EXPERIMENTAL)
+    static DoubleResult error(final Throwable error) {
+        return new DoubleErr(error);
+    }
+
+    /**
+     * Extracts the successful value from the result, or throws a
+     * {@link CheckedErrorResultException} with the error as the cause.
+     *
+     * @return the value if a success
+     * @throws CheckedErrorResultException if the result is an error
+     * @see Result#orElseThrow()
+     */
+    @API(status = EXPERIMENTAL)
+    double orElseThrow() throws CheckedErrorResultException;
+
+    /**
+     * Returns the successful value from the result, or throws an
+     * {@link ErrorResultException} with the error as the cause.
+     *
+     * @return the value if a success
+     * @see Result#orElseThrowUnchecked()
+     */
+    @API(status = EXPERIMENTAL)
+    double orElseThrowUnchecked();
+
+    /**
+     * Applies the function to the value if this is a success.
+     *
+     * <p>If the function throws an exception, then an error is returned
+     * containing that exception.</p>
+     *
+     * @param f the function to apply
+     * @return a DoubleResult containing the function output, or an error
+     * @see Result#map(ThrowableFunction)
+     */
+    @API(status = EXPERIMENTAL)
+    DoubleResult map(DoubleUnaryOperator f);
+
+    /**
+     * Applies the function to the value if this is a success, returning the
+     * result in a {@link Result}.
+     *
+     * <p>If the function throws an exception, then an error is returned
+     * containing that exception.</p>
+     *
+     * @param f   the function to apply
+     * @param <R> the type of the value returned by the function
+     * @return a Result containing the function output, or an error
+     */
+    @API(status = EXPERIMENTAL)
+    <R> Result<R> mapToObj(DoubleFunction<R> f);
+
+    /**
+     * Applies the function to the value if this is a success, returning the
+     * result as an {@link IntResult}.
+     *
+     * <p>If the function throws an exception, then an error is returned
+     * containing that exception.</p>
+     *
+     * @param f the function to apply
+     * @return an IntResult containing the function output, or an error
+     */
+    @API(status = EXPERIMENTAL)
+    IntResult mapToInt(DoubleToIntFunction f);
+
+    /**
+     * Applies the function to the value if this is a success, returning the
+     * result as a {@link LongResult}.
+     *
+     * <p>If the function throws an exception, then an error is returned
+     * containing that exception.</p>
+     *
+     * @param f the function to apply
+     * @return a LongResult containing the function output, or an error
+     */
+    @API(status = EXPERIMENTAL)
+    LongResult mapToLong(DoubleToLongFunction f);
+
+    /**
+     * Applies the function to the value if this is a success and returns the
+     * result, otherwise returns the existing error.
+     *
+     * @param f the function that produces a DoubleResult
+     * @return a DoubleResult
+     * @see Result#flatMap(Function)
+     */
+    @API(status = EXPERIMENTAL)
+    DoubleResult flatMap(DoubleFunction<DoubleResult> f);
+
+    /**
+     * Matches the Result, either success or error, and supplies the
+     * appropriate Consumer with the value or error.
+     *
+     * @param onSuccess the Consumer to pass the value of a success to
+     * @param onError   the Consumer to pass the error from an error to
+     * @return the original DoubleResult
+     * @see Result#match(Consumer, Consumer)
+     */
+    @API(status = EXPERIMENTAL)
+    DoubleResult match(DoubleConsumer onSuccess, Consumer<Throwable> onError);
+
+    /**
+     * A handler for success states.
+     *
+     * @param successConsumer the consumer to handle the success
+     * @return the original DoubleResult
+     * @see Result#onSuccess(Consumer)
+     */
+    @API(status = EXPERIMENTAL)
+    DoubleResult onSuccess(DoubleConsumer successConsumer);
+
+    /**
+     * Attempts to restore an error to a success.
+     *
+     * @param f the function to recover from the error
+     * @return if this is an error, the result of the function, otherwise
+     * this DoubleResult
+     * @see Result#recover(Function)
+     */
+    @API(status = EXPERIMENTAL)
+    DoubleResult recover(Function<Throwable, DoubleResult> f);
+
+    /**
+     * Reduce two DoubleResults into one using the reducing function provided.
+     *
+     * <p>If either is an error, then the reduce will return the error. If both
+     * are errors, then the error of {@code this} will be returned.</p>
+     *
+     * @param identity the other DoubleResult
+     * @param operator the function to combine the values
+     * @return a DoubleResult containing the combination of the two values
+     * @see Result#reduce(Result, java.util.function.BinaryOperator)
+     */
+    @API(status = EXPERIMENTAL)
+    DoubleResult reduce(DoubleResult identity, DoubleBinaryOperator operator);
+
+    /**
+     * Converts into a {@link Result} of the boxed value.
+     *
+     * @return a Result
+     */
+    @API(status = EXPERIMENTAL)
+    Result<Double> boxed();
+
+    /**
+     * Discard any success value while retaining any error.
+     *
+     * @return A {@code SuccessVoid} for a success or an {@code ErrVoid} for an error
+     * @see Result#toVoid()
+     */
+    @API(status = EXPERIMENTAL)
+    ResultVoid toVoid();
+
+}
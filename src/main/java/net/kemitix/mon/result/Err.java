@@ -27,6 +27,9 @@ import java.util.Objects;
 import java.util.function.BinaryOperator;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * An Error Result.
@@ -65,6 +68,21 @@ class Err<T> implements Result<T> {
         return new Err<>(error);
     }
 
+    @Override
+    public IntResult mapToInt(final ToIntFunction<T> f) {
+        return new IntErr(error);
+    }
+
+    @Override
+    public LongResult mapToLong(final ToLongFunction<T> f) {
+        return new LongErr(error);
+    }
+
+    @Override
+    public DoubleResult mapToDouble(final ToDoubleFunction<T> f) {
+        return new DoubleErr(error);
+    }
+
     @Override
     public Result<T> match(final Consumer<T> onSuccess, final Consumer<Throwable> onError) {
         onError.accept(error);
@@ -32,8 +32,8 @@ public final class ErrorResultException extends RuntimeException {
 
     private static final long serialVersionUID = -949688489831104844L;
 
-    private ErrorResultException(final Throwable cause) {
-        super(cause);
+    private ErrorResultException(final Throwable cause, final boolean writableStackTrace) {
+        super(cause == null ? null : cause.toString(), cause, true, writableStackTrace);
     }
 
     /**
@@ -43,6 +43,6 @@ public final class ErrorResultException extends RuntimeException {
      * @return a {@link ErrorResultException} containing the cause
      */
     static ErrorResultException with(final Throwable cause) {
-        return new ErrorResultException(cause);
+        return new ErrorResultException(cause, !StacklessErrors.isEnabled());
     }
 }
@@ -0,0 +1,159 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.result;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * An {@link AsyncResult} backed by a {@link CompletableFuture}.
+ *
+ * <p>The future always completes normally with a {@link Result}. Any
+ * exception from a stage is converted into an error.</p>
+ *
+ * @param <T> the type of the result when a success
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ */
+@SuppressWarnings({"illegalcatch", "PMD.AvoidCatchingThrowable"})
+class FutureResult<T> implements AsyncResult<T> {
+
+    private final CompletableFuture<Result<T>> future;
+    private final Executor executor;
+
+    /**
+     * Creates a new AsyncResult from the future.
+     *
+     * @param future   the future Result, which may complete exceptionally
+     * @param executor the executor to run later steps on
+     */
+    FutureResult(final CompletableFuture<Result<T>> future, final Executor executor) {
+        this.future = future.handle(FutureResult::settle);
+        this.executor = executor;
+    }
+
+    /**
+     * Creates a new AsyncResult with a Result supplied by the executor.
+     *
+     * @param supplier the supplier of the Result
+     * @param executor the executor to call the supplier on, and run later steps on
+     * @param <T>      the type of the value
+     * @return an AsyncResult
+     */
+    static <T> AsyncResult<T> supply(final Supplier<Result<T>> supplier, final Executor executor) {
+        try {
+            return new FutureResult<>(CompletableFuture.supplyAsync(supplier, executor), executor);
+        } catch (Throwable e) {
+            return new FutureResult<>(CompletableFuture.completedFuture(new Err<>(e)), executor);
+        }
+    }
+
+    private static <T> Result<T> settle(final Result<T> result, final Throwable error) {
+        if (error == null) {
+            return result;
+        }
+        if (error instanceof CompletionException && error.getCause() != null) {
+            return new Err<>(error.getCause());
+        }
+        return new Err<>(error);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R> Result<R> castError(final Result<?> error) {
+        return (Result<R>) error;
+    }
+
+    private static Throwable errorOf(final Result<?> result) {
+        final AtomicReference<Throwable> error = new AtomicReference<>();
+        result.onError(error::set);
+        return error.get();
+    }
+
+    private <R> AsyncResult<R> next(final CompletableFuture<Result<R>> nextFuture) {
+        return new FutureResult<>(nextFuture, executor);
+    }
+
+    @Override
+    public <R> AsyncResult<R> map(final ThrowableFunction<T, R, ?> f) {
+        return next(future.thenApplyAsync(result -> result.map(f), executor));
+    }
+
+    @Override
+    public <R> AsyncResult<R> flatMap(final Function<T, AsyncResult<R>> f) {
+        return next(future.thenComposeAsync(result -> {
+            if (result.isOkay()) {
+                return f.apply(result.orElseThrowUnchecked()).toFuture();
+            }
+            return CompletableFuture.completedFuture(castError(result));
+        }, executor));
+    }
+
+    @Override
+    public AsyncResult<T> recover(final Function<Throwable, AsyncResult<T>> f) {
+        return next(future.thenComposeAsync(result -> {
+            if (result.isError()) {
+                return f.apply(errorOf(result)).toFuture();
+            }
+            return CompletableFuture.completedFuture(result);
+        }, executor));
+    }
+
+    @Override
+    public AsyncResult<T> onSuccess(final Consumer<T> successConsumer) {
+        return next(future.thenApplyAsync(result -> result.onSuccess(successConsumer), executor));
+    }
+
+    @Override
+    public AsyncResult<T> onError(final Consumer<Throwable> errorConsumer) {
+        return next(future.thenApplyAsync(result -> {
+            result.onError(errorConsumer);
+            return result;
+        }, executor));
+    }
+
+    @Override
+    public boolean isDone() {
+        return future.isDone();
+    }
+
+    @Override
+    public Result<T> toResult() {
+        return future.join();
+    }
+
+    @Override
+    public CompletableFuture<Result<T>> toFuture() {
+        return future.copy();
+    }
+
+    @Override
+    public String toString() {
+        if (future.isDone()) {
+            return String.format("AsyncResult{%s}", future.join());
+        }
+        return "AsyncResult{pending}";
+    }
+}
@@ -0,0 +1,159 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.result;
+
+import net.kemitix.mon.TypeReference;
+
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Runs an attempt, launching a duplicate if it is slow, and takes the first
+ * success.
+ *
+ * <p>Once there is a result, or the timeout has passed, any attempt that is
+ * still running is cancelled, interrupting the thread that runs it.</p>
+ *
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ */
+final class Hedge {
+
+    private final Executor executor;
+    private final LatencyTracker latencies;
+
+    /**
+     * Creates a new Hedge.
+     *
+     * @param executor  the executor to run the attempts
+     * @param latencies the tracker of recent latencies
+     */
+    Hedge(final Executor executor, final LatencyTracker latencies) {
+        this.executor = executor;
+        this.latencies = latencies;
+    }
+
+    /**
+     * Runs the callable, and again if it has not completed after the delay.
+     *
+     * <p>The first success is returned, and the other attempt is cancelled.
+     * If every launched attempt fails, then the error from the last to fail
+     * is returned. If there is no result before the timeout, then the
+     * attempts are cancelled and the error is a {@link TimeoutException}.</p>
+     *
+     * @param callable the callable
+     * @param clock    the clock
+     * @param timeout  the longest time to wait for a result, in nanoseconds
+     * @param <T>      the type of the value
+     * @return the Result of the first success, or an error
+     */
+    <T> Result<T> run(final Callable<T> callable, final RetryClock clock, final long timeout) {
+        final CompletableFuture<Result<T>> winner = new CompletableFuture<>();
+        final AtomicInteger running = new AtomicInteger(1);
+        final Queue<FutureTask<T>> attempts = new ConcurrentLinkedQueue<>();
+        launch(callable, clock, winner, running, attempts);
+        clock.schedule(() -> {
+            if (!winner.isDone() && running.getAndUpdate(n -> n == 0 ? 0 : n + 1) > 0) {
+                launch(callable, clock, winner, running, attempts);
+            }
+        }, latencies.delay());
+        try {
+            return winner.get(timeout, NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Result.error(TypeReference.create(), e);
+        } catch (TimeoutException e) {
+            return Result.error(TypeReference.create(), e);
+        } catch (ExecutionException e) {
+            return Result.error(TypeReference.create(), e.getCause());
+        } finally {
+            winner.cancel(false);
+            attempts.forEach(attempt -> attempt.cancel(true));
+        }
+    }
+
+    private <T> void launch(
+            final Callable<T> callable,
+            final RetryClock clock,
+            final CompletableFuture<Result<T>> winner,
+            final AtomicInteger running,
+            final Queue<FutureTask<T>> attempts
+    ) {
+        final long launched = clock.nanoTime();
+        final FutureTask<T> attempt = new FutureTask<>(callable) {
+            @Override
+            protected void done() {
+                finished(this, clock.nanoTime() - launched, winner, running);
+            }
+        };
+        attempts.add(attempt);
+        if (winner.isDone()) {
+            attempt.cancel(true);
+            return;
+        }
+        try {
+            executor.execute(attempt);
+        } catch (RejectedExecutionException e) {
+            failed(Result.error(TypeReference.create(), e), winner, running);
+        }
+    }
+
+    private <T> void finished(
+            final FutureTask<T> attempt,
+            final long latency,
+            final CompletableFuture<Result<T>> winner,
+            final AtomicInteger running
+    ) {
+        if (attempt.isCancelled()) {
+            return;
+        }
+        try {
+            final T value = attempt.get();
+            latencies.record(latency);
+            winner.complete(Result.ok(value));
+        } catch (ExecutionException e) {
+            failed(Result.error(TypeReference.create(), e.getCause()), winner, running);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failed(Result.error(TypeReference.create(), e), winner, running);
+        }
+    }
+
+    private static <T> void failed(
+            final Result<T> result,
+            final CompletableFuture<Result<T>> winner,
+            final AtomicInteger running
+    ) {
+        if (running.decrementAndGet() == 0) {
+            winner.complete(result);
+        }
+    }
+}
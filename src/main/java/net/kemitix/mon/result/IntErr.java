@@ -0,0 +1,110 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.result;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * An error {@link IntResult}.
+ *
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ */
+@SuppressWarnings({"methodcount", "PMD.TooManyMethods"})
+class IntErr extends PrimitiveErr implements IntResult {
+
+    /**
+     * Creates a new error IntResult.
+     *
+     * @param error the error
+     */
+    IntErr(final Throwable error) {
+        super("IntResult", error);
+    }
+
+    @Override
+    public int orElseThrow() throws CheckedErrorResultException {
+        throw checkedException();
+    }
+
+    @Override
+    public int orElseThrowUnchecked() {
+        throw uncheckedException();
+    }
+
+    @Override
+    public IntResult map(final IntUnaryOperator f) {
+        return this;
+    }
+
+    @Override
+    public <R> Result<R> mapToObj(final IntFunction<R> f) {
+        return toResult();
+    }
+
+    @Override
+    public LongResult mapToLong(final IntToLongFunction f) {
+        return toLongResult();
+    }
+
+    @Override
+    public DoubleResult mapToDouble(final IntToDoubleFunction f) {
+        return toDoubleResult();
+    }
+
+    @Override
+    public IntResult flatMap(final IntFunction<IntResult> f) {
+        return this;
+    }
+
+    @Override
+    public IntResult match(final IntConsumer onSuccess, final Consumer<Throwable> onError) {
+        onError.accept(error());
+        return this;
+    }
+
+    @Override
+    public IntResult onSuccess(final IntConsumer successConsumer) {
+        return this;
+    }
+
+    @Override
+    public IntResult recover(final Function<Throwable, IntResult> f) {
+        return f.apply(error());
+    }
+
+    @Override
+    public IntResult reduce(final IntResult identity, final IntBinaryOperator operator) {
+        return this;
+    }
+
+    @Override
+    public Result<Integer> boxed() {
+        return toResult();
+    }
+}
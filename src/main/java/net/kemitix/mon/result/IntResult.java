@@ -0,0 +1,226 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.result;
+
+import org.apiguardian.api.API;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntUnaryOperator;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+/**
+ * A {@link Result} specialised for {@code int} values.
+ *
+ * <p>Holds either an {@code int} value or an error, without boxing the
+ * value.</p>
+ *
+ * <pre><code>
+ * IntResult total = IntResult.ok(1)
+ *                        .map(v -&gt; v * 2);
+ * Result&lt;String&gt; text = total.mapToObj(String::valueOf);
+ * </code></pre>
+ *
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ */
+@API(status = EXPERIMENTAL)
+@SuppressWarnings({"methodcount", "PMD.TooManyMethods"})
+public interface IntResult extends BaseResult {
+
+    /**
+     * Create a success int Result.
+     *
+     * @param value the value
+     * @return a successful IntResult
+     */
+    @API(status = EXPERIMENTAL)
+    static IntResult ok(final int value) {
+        return new IntSuccess(value);
+    }
+
+    /**
+     * Create an error int Result.
+     *
+     * @param error the error
+     * @return an error IntResult
+     */
+    @API(status = EXPERIMENTAL)
+    static IntResult error(final Throwable error) {
+        return new IntErr(error);
+    }
+
+    /**
+     * Extracts the successful value from the result, or throws a
+     * {@link CheckedErrorResultException} with the error as the cause.
+     *
+     * @return the value if a success
+     * @throws CheckedErrorResultException if the result is an error
+     * @see Result#orElseThrow()
+     */
+    @API(status = EXPERIMENTAL)
+    int orElseThrow() throws CheckedErrorResultException;
+
+    /**
+     * Returns the successful value from the result, or throws an
+     * {@link ErrorResultException} with the error as the cause.
+     *
+     * @return the value if a success
+     * @see Result#orElseThrowUnchecked()
+     */
+    @API(status = EXPERIMENTAL)
+    int orElseThrowUnchecked();
+
+    /**
+     * Applies the function to the value if this is a success.
+     *
+     * <p>If the function throws an exception, then an error is returned
+     * containing that exception.</p>
+     *
+     * @param f the function to apply
+     * @return an IntResult containing the function output, or an error
+     * @see Result#map(ThrowableFunction)
+     */
+    @API(status = EXPERIMENTAL)
+    IntResult map(IntUnaryOperator f);
+
+    /**
+     * Applies the function to the value if this is a success, returning the
+     * result in a {@link Result}.
+     *
+     * <p>If the function throws an exception, then an error is returned
+     * containing that exception.</p>
+     *
+     * @param f   the function to apply
+     * @param <R> the type of the value returned by the function
+     * @return a Result containing the function output, or an error
+     */
+    @API(status = EXPERIMENTAL)
+    <R> Result<R> mapToObj(IntFunction<R> f);
+
+    /**
+     * Applies the function to the value if this is a success, returning the
+     * result as a {@link LongResult}.
+     *
+     * <p>If the function throws an exception, then an error is returned
+     * containing that exception.</p>
+     *
+     * @param f the function to apply
+     * @return a LongResult containing the function output, or an error
+     */
+    @API(status = EXPERIMENTAL)
+    LongResult mapToLong(IntToLongFunction f);
+
+    /**
+     * Applies the function to the value if this is a success, returning the
+     * result as a {@link DoubleResult}.
+     *
+     * <p>If the function throws an exception, then an error is returned
+     * containing that exception.</p>
+     *
+     * @param f the function to apply
+     * @return a DoubleResult containing the function output, or an error
+     */
+    @API(status = EXPERIMENTAL)
+    DoubleResult mapToDouble(IntToDoubleFunction f);
+
+    /**
+     * Applies the function to the value if this is a success and returns the
+     * result, otherwise returns the existing error.
+     *
+     * @param f the function that produces an IntResult
+     * @return an IntResult
+     * @see Result#flatMap(Function)
+     */
+    @API(status = EXPERIMENTAL)
+    IntResult flatMap(IntFunction<IntResult> f);
+
+    /**
+     * Matches the Result, either success or error, and supplies the
+     * appropriate Consumer with the value or error.
+     *
+     * @param onSuccess the Consumer to pass the value of a success to
+     * @param onError   the Consumer to pass the error from an error to
+     * @return the original IntResult
+     * @see Result#match(Consumer, Consumer)
+     */
+    @API(status = EXPERIMENTAL)
+    IntResult match(IntConsumer onSuccess, Consumer<Throwable> onError);
+
+    /**
+     * A handler for success states.
+     *
+     * @param successConsumer the consumer to handle the success
+     * @return the original IntResult
+     * @see Result#onSuccess(Consumer)
+     */
+    @API(status = EXPERIMENTAL)
+    IntResult onSuccess(IntConsumer successConsumer);
+
+    /**
+     * Attempts to restore an error to a success.
+     *
+     * @param f the function to recover from the error
+     * @return if this is an error, the result of the function, otherwise
+     * this IntResult
+     * @see Result#recover(Function)
+     */
+    @API(status = EXPERIMENTAL)
+    IntResult recover(Function<Throwable, IntResult> f);
+
+    /**
+     * Reduce two IntResults into one using the reducing function provided.
+     *
+     * <p>If either is an error, then the reduce will return the error. If both
+     * are errors, then the error of {@code this} will be returned.</p>
+     *
+     * @param identity the other IntResult
+     * @param operator the function to combine the values
+     * @return an IntResult containing the combination of the two values
+     * @see Result#reduce(Result, java.util.function.BinaryOperator)
+     */
+    @API(status = EXPERIMENTAL)
+    IntResult reduce(IntResult identity, IntBinaryOperator operator);
+
+    /**
+     * Converts into a {@link Result} of the boxed value.
+     *
+     * @return a Result
+     */
+    @API(status = EXPERIMENTAL)
+    Result<Integer> boxed();
+
+    /**
+     * Discard any success value while retaining any error.
+     *
+     * @return A {@code SuccessVoid} for a success or an {@code ErrVoid} for an error
+     * @see Result#toVoid()
+     */
+    @API(status = EXPERIMENTAL)
+    ResultVoid toVoid();
+
+}
@@ -0,0 +1,170 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.result;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * A successful {@link IntResult}.
+ *
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ */
+@SuppressWarnings({"methodcount", "PMD.TooManyMethods", "illegalcatch", "PMD.AvoidCatchingThrowable"})
+class IntSuccess implements IntResult {
+
+    private final int value;
+
+    /**
+     * Creates a new successful IntResult.
+     *
+     * @param value the value
+     */
+    IntSuccess(final int value) {
+        this.value = value;
+    }
+
+    @Override
+    public boolean isError() {
+        return false;
+    }
+
+    @Override
+    public boolean isOkay() {
+        return true;
+    }
+
+    @Override
+    public int orElseThrow() {
+        return value;
+    }
+
+    @Override
+    public int orElseThrowUnchecked() {
+        return value;
+    }
+
+    @Override
+    public IntResult map(final IntUnaryOperator f) {
+        try {
+            return new IntSuccess(f.applyAsInt(value));
+        } catch (Throwable e) {
+            return new IntErr(e);
+        }
+    }
+
+    @Override
+    public <R> Result<R> mapToObj(final IntFunction<R> f) {
+        try {
+            return SuccessCache.of(f.apply(value));
+        } catch (Throwable e) {
+            return new Err<>(e);
+        }
+    }
+
+    @Override
+    public LongResult mapToLong(final IntToLongFunction f) {
+        try {
+            return new LongSuccess(f.applyAsLong(value));
+        } catch (Throwable e) {
+            return new LongErr(e);
+        }
+    }
+
+    @Override
+    public DoubleResult mapToDouble(final IntToDoubleFunction f) {
+        try {
+            return new DoubleSuccess(f.applyAsDouble(value));
+        } catch (Throwable e) {
+            return new DoubleErr(e);
+        }
+    }
+
+    @Override
+    public IntResult flatMap(final IntFunction<IntResult> f) {
+        return f.apply(value);
+    }
+
+    @Override
+    public IntResult match(final IntConsumer onSuccess, final Consumer<Throwable> onError) {
+        onSuccess.accept(value);
+        return this;
+    }
+
+    @Override
+    public IntResult onSuccess(final IntConsumer successConsumer) {
+        successConsumer.accept(value);
+        return this;
+    }
+
+    @Override
+    public void onError(final Consumer<Throwable> errorConsumer) {
+        // do nothing - this is not an error
+    }
+
+    @Override
+    public IntResult recover(final Function<Throwable, IntResult> f) {
+        return this;
+    }
+
+    @Override
+    public IntResult reduce(final IntResult identity, final IntBinaryOperator operator) {
+        return identity.flatMap(other -> {
+            try {
+                return new IntSuccess(operator.applyAsInt(value, other));
+            } catch (Throwable e) {
+                return new IntErr(e);
+            }
+        });
+    }
+
+    @Override
+    public Result<Integer> boxed() {
+        return SuccessCache.of(value);
+    }
+
+    @Override
+    public ResultVoid toVoid() {
+        return SuccessVoid.getInstance();
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return other instanceof IntSuccess && Integer.compare(value, ((IntSuccess) other).value) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(value);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("IntResult.Success{value=%s}", value);
+    }
+}
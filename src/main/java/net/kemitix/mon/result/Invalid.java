@@ -0,0 +1,121 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.result;
+
+import lombok.RequiredArgsConstructor;
+import net.kemitix.mon.TypeReference;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * An invalid Validation.
+ *
+ * @param <T> the type of the value, had it been valid
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ */
+@RequiredArgsConstructor
+class Invalid<T> implements Validation<T> {
+
+    private final ValidationErrors errors;
+
+    /**
+     * The errors of an invalid Validation.
+     *
+     * @param validation the invalid Validation
+     * @return the errors
+     */
+    static ValidationErrors errorsOf(final Validation<?> validation) {
+        if (validation instanceof Invalid) {
+            return ((Invalid<?>) validation).errors;
+        }
+        return ValidationErrors.of(validation.errors());
+    }
+
+    @Override
+    public boolean isValid() {
+        return false;
+    }
+
+    @Override
+    public boolean isInvalid() {
+        return true;
+    }
+
+    @Override
+    public List<Throwable> errors() {
+        return errors.toList();
+    }
+
+    @Override
+    public <R> Validation<R> map(final ThrowableFunction<T, R, ?> f) {
+        return new Invalid<>(errors);
+    }
+
+    @Override
+    public <R> Validation<R> flatMap(final Function<T, Validation<R>> f) {
+        return new Invalid<>(errors);
+    }
+
+    @Override
+    public <U, R> Validation<R> combine(final Validation<U> other, final BiFunction<T, U, R> f) {
+        if (other.isValid()) {
+            return new Invalid<>(errors);
+        }
+        return new Invalid<>(errors.append(errorsOf(other)));
+    }
+
+    @Override
+    public Validation<T> and(final Validation<?> check) {
+        if (check.isValid()) {
+            return this;
+        }
+        return new Invalid<>(errors.append(errorsOf(check)));
+    }
+
+    @Override
+    public void match(final Consumer<T> onValid, final Consumer<List<Throwable>> onInvalid) {
+        onInvalid.accept(errors.toList());
+    }
+
+    @Override
+    public Result<T> toResult() {
+        return Result.error(TypeReference.create(), ValidationException.with(errors.toList()));
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return other instanceof Invalid && errors.equals(((Invalid<?>) other).errors);
+    }
+
+    @Override
+    public int hashCode() {
+        return errors.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Validation.Invalid{errors=%s}", errors);
+    }
+}
@@ -0,0 +1,87 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.result;
+
+import java.util.Arrays;
+
+/**
+ * Tracks recent latencies to find the delay before a hedged attempt.
+ *
+ * <p>Keeps the most recent successful latencies in a ring buffer and
+ * recalculates the percentile after every few new samples. Until enough
+ * samples have been seen, the initial delay is used.</p>
+ *
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ */
+final class LatencyTracker {
+
+    private static final int SAMPLES = 128;
+    private static final int MIN_SAMPLES = 16;
+    private static final int RECALCULATE_EVERY = 16;
+    private static final double HUNDRED = 100.0;
+
+    private final double percentile;
+    private final long initialNanos;
+    private final long[] samples = new long[SAMPLES];
+    private long count;
+    private long calculatedAt;
+    private long delay;
+
+    /**
+     * Creates a new tracker.
+     *
+     * @param percentile   the percentile of recent latencies to use, from 0 to 100
+     * @param initialNanos the delay to use until enough latencies are known
+     */
+    LatencyTracker(final double percentile, final long initialNanos) {
+        this.percentile = percentile;
+        this.initialNanos = initialNanos;
+        this.delay = initialNanos;
+    }
+
+    /**
+     * Record the latency of a successful attempt.
+     *
+     * @param nanos the latency in nanoseconds
+     */
+    synchronized void record(final long nanos) {
+        samples[(int) (count % SAMPLES)] = nanos;
+        count++;
+    }
+
+    /**
+     * The delay before launching a hedged attempt.
+     *
+     * @return the delay in nanoseconds
+     */
+    synchronized long delay() {
+        if (count >= MIN_SAMPLES && count - calculatedAt >= RECALCULATE_EVERY) {
+            final int size = (int) Math.min(count, SAMPLES);
+            final long[] sorted = Arrays.copyOf(samples, size);
+            Arrays.sort(sorted);
+            final int index = (int) Math.ceil(percentile / HUNDRED * size) - 1;
+            delay = sorted[Math.max(0, Math.min(size - 1, index))];
+            calculatedAt = count;
+        }
+        return count < MIN_SAMPLES ? initialNanos : delay;
+    }
+}
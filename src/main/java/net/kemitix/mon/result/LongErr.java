@@ -0,0 +1,110 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.result;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * An error {@link LongResult}.
+ *
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ */
+@SuppressWarnings({"methodcount", "PMD.TooManyMethods"})
+class LongErr extends PrimitiveErr implements LongResult {
+
+    /**
+     * Creates a new error LongResult.
+     *
+     * @param error the error
+     */
+    LongErr(final Throwable error) {
+        super("LongResult", error);
+    }
+
+    @Override
+    public long orElseThrow() throws CheckedErrorResultException {
+        throw checkedException();
+    }
+
+    @Override
+    public long orElseThrowUnchecked() {
+        throw uncheckedException();
+    }
+
+    @Override
+    public LongResult map(final LongUnaryOperator f) {
+        return this;
+    }
+
+    @Override
+    public <R> Result<R> mapToObj(final LongFunction<R> f) {
+        return toResult();
+    }
+
+    @Override
+    public IntResult mapToInt(final LongToIntFunction f) {
+        return toIntResult();
+    }
+
+    @Override
+    public DoubleResult mapToDouble(final LongToDoubleFunction f) {
+        return toDoubleResult();
+    }
+
+    @Override
+    public LongResult flatMap(final LongFunction<LongResult> f) {
+        return this;
+    }
+
+    @Override
+    public LongResult match(final LongConsumer onSuccess, final Consumer<Throwable> onError) {
+        onError.accept(error());
+        return this;
+    }
+
+    @Override
+    public LongResult onSuccess(final LongConsumer successConsumer) {
+        return this;
+    }
+
+    @Override
+    public LongResult recover(final Function<Throwable, LongResult> f) {
+        return f.apply(error());
+    }
+
+    @Override
+    public LongResult reduce(final LongResult identity, final LongBinaryOperator operator) {
+        return this;
+    }
+
+    @Override
+    public Result<Long> boxed() {
+        return toResult();
+    }
+}
@@ -0,0 +1,170 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.result;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * A successful {@link LongResult}.
+ *
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ */
+@SuppressWarnings({"methodcount", "PMD.TooManyMethods", "illegalcatch", "PMD.AvoidCatchingThrowable"})
+class LongSuccess implements LongResult {
+
+    private final long value;
+
+    /**
+     * Creates a new successful LongResult.
+     *
+     * @param value the value
+     */
+    LongSuccess(final long value) {
+        this.value = value;
+    }
+
+    @Override
+    public boolean isError() {
+        return false;
+    }
+
+    @Override
+    public boolean isOkay() {
+        return true;
+    }
+
+    @Override
+    public long orElseThrow() {
+        return value;
+    }
+
+    @Override
+    public long orElseThrowUnchecked() {
+        return value;
+    }
+
+    @Override
+    public LongResult map(final LongUnaryOperator f) {
+        try {
+            return new LongSuccess(f.applyAsLong(value));
+        } catch (Throwable e) {
+            return new LongErr(e);
+        }
+    }
+
+    @Override
+    public <R> Result<R> mapToObj(final LongFunction<R> f) {
+        try {
+            return SuccessCache.of(f.apply(value));
+        } catch (Throwable e) {
+            return new Err<>(e);
+        }
+    }
+
+    @Override
+    public IntResult mapToInt(final LongToIntFunction f) {
+        try {
+            return new IntSuccess(f.applyAsInt(value));
+        } catch (Throwable e) {
+            return new IntErr(e);
+        }
+    }
+
+    @Override
+    public DoubleResult mapToDouble(final LongToDoubleFunction f) {
+        try {
+            return new DoubleSuccess(f.applyAsDouble(value));
+        } catch (Throwable e) {
+            return new DoubleErr(e);
+        }
+    }
+
+    @Override
+    public LongResult flatMap(final LongFunction<LongResult> f) {
+        return f.apply(value);
+    }
+
+    @Override
+    public LongResult match(final LongConsumer onSuccess, final Consumer<Throwable> onError) {
+        onSuccess.accept(value);
+        return this;
+    }
+
+    @Override
+    public LongResult onSuccess(final LongConsumer successConsumer) {
+        successConsumer.accept(value);
+        return this;
+    }
+
+    @Override
+    public void onError(final Consumer<Throwable> errorConsumer) {
+        // do nothing - this is not an error
+    }
+
+    @Override
+    public LongResult recover(final Function<Throwable, LongResult> f) {
+        return this;
+    }
+
+    @Override
+    public LongResult reduce(final LongResult identity, final LongBinaryOperator operator) {
+        return identity.flatMap(other -> {
+            try {
+                return new LongSuccess(operator.applyAsLong(value, other));
+            } catch (Throwable e) {
+                return new LongErr(e);
+            }
+        });
+    }
+
+    @Override
+    public Result<Long> boxed() {
+        return new Success<>(value);
+    }
+
+    @Override
+    public ResultVoid toVoid() {
+        return SuccessVoid.getInstance();
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return other instanceof LongSuccess && Long.compare(value, ((LongSuccess) other).value) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(value);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("LongResult.Success{value=%s}", value);
+    }
+}
@@ -0,0 +1,157 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.result;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * The error side shared by {@link IntErr}, {@link LongErr} and
+ * {@link DoubleErr}.
+ *
+ * <p>Holds the error and provides the behaviour that does not depend on the
+ * type of the value, including converting to an error of each of the other
+ * result types.</p>
+ *
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ */
+abstract class PrimitiveErr implements BaseResult {
+
+    private final String type;
+    private final Throwable error;
+
+    /**
+     * Creates a new error result.
+     *
+     * @param type  the name of the result type, for {@link #toString()}
+     * @param error the error
+     */
+    PrimitiveErr(final String type, final Throwable error) {
+        this.type = type;
+        this.error = error;
+    }
+
+    /**
+     * The error.
+     *
+     * @return the error
+     */
+    Throwable error() {
+        return error;
+    }
+
+    /**
+     * The exception thrown by {@code orElseThrow()}.
+     *
+     * @return the exception with the error as the cause
+     */
+    CheckedErrorResultException checkedException() {
+        return CheckedErrorResultException.with(error);
+    }
+
+    /**
+     * The exception thrown by {@code orElseThrowUnchecked()}.
+     *
+     * @return the exception with the error as the cause
+     */
+    ErrorResultException uncheckedException() {
+        return ErrorResultException.with(error);
+    }
+
+    /**
+     * The error as a Result.
+     *
+     * @param <R> the type of the value, had it been a success
+     * @return an error Result
+     */
+    <R> Result<R> toResult() {
+        return new Err<>(error);
+    }
+
+    /**
+     * The error as an IntResult.
+     *
+     * @return an error IntResult
+     */
+    IntResult toIntResult() {
+        return new IntErr(error);
+    }
+
+    /**
+     * The error as a LongResult.
+     *
+     * @return an error LongResult
+     */
+    LongResult toLongResult() {
+        return new LongErr(error);
+    }
+
+    /**
+     * The error as a DoubleResult.
+     *
+     * @return an error DoubleResult
+     */
+    DoubleResult toDoubleResult() {
+        return new DoubleErr(error);
+    }
+
+    @Override
+    public boolean isError() {
+        return true;
+    }
+
+    @Override
+    public boolean isOkay() {
+        return false;
+    }
+
+    @Override
+    public void onError(final Consumer<Throwable> errorConsumer) {
+        errorConsumer.accept(error);
+    }
+
+    /**
+     * Discards the missing value while retaining the error.
+     *
+     * @return an {@code ErrVoid} with the error
+     */
+    public ResultVoid toVoid() {
+        return new ErrVoid(error);
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return other != null
+                && other.getClass() == getClass()
+                && Objects.equals(error, ((PrimitiveErr) other).error);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(error);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s.Error{error=%s}", type, error);
+    }
+}
@@ -28,9 +28,16 @@ import net.kemitix.mon.experimental.either.Either;
 import net.kemitix.mon.maybe.Maybe;
 import org.apiguardian.api.API;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.PrimitiveIterator;
 import java.util.concurrent.Callable;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.*;
+import java.util.stream.Collector;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static org.apiguardian.api.API.Status.*;
@@ -85,7 +92,7 @@ public interface Result<T> extends BaseResult, ThrowableFunctor<T, ThrowableFunc
      */
     @API(status = STABLE)
     static <R> Result<R> ok(final R value) {
-        return new Success<>(value);
+        return SuccessCache.of(value);
     }
 
     /**
@@ -226,6 +233,25 @@ public interface Result<T> extends BaseResult, ThrowableFunctor<T, ThrowableFunc
                 .orElseGet(() -> new Err<>(error.get()));
     }
 
+    /**
+     * Create an empty {@link ResultPipeline}, to which {@code map} functions
+     * can be added and later run as a single step.
+     *
+     * <pre><code>
+     * ResultPipeline&lt;String, Integer&gt; parse = Result.&lt;String&gt;pipeline()
+     *                                              .map(String::trim)
+     *                                              .map(Integer::parseInt);
+     * Result&lt;Integer&gt; result = parse.run(" 42 ");
+     * </code></pre>
+     *
+     * @param <T> the type of the value the pipeline will be run with
+     * @return an empty pipeline
+     */
+    @API(status = EXPERIMENTAL)
+    static <T> ResultPipeline<T, T> pipeline() {
+        return ResultPipeline.empty();
+    }
+
     // END Static Constructors
     // BEGIN Static methods
 
@@ -293,6 +319,126 @@ public interface Result<T> extends BaseResult, ThrowableFunctor<T, ThrowableFunc
         return acc.get();
     }
 
+    /**
+     * Applies a function to a stream of {@code int} values, folding the
+     * results using the zero value and accumulator function, without boxing.
+     *
+     * <p>If any value results in an error when applying the function or the
+     * accumulator, then processing stops and an {@code IntResult} containing
+     * that error is returned.</p>
+     *
+     * <pre><code>
+     * IntResult total = Result.applyOver(IntStream.of(1, 2, 3), v -&gt; v * 2, 0, Integer::sum);
+     * // IntResult.Success{value=12}
+     * </code></pre>
+     *
+     * @param stream      the values to apply the function to
+     * @param f           the function to apply to the values
+     * @param zero        the initial value to use with the accumulator
+     * @param accumulator the function to combine function outputs together
+     * @return a success of the accumulated function outputs, or an error for
+     * the first value that failed.
+     * @see #applyOver(Stream, Function, Object, BiFunction)
+     */
+    @API(status = EXPERIMENTAL)
+    static IntResult applyOver(
+            IntStream stream,
+            IntUnaryOperator f,
+            int zero,
+            IntBinaryOperator accumulator
+    ) {
+        final PrimitiveIterator.OfInt iterator = stream.iterator();
+        int acc = zero;
+        try {
+            while (iterator.hasNext()) {
+                acc = accumulator.applyAsInt(f.applyAsInt(iterator.nextInt()), acc);
+            }
+        } catch (final Throwable e) {
+            return IntResult.error(e);
+        }
+        return IntResult.ok(acc);
+    }
+
+    /**
+     * Applies a function to a stream of {@code long} values, folding the
+     * results using the zero value and accumulator function, without boxing.
+     *
+     * <p>If any value results in an error when applying the function or the
+     * accumulator, then processing stops and a {@code LongResult} containing
+     * that error is returned.</p>
+     *
+     * <pre><code>
+     * LongResult total = Result.applyOver(LongStream.of(1, 2, 3), v -&gt; v * 2, 0, Long::sum);
+     * // LongResult.Success{value=12}
+     * </code></pre>
+     *
+     * @param stream      the values to apply the function to
+     * @param f           the function to apply to the values
+     * @param zero        the initial value to use with the accumulator
+     * @param accumulator the function to combine function outputs together
+     * @return a success of the accumulated function outputs, or an error for
+     * the first value that failed.
+     * @see #applyOver(Stream, Function, Object, BiFunction)
+     */
+    @API(status = EXPERIMENTAL)
+    static LongResult applyOver(
+            LongStream stream,
+            LongUnaryOperator f,
+            long zero,
+            LongBinaryOperator accumulator
+    ) {
+        final PrimitiveIterator.OfLong iterator = stream.iterator();
+        long acc = zero;
+        try {
+            while (iterator.hasNext()) {
+                acc = accumulator.applyAsLong(f.applyAsLong(iterator.nextLong()), acc);
+            }
+        } catch (final Throwable e) {
+            return LongResult.error(e);
+        }
+        return LongResult.ok(acc);
+    }
+
+    /**
+     * Applies a function to a stream of {@code double} values, folding the
+     * results using the zero value and accumulator function, without boxing.
+     *
+     * <p>If any value results in an error when applying the function or the
+     * accumulator, then processing stops and a {@code DoubleResult} containing
+     * that error is returned.</p>
+     *
+     * <pre><code>
+     * DoubleResult total = Result.applyOver(DoubleStream.of(1, 2, 3), v -&gt; v * 2, 0, Double::sum);
+     * // DoubleResult.Success{value=12}
+     * </code></pre>
+     *
+     * @param stream      the values to apply the function to
+     * @param f           the function to apply to the values
+     * @param zero        the initial value to use with the accumulator
+     * @param accumulator the function to combine function outputs together
+     * @return a success of the accumulated function outputs, or an error for
+     * the first value that failed.
+     * @see #applyOver(Stream, Function, Object, BiFunction)
+     */
+    @API(status = EXPERIMENTAL)
+    static DoubleResult applyOver(
+            DoubleStream stream,
+            DoubleUnaryOperator f,
+            double zero,
+            DoubleBinaryOperator accumulator
+    ) {
+        final PrimitiveIterator.OfDouble iterator = stream.iterator();
+        double acc = zero;
+        try {
+            while (iterator.hasNext()) {
+                acc = accumulator.applyAsDouble(f.applyAsDouble(iterator.nextDouble()), acc);
+            }
+        } catch (final Throwable e) {
+            return DoubleResult.error(e);
+        }
+        return DoubleResult.ok(acc);
+    }
+
     /**
      * Applies a consumer to a stream of values.
      *
@@ -423,6 +569,241 @@ public interface Result<T> extends BaseResult, ThrowableFunctor<T, ThrowableFunc
         return acc.get();
     }
 
+    /**
+     * Applies a function to a list of values in parallel, folding the results
+     * using the zero value and accumulator function.
+     *
+     * <p>A parallel version of
+     * {@link #applyOver(Stream, Function, Object, BiFunction)}. The list is
+     * split into ranges that are processed using the common
+     * {@link java.util.concurrent.ForkJoinPool}, and the partial results of
+     * each range are then combined using the accumulator.</p>
+     *
+     * <p>Each range starts from {@code zero}, so it must be an identity value
+     * for the accumulator, which must be associative and free of
+     * side-effects. The function may be called from several threads at once.</p>
+     *
+     * <p>If any value results in an error, then ranges after it are skipped
+     * and the error {@code Result} for the first value that failed, in list
+     * order, is returned.</p>
+     *
+     * <pre><code>
+     * List&lt;String&gt; values = List.of("aa", "bb");
+     * Result&lt;Integer&gt; result = Result.parallelApplyOver(values, String::length, 0, Integer::sum);
+     * // Success{value=4}
+     * </code></pre>
+     *
+     * @param values      the values to apply the function to
+     * @param f           the function to apply to the values
+     * @param zero        the identity value for the accumulator
+     * @param accumulator the function to combine function outputs together
+     * @param <N>         the type of the values
+     * @param <R>         the type of the output value
+     * @return a Success Result of the accumulated function outputs if all
+     * values were transformed successfully by the function, or an Err Result
+     * for the first value that failed.
+     */
+    @API(status = EXPERIMENTAL)
+    static <N, R> Result<R> parallelApplyOver(
+            List<N> values,
+            Function<N, R> f,
+            R zero,
+            BiFunction<R, R, R> accumulator
+    ) {
+        return ApplyOverTask.invoke(values, n -> Result.of(() -> f.apply(n)), zero, accumulator);
+    }
+
+    /**
+     * Applies a consumer to a list of values in parallel.
+     *
+     * <p>A parallel version of {@link #applyOver(Stream, Consumer)}. The
+     * consumer may be called from several threads at once.</p>
+     *
+     * <p>If any value results in an error, then values after it may be
+     * skipped and the error {@code Result} for the first value that failed,
+     * in list order, is returned. Values after the first error may have been
+     * consumed by other threads before the error was seen.</p>
+     *
+     * @param values   the value to supply to the consumer
+     * @param consumer the consumer to receive the values
+     * @param <N>      the type of the values
+     * @return a Success Result (with no value) if all values were consumed
+     * successfully, or an Err Result for the first value that failed.
+     */
+    @API(status = EXPERIMENTAL)
+    static <N> ResultVoid parallelApplyOver(
+            List<N> values,
+            Consumer<N> consumer
+    ) {
+        return parallelApplyOver(values, n -> {
+            consumer.accept(n);
+            return null;
+        }, null, (unused1, unused2) -> null)
+                .toVoid();
+    }
+
+    /**
+     * Applies a function to a list of values in parallel, folding the results
+     * using the zero value and accumulator function.
+     *
+     * <p>A parallel version of
+     * {@link #flatApplyOver(Stream, Function, Object, BiFunction)}, with the
+     * same requirements as
+     * {@link #parallelApplyOver(List, Function, Object, BiFunction)}.</p>
+     *
+     * <pre><code>
+     * List&lt;String&gt; values = List.of("aa", "bb");
+     * Result&lt;Integer&gt; result = Result.parallelFlatApplyOver(values,
+     *         s -&gt; Result.of(() -&gt; s.length()), 0, Integer::sum);
+     * // Success{value=4}
+     * </code></pre>
+     *
+     * @param values      the values to apply the function to
+     * @param f           the function to apply to the values
+     * @param zero        the identity value for the accumulator
+     * @param accumulator the function to combine function outputs together
+     * @param <T>         the type of the values
+     * @param <R>         the type of the output value
+     * @return a Success Result of the accumulated function outputs if all
+     * values were transformed successfully by the function, or an Err Result
+     * for the first value that failed.
+     */
+    @API(status = EXPERIMENTAL)
+    static <T, R> Result<R> parallelFlatApplyOver(
+            List<T> values,
+            Function<T, Result<R>> f,
+            R zero,
+            BiFunction<R, R, R> accumulator
+    ) {
+        return ApplyOverTask.invoke(values, f, zero, accumulator);
+    }
+
+    /**
+     * Converts a collection of {@code Result}s into a {@code Result} of a
+     * list of their values.
+     *
+     * <p>Returns a success containing the values, in iteration order, if all
+     * the {@code Result}s are successes, or the first error. Stops at the
+     * first error.</p>
+     *
+     * <pre><code>
+     * List&lt;Result&lt;Integer&gt;&gt; results = List.of(Result.ok(1), Result.ok(2));
+     * Result&lt;List&lt;Integer&gt;&gt; result = Result.sequence(results);
+     * // Success{value=[1, 2]}
+     * </code></pre>
+     *
+     * @param results the Results
+     * @param <T>     the type of the values
+     * @return a Success containing a new list of the values, or the first error
+     */
+    @API(status = EXPERIMENTAL)
+    static <T> Result<List<T>> sequence(final Collection<Result<T>> results) {
+        final ResultListAccumulator<T> accumulator = new ResultListAccumulator<>(results.size());
+        for (final Result<T> result : results) {
+            accumulator.add(result);
+            if (accumulator.isError()) {
+                break;
+            }
+        }
+        return accumulator.toResult();
+    }
+
+    /**
+     * Applies a function to each item of a collection, and converts the
+     * resulting {@code Result}s into a {@code Result} of a list of their
+     * values.
+     *
+     * <p>Returns a success containing the values, in iteration order, if the
+     * function returns a success for every item, or the first error. The
+     * function is not called for any items after the first error.</p>
+     *
+     * <pre><code>
+     * List&lt;String&gt; values = List.of("1", "2");
+     * Result&lt;List&lt;Integer&gt;&gt; result = Result.traverse(values,
+     *         s -&gt; Result.of(() -&gt; Integer.parseInt(s)));
+     * // Success{value=[1, 2]}
+     * </code></pre>
+     *
+     * @param items the items
+     * @param f     the function to apply to each item
+     * @param <T>   the type of the items
+     * @param <R>   the type of the values
+     * @return a Success containing a new list of the values, or the first error
+     */
+    @API(status = EXPERIMENTAL)
+    static <T, R> Result<List<R>> traverse(
+            final Collection<T> items,
+            final Function<T, Result<R>> f
+    ) {
+        final ResultListAccumulator<R> accumulator = new ResultListAccumulator<>(items.size());
+        for (final T item : items) {
+            accumulator.add(f, item);
+            if (accumulator.isError()) {
+                break;
+            }
+        }
+        return accumulator.toResult();
+    }
+
+    /**
+     * A {@link Collector} that converts a stream of {@code Result}s into a
+     * {@code Result} of a list of their values.
+     *
+     * <p>The {@code Collector} result is a success containing the values, in
+     * encounter order, if all the {@code Result}s are successes, or the first
+     * error in encounter order. May be used with parallel streams.</p>
+     *
+     * <pre><code>
+     * Result&lt;List&lt;Integer&gt;&gt; result = Stream.of(Result.ok(1), Result.ok(2))
+     *         .collect(Result.sequenceCollector());
+     * // Success{value=[1, 2]}
+     * </code></pre>
+     *
+     * @param <T> the type of the values
+     * @return a Collector
+     */
+    @API(status = EXPERIMENTAL)
+    static <T> Collector<Result<T>, ?, Result<List<T>>> sequenceCollector() {
+        return Collector.of(
+                ResultListAccumulator<T>::new,
+                ResultListAccumulator::add,
+                ResultListAccumulator::combine,
+                ResultListAccumulator::toResult);
+    }
+
+    /**
+     * A {@link Collector} that applies a function to each item of a stream,
+     * and converts the resulting {@code Result}s into a {@code Result} of a
+     * list of their values.
+     *
+     * <p>The {@code Collector} result is a success containing the values, in
+     * encounter order, if the function returns a success for every item, or
+     * the first error in encounter order. Once an error is found, the function
+     * is not called for the remaining items given to the same container. May
+     * be used with parallel streams.</p>
+     *
+     * <pre><code>
+     * Result&lt;List&lt;Integer&gt;&gt; result = Stream.of("1", "2")
+     *         .collect(Result.traverseCollector(s -&gt; Result.of(() -&gt; Integer.parseInt(s))));
+     * // Success{value=[1, 2]}
+     * </code></pre>
+     *
+     * @param f   the function to apply to each item
+     * @param <T> the type of the items
+     * @param <R> the type of the values
+     * @return a Collector
+     */
+    @API(status = EXPERIMENTAL)
+    static <T, R> Collector<T, ?, Result<List<R>>> traverseCollector(
+            final Function<T, Result<R>> f
+    ) {
+        return Collector.of(
+                ResultListAccumulator<R>::new,
+                (ResultListAccumulator<R> accumulator, T item) -> accumulator.add(f, item),
+                ResultListAccumulator::combine,
+                ResultListAccumulator::toResult);
+    }
+
     /**
      * Applies the function to the contents of a {@link Maybe} within the {@code Result}.
      *
@@ -472,6 +853,40 @@ public interface Result<T> extends BaseResult, ThrowableFunctor<T, ThrowableFunc
         }
     }
 
+    /**
+     * Enables or disables stackless errors.
+     *
+     * <p>When enabled, the exceptions thrown by {@link #orElseThrow()},
+     * {@link #orElseThrow(Class)} and {@link #orElseThrowUnchecked()} to wrap
+     * an error do not capture their own stack trace. The original error is
+     * still their cause, with its stack trace intact. This makes the error
+     * path much cheaper where those exceptions are thrown often.</p>
+     *
+     * <p>Disabled by default. The initial setting can also be given with the
+     * system property {@code net.kemitix.mon.result.stackless=true}.</p>
+     *
+     * <pre><code>
+     * Result.stacklessErrors(true);
+     * </code></pre>
+     *
+     * @param enabled true to stop the wrapping exceptions capturing a stack trace
+     */
+    @API(status = EXPERIMENTAL)
+    static void stacklessErrors(final boolean enabled) {
+        StacklessErrors.setEnabled(enabled);
+    }
+
+    /**
+     * Checks if stackless errors are enabled.
+     *
+     * @return true if the wrapping exceptions do not capture a stack trace
+     * @see #stacklessErrors(boolean)
+     */
+    @API(status = EXPERIMENTAL)
+    static boolean isStacklessErrors() {
+        return StacklessErrors.isEnabled();
+    }
+
     // END Static methods
 
     /**
@@ -626,6 +1041,63 @@ public interface Result<T> extends BaseResult, ThrowableFunctor<T, ThrowableFunc
     @API(status = STABLE)
     <R> Result<R> map(ThrowableFunction<T, R, ?> f);
 
+    /**
+     * Applies the function to the value within the {@code Result}, returning
+     * the result within an {@link IntResult}, without boxing it.
+     *
+     * <p>If the function throws an exception, then an error
+     * {@code IntResult} will be returned containing that exception.</p>
+     *
+     * <pre><code>
+     * IntResult length = Result.of(() -&gt; getValue())
+     *                          .mapToInt(v -&gt; v.length());
+     * </code></pre>
+     *
+     * @param f the function to apply
+     * @return An {@code IntResult} containing either the original error, the
+     * function output, or any exception thrown by the supplied function.
+     */
+    @API(status = EXPERIMENTAL)
+    IntResult mapToInt(ToIntFunction<T> f);
+
+    /**
+     * Applies the function to the value within the {@code Result}, returning
+     * the result within a {@link LongResult}, without boxing it.
+     *
+     * <p>If the function throws an exception, then an error
+     * {@code LongResult} will be returned containing that exception.</p>
+     *
+     * <pre><code>
+     * LongResult length = Result.of(() -&gt; getValue())
+     *                          .mapToLong(v -&gt; v.length());
+     * </code></pre>
+     *
+     * @param f the function to apply
+     * @return A {@code LongResult} containing either the original error, the
+     * function output, or any exception thrown by the supplied function.
+     */
+    @API(status = EXPERIMENTAL)
+    LongResult mapToLong(ToLongFunction<T> f);
+
+    /**
+     * Applies the function to the value within the {@code Result}, returning
+     * the result within a {@link DoubleResult}, without boxing it.
+     *
+     * <p>If the function throws an exception, then an error
+     * {@code DoubleResult} will be returned containing that exception.</p>
+     *
+     * <pre><code>
+     * DoubleResult length = Result.of(() -&gt; getValue())
+     *                          .mapToDouble(v -&gt; v.length());
+     * </code></pre>
+     *
+     * @param f the function to apply
+     * @return A {@code DoubleResult} containing either the original error, the
+     * function output, or any exception thrown by the supplied function.
+     */
+    @API(status = EXPERIMENTAL)
+    DoubleResult mapToDouble(ToDoubleFunction<T> f);
+
     /**
      * Matches the Result, either success or error, and supplies the appropriate
      * Consumer with the value or error.
@@ -0,0 +1,130 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.result;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Mutable container used to sequence Results into a Result of a List.
+ *
+ * <p>Collects the values of successful Results until the first error is
+ * added. Anything added after that is ignored.</p>
+ *
+ * @param <T> the type of the values
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ */
+class ResultListAccumulator<T> {
+
+    private final List<T> values;
+    private Throwable error;
+
+    /**
+     * Creates an empty accumulator.
+     */
+    ResultListAccumulator() {
+        values = new ArrayList<>();
+    }
+
+    /**
+     * Creates an empty accumulator with room for the expected number of values.
+     *
+     * @param expectedSize the expected number of values
+     */
+    ResultListAccumulator(final int expectedSize) {
+        values = new ArrayList<>(expectedSize);
+    }
+
+    /**
+     * Checks if an error has been added.
+     *
+     * @return true if an error has been added
+     */
+    boolean isError() {
+        return error != null;
+    }
+
+    /**
+     * Adds the value, or error, of the Result, unless an error has already been added.
+     *
+     * @param result the Result to add
+     */
+    void add(final Result<T> result) {
+        if (isError()) {
+            return;
+        }
+        if (result.isOkay()) {
+            values.add(result.orElseThrowUnchecked());
+        } else {
+            result.onError(this::setError);
+        }
+    }
+
+    /**
+     * Applies the function to the item and adds the Result, unless an error
+     * has already been added, in which case the function is not called.
+     *
+     * @param f    the function to create the Result
+     * @param item the item to apply the function to
+     * @param <N>  the type of the item
+     */
+    <N> void add(final Function<N, Result<T>> f, final N item) {
+        if (!isError()) {
+            add(f.apply(item));
+        }
+    }
+
+    private void setError(final Throwable throwable) {
+        error = throwable;
+    }
+
+    /**
+     * Combines with another accumulator that follows this one in encounter order.
+     *
+     * @param other the following accumulator
+     * @return the combined accumulator, holding the first error of either
+     */
+    ResultListAccumulator<T> combine(final ResultListAccumulator<T> other) {
+        if (isError()) {
+            return this;
+        }
+        if (other.isError()) {
+            return other;
+        }
+        values.addAll(other.values);
+        return this;
+    }
+
+    /**
+     * Creates the final Result.
+     *
+     * @return a Success containing the values, or an Err with the first error
+     */
+    Result<List<T>> toResult() {
+        if (isError()) {
+            return new Err<>(error);
+        }
+        return new Success<>(values);
+    }
+
+}
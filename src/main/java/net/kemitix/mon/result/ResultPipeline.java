@@ -0,0 +1,131 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.result;
+
+import org.apiguardian.api.API;
+
+import java.util.Arrays;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+/**
+ * A deferred chain of {@code map} functions that can be run to produce a
+ * {@link Result}.
+ *
+ * <p>Where {@link Result#map(ThrowableFunction)} creates a new {@code Result}
+ * for each step, a pipeline records the functions and runs them all in a
+ * single loop when {@link #run(Object)} is called. Only the final
+ * {@code Result} is created.</p>
+ *
+ * <p>A pipeline is immutable and may be reused, and shared between threads.
+ * Build it once and run it for each value.</p>
+ *
+ * <pre><code>
+ * private static final ResultPipeline&lt;String, Integer&gt; PARSE =
+ *         Result.&lt;String&gt;pipeline()
+ *               .map(String::trim)
+ *               .map(Integer::parseInt)
+ *               .map(v -&gt; v * 2);
+ *
+ * Result&lt;Integer&gt; okay = PARSE.run(" 21 ");  // Success{value=42}
+ * Result&lt;Integer&gt; error = PARSE.run("x");   // Error{error=NumberFormatException}
+ * </code></pre>
+ *
+ * @param <T> the type of the value the pipeline is run with
+ * @param <R> the type of the value in the Result produced
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ */
+@API(status = EXPERIMENTAL)
+public final class ResultPipeline<T, R> {
+
+    private static final ResultPipeline<?, ?> EMPTY = new ResultPipeline<>(new ThrowableFunction<?, ?, ?>[0]);
+
+    private final ThrowableFunction<?, ?, ?>[] stages;
+
+    private ResultPipeline(final ThrowableFunction<?, ?, ?>[] stages) {
+        this.stages = stages;
+    }
+
+    /**
+     * The pipeline with no functions.
+     *
+     * @param <T> the type of the value
+     * @return the empty pipeline
+     */
+    @SuppressWarnings("unchecked")
+    static <T> ResultPipeline<T, T> empty() {
+        return (ResultPipeline<T, T>) EMPTY;
+    }
+
+    /**
+     * Creates a new pipeline that applies the function after those already
+     * in this pipeline.
+     *
+     * @param f   the function to apply
+     * @param <S> the type of the value returned by the function
+     * @return a new pipeline
+     */
+    public <S> ResultPipeline<T, S> map(final ThrowableFunction<R, S, ?> f) {
+        final ThrowableFunction<?, ?, ?>[] next = Arrays.copyOf(stages, stages.length + 1);
+        next[stages.length] = f;
+        return new ResultPipeline<>(next);
+    }
+
+    /**
+     * Runs each function in turn, starting with the value.
+     *
+     * <p>If a function throws an exception, then no further functions are
+     * applied and an error {@code Result} containing that exception is
+     * returned.</p>
+     *
+     * @param value the value to give to the first function
+     * @return a success containing the output of the last function, or an
+     * error
+     */
+    @SuppressWarnings({"unchecked", "rawtypes", "illegalcatch", "PMD.AvoidCatchingThrowable"})
+    public Result<R> run(final T value) {
+        Object current = value;
+        try {
+            for (final ThrowableFunction stage : stages) {
+                current = stage.apply(current);
+            }
+        } catch (Throwable e) {
+            return new Err<>(e);
+        }
+        return SuccessCache.of((R) current);
+    }
+
+    /**
+     * Runs the pipeline with the value of the {@code Result}, if it is a
+     * success.
+     *
+     * <p>Named apart from {@link #run(Object)} so that a pipeline whose input
+     * is itself a {@code Result} is not ambiguous.</p>
+     *
+     * @param result the Result to take the value from
+     * @return the Result of the pipeline, or the original error
+     */
+    public Result<R> runResult(final Result<T> result) {
+        return result.flatMap(this::run);
+    }
+
+}
@@ -0,0 +1,304 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.result;
+
+import net.kemitix.mon.TypeReference;
+import org.apiguardian.api.API;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+/**
+ * A policy for retrying a {@link Callable} until it succeeds.
+ *
+ * <p>Each attempt is made with {@link Result#of(Callable)}, and an error is
+ * {@link Result#recover(java.util.function.Function) recovered} by waiting
+ * and making another attempt, until the attempts or the deadline run
+ * out.</p>
+ *
+ * <pre><code>
+ * Retry retry = Retry.exponential(5, Duration.ofMillis(10), Duration.ofSeconds(1))
+ *                    .withJitter(0.5)
+ *                    .withDeadline(Duration.ofSeconds(3));
+ * Result&lt;Response&gt; response = retry.run(() -&gt; client.call(request));
+ * </code></pre>
+ *
+ * <p>With {@link #withHedging(Executor, double, Duration)}, each attempt is
+ * run on an executor and, if it has not completed after a percentile of the
+ * recent latencies, a duplicate is launched. The first success is used.
+ * With a deadline, the wait for a hedged attempt is limited to what is left
+ * of the budget.</p>
+ *
+ * <p>A {@code Retry} is immutable, except that a hedging {@code Retry}
+ * records the latencies of its successful attempts. Share one instance for
+ * each downstream service.</p>
+ *
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ */
+@API(status = EXPERIMENTAL)
+@SuppressWarnings("PMD.TooManyMethods")
+public final class Retry {
+
+    private static final long NO_DEADLINE = Long.MAX_VALUE;
+    private static final int MAX_SHIFT = 62;
+
+    private final int maxAttempts;
+    private final long initialDelay;
+    private final long maxDelay;
+    private final boolean exponential;
+    private final double jitter;
+    private final long deadline;
+    private final Predicate<Throwable> retryOn;
+    private final RetryClock clock;
+    private final Hedge hedge;
+
+    @SuppressWarnings({"parameternumber", "PMD.ExcessiveParameterList"})
+    private Retry(
+            final int maxAttempts,
+            final long initialDelay,
+            final long maxDelay,
+            final boolean exponential,
+            final double jitter,
+            final long deadline,
+            final Predicate<Throwable> retryOn,
+            final RetryClock clock,
+            final Hedge hedge
+    ) {
+        this.maxAttempts = maxAttempts;
+        this.initialDelay = initialDelay;
+        this.maxDelay = maxDelay;
+        this.exponential = exponential;
+        this.jitter = jitter;
+        this.deadline = deadline;
+        this.retryOn = retryOn;
+        this.clock = clock;
+        this.hedge = hedge;
+    }
+
+    /**
+     * Create a policy that waits the same delay between each attempt.
+     *
+     * @param maxAttempts the maximum number of attempts, including the first
+     * @param delay       the delay between attempts
+     * @return the policy
+     */
+    @API(status = EXPERIMENTAL)
+    public static Retry fixed(final int maxAttempts, final Duration delay) {
+        final long nanos = delay.toNanos();
+        return new Retry(attempts(maxAttempts), nanos, nanos, false, 0,
+                NO_DEADLINE, e -> true, RetryClock.system(), null);
+    }
+
+    /**
+     * Create a policy that doubles the delay after each attempt, up to a
+     * maximum.
+     *
+     * @param maxAttempts  the maximum number of attempts, including the first
+     * @param initialDelay the delay before the second attempt
+     * @param maxDelay     the longest delay between attempts
+     * @return the policy
+     */
+    @API(status = EXPERIMENTAL)
+    public static Retry exponential(final int maxAttempts, final Duration initialDelay, final Duration maxDelay) {
+        return new Retry(attempts(maxAttempts), initialDelay.toNanos(), maxDelay.toNanos(), true, 0,
+                NO_DEADLINE, e -> true, RetryClock.system(), null);
+    }
+
+    private static int attempts(final int maxAttempts) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be at least 1: " + maxAttempts);
+        }
+        return maxAttempts;
+    }
+
+    /**
+     * Reduce each delay by a random amount, up to the factor of the delay.
+     *
+     * <p>Spreads out the retries from many callers that failed at the same
+     * time. The random amount comes from the {@link RetryClock#random()
+     * clock}.</p>
+     *
+     * @param factor the largest reduction, from 0 (none) to 1 (the whole delay)
+     * @return the policy with jitter
+     */
+    @API(status = EXPERIMENTAL)
+    public Retry withJitter(final double factor) {
+        if (factor < 0 || factor > 1) {
+            throw new IllegalArgumentException("factor must be from 0 to 1: " + factor);
+        }
+        return new Retry(maxAttempts, initialDelay, maxDelay, exponential, factor,
+                deadline, retryOn, clock, hedge);
+    }
+
+    /**
+     * Stop retrying when the next attempt would start after the budget,
+     * measured from the start of the first attempt.
+     *
+     * <p>With {@link #withHedging(Executor, double, Duration) hedging}, an
+     * attempt that is still running when the budget runs out is cancelled,
+     * and the error is a {@link java.util.concurrent.TimeoutException}.
+     * Without hedging, each attempt runs on the calling thread and is not cut
+     * short, so the budget is only checked between attempts.</p>
+     *
+     * @param budget the total time allowed
+     * @return the policy with a deadline
+     */
+    @API(status = EXPERIMENTAL)
+    public Retry withDeadline(final Duration budget) {
+        return new Retry(maxAttempts, initialDelay, maxDelay, exponential, jitter,
+                budget.toNanos(), retryOn, clock, hedge);
+    }
+
+    /**
+     * Only retry errors that match the predicate.
+     *
+     * <p>Other errors are returned immediately. By default, every error is
+     * retried.</p>
+     *
+     * @param predicate the test for errors to retry
+     * @return the policy with the predicate
+     */
+    @API(status = EXPERIMENTAL)
+    public Retry withRetryOn(final Predicate<Throwable> predicate) {
+        return new Retry(maxAttempts, initialDelay, maxDelay, exponential, jitter,
+                deadline, predicate, clock, hedge);
+    }
+
+    /**
+     * Use the clock to measure time, wait between attempts, schedule hedged
+     * attempts and jitter delays.
+     *
+     * @param retryClock the clock
+     * @return the policy with the clock
+     */
+    @API(status = EXPERIMENTAL)
+    public Retry withClock(final RetryClock retryClock) {
+        return new Retry(maxAttempts, initialDelay, maxDelay, exponential, jitter,
+                deadline, retryOn, retryClock, hedge);
+    }
+
+    /**
+     * Run each attempt on the executor, launching a duplicate when it is
+     * slower than the percentile of recent latencies.
+     *
+     * <p>Until enough latencies have been recorded, the initial delay is
+     * used. The first success from either attempt is used, and the other
+     * attempt is cancelled by interrupting it. The attempt only fails if both
+     * fail.</p>
+     *
+     * @param executor     the executor to run the attempts
+     * @param percentile   the percentile of recent latencies, from 0 to 100, e.g. 95
+     * @param initialDelay the delay before launching a duplicate until enough
+     *                     latencies are known
+     * @return the policy with hedging
+     */
+    @API(status = EXPERIMENTAL)
+    public Retry withHedging(final Executor executor, final double percentile, final Duration initialDelay) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile must be from 0 to 100: " + percentile);
+        }
+        return new Retry(maxAttempts, this.initialDelay, maxDelay, exponential, jitter,
+                deadline, retryOn, clock,
+                new Hedge(executor, new LatencyTracker(percentile, initialDelay.toNanos())));
+    }
+
+    /**
+     * Calls the callable until it succeeds, or the attempts or deadline run
+     * out.
+     *
+     * <p>If the thread is interrupted while waiting, then no further attempts
+     * are made and the error is the {@link InterruptedException}.</p>
+     *
+     * @param callable the callable to attempt
+     * @param <T>      the type of the value
+     * @return a success from the first successful attempt, or the error from
+     * the last attempt
+     */
+    @API(status = EXPERIMENTAL)
+    public <T> Result<T> run(final Callable<T> callable) {
+        return attempt(callable, 1, clock.nanoTime());
+    }
+
+    private <T> Result<T> attempt(final Callable<T> callable, final int attempt, final long start) {
+        return once(callable, start)
+                .recover(error -> retry(callable, error, attempt, start));
+    }
+
+    private <T> Result<T> once(final Callable<T> callable, final long start) {
+        if (hedge == null) {
+            return Result.of(callable);
+        }
+        return hedge.run(callable, clock, remaining(start));
+    }
+
+    private long remaining(final long start) {
+        if (deadline == NO_DEADLINE) {
+            return NO_DEADLINE;
+        }
+        return Math.max(0, deadline - (clock.nanoTime() - start));
+    }
+
+    private <T> Result<T> retry(
+            final Callable<T> callable,
+            final Throwable error,
+            final int attempt,
+            final long start
+    ) {
+        if (attempt >= maxAttempts || error instanceof InterruptedException || !retryOn.test(error)) {
+            return Result.error(TypeReference.create(), error);
+        }
+        final long delay = delay(attempt);
+        if (clock.nanoTime() - start > deadline - delay) {
+            return Result.error(TypeReference.create(), error);
+        }
+        try {
+            clock.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Result.error(TypeReference.create(), e);
+        }
+        return attempt(callable, attempt + 1, start);
+    }
+
+    /**
+     * The delay after the attempt, before the next one.
+     *
+     * @param attempt the attempt that failed, starting from 1
+     * @return the delay in nanoseconds
+     */
+    long delay(final int attempt) {
+        long delay = initialDelay;
+        if (exponential) {
+            final int shift = Math.min(attempt - 1, MAX_SHIFT);
+            delay = initialDelay > maxDelay >> shift ? maxDelay : initialDelay << shift;
+        }
+        if (jitter > 0) {
+            delay -= (long) (delay * jitter * clock.random());
+        }
+        return delay;
+    }
+
+}
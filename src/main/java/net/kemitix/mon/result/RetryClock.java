@@ -0,0 +1,92 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.result;
+
+import org.apiguardian.api.API;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+/**
+ * The source of time, and of the randomness for jitter, used by
+ * {@link Retry}.
+ *
+ * <p>Replace the {@link #system()} clock with a fake one to test retries,
+ * jitter and hedging without waiting.</p>
+ *
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ */
+@API(status = EXPERIMENTAL)
+public interface RetryClock {
+
+    /**
+     * The clock backed by {@link System#nanoTime()}, {@link Thread#sleep(long)}
+     * and {@link java.util.concurrent.CompletableFuture#delayedExecutor}.
+     *
+     * @return the system clock
+     */
+    @API(status = EXPERIMENTAL)
+    static RetryClock system() {
+        return SystemRetryClock.INSTANCE;
+    }
+
+    /**
+     * The current time, as with {@link System#nanoTime()}.
+     *
+     * @return the current time in nanoseconds
+     */
+    @API(status = EXPERIMENTAL)
+    long nanoTime();
+
+    /**
+     * Blocks the current thread for the delay.
+     *
+     * @param nanos the delay in nanoseconds
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    @API(status = EXPERIMENTAL)
+    void sleep(long nanos) throws InterruptedException;
+
+    /**
+     * Runs the task once the delay has passed, without blocking the current
+     * thread.
+     *
+     * @param task       the task to run
+     * @param delayNanos the delay in nanoseconds
+     */
+    @API(status = EXPERIMENTAL)
+    void schedule(Runnable task, long delayNanos);
+
+    /**
+     * A random number used to jitter delays.
+     *
+     * <p>Defaults to {@link ThreadLocalRandom}.</p>
+     *
+     * @return a random number from 0 (inclusive) to 1 (exclusive)
+     */
+    @API(status = EXPERIMENTAL)
+    default double random() {
+        return ThreadLocalRandom.current().nextDouble();
+    }
+
+}
@@ -0,0 +1,66 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.result;
+
+/**
+ * Holds the setting for whether the exceptions thrown by the
+ * {@code orElseThrow} methods of an {@link Err} capture their own stack trace.
+ *
+ * <p>The exceptions always have the original error as their cause, which
+ * retains its own stack trace. Skipping the stack trace of the wrapper makes
+ * throwing it much cheaper.</p>
+ *
+ * <p>Disabled by default. Enable with the system property
+ * {@value #PROPERTY}{@code =true}, or {@link Result#stacklessErrors(boolean)}.</p>
+ *
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ */
+final class StacklessErrors {
+
+    /**
+     * The system property used to set the initial value.
+     */
+    static final String PROPERTY = "net.kemitix.mon.result.stackless";
+
+    private static volatile boolean enabled = Boolean.getBoolean(PROPERTY);
+
+    private StacklessErrors() {
+    }
+
+    /**
+     * Checks if stackless errors are enabled.
+     *
+     * @return true if the wrapper exceptions should not capture a stack trace
+     */
+    static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enables or disables stackless errors.
+     *
+     * @param stackless true to stop wrapper exceptions capturing a stack trace
+     */
+    static void setEnabled(final boolean stackless) {
+        enabled = stackless;
+    }
+}
@@ -27,6 +27,9 @@ import java.util.Objects;
 import java.util.function.BinaryOperator;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * A Successful Result.
@@ -54,12 +57,42 @@ class Success<T> implements Result<T> {
     @SuppressWarnings({"illegalcatch", "PMD.AvoidCatchingThrowable"})
     public <R> Result<R> map(final ThrowableFunction<T, R, ?> f) {
         try {
-            return new Success<>(f.apply(value));
+            return SuccessCache.of(f.apply(value));
         } catch (Throwable e) {
             return new Err<>(e);
         }
     }
 
+    @Override
+    @SuppressWarnings({"illegalcatch", "PMD.AvoidCatchingThrowable"})
+    public IntResult mapToInt(final ToIntFunction<T> f) {
+        try {
+            return new IntSuccess(f.applyAsInt(value));
+        } catch (Throwable e) {
+            return new IntErr(e);
+        }
+    }
+
+    @Override
+    @SuppressWarnings({"illegalcatch", "PMD.AvoidCatchingThrowable"})
+    public LongResult mapToLong(final ToLongFunction<T> f) {
+        try {
+            return new LongSuccess(f.applyAsLong(value));
+        } catch (Throwable e) {
+            return new LongErr(e);
+        }
+    }
+
+    @Override
+    @SuppressWarnings({"illegalcatch", "PMD.AvoidCatchingThrowable"})
+    public DoubleResult mapToDouble(final ToDoubleFunction<T> f) {
+        try {
+            return new DoubleSuccess(f.applyAsDouble(value));
+        } catch (Throwable e) {
+            return new DoubleErr(e);
+        }
+    }
+
     @Override
     public Result<T> match(final Consumer<T> onSuccess, final Consumer<Throwable> onError) {
         onSuccess.accept(value);
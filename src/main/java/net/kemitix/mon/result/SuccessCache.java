@@ -0,0 +1,115 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.result;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Canonical {@link Success} instances for common immutable values.
+ *
+ * <p>As with {@link Integer#valueOf(int)}, {@link Boolean}s, {@link Integer}s
+ * from -128 to 127, the empty {@link String} and the JDK's shared empty
+ * {@link Optional}, {@link List}, {@link Set} and {@link Map} instances
+ * always give the same {@code Success}. Other values get a new
+ * {@code Success}.</p>
+ *
+ * <p>Empty collections are only matched by identity, so a mutable empty
+ * collection is never shared.</p>
+ *
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ */
+final class SuccessCache {
+
+    private static final int LOW = -128;
+    private static final int HIGH = 127;
+
+    private static final Result<?> TRUE = new Success<>(Boolean.TRUE);
+    private static final Result<?> FALSE = new Success<>(Boolean.FALSE);
+    private static final Result<?> EMPTY_STRING = new Success<>("");
+    private static final Result<?> EMPTY_OPTIONAL = new Success<>(Optional.empty());
+    private static final Result<?> EMPTY_LIST = new Success<>(Collections.emptyList());
+    private static final Result<?> EMPTY_SET = new Success<>(Collections.emptySet());
+    private static final Result<?> EMPTY_MAP = new Success<>(Collections.emptyMap());
+    private static final Result<?> EMPTY_LIST_OF = new Success<>(List.of());
+    private static final Result<?> EMPTY_SET_OF = new Success<>(Set.of());
+    private static final Result<?> EMPTY_MAP_OF = new Success<>(Map.of());
+    private static final Result<?>[] INTEGERS = new Result<?>[HIGH - LOW + 1];
+
+    static {
+        for (int i = 0; i < INTEGERS.length; i++) {
+            INTEGERS[i] = new Success<>(i + LOW);
+        }
+    }
+
+    private SuccessCache() {
+    }
+
+    /**
+     * A successful Result for the value, shared if the value is common.
+     *
+     * @param value the value
+     * @param <T>   the type of the value
+     * @return a successful Result
+     */
+    @SuppressWarnings({"unchecked", "PMD.CyclomaticComplexity"})
+    static <T> Result<T> of(final T value) {
+        final Result<?> cached;
+        if (value instanceof Boolean) {
+            cached = (Boolean) value ? TRUE : FALSE;
+        } else if (value instanceof Integer) {
+            final int i = (Integer) value;
+            cached = i >= LOW && i <= HIGH ? INTEGERS[i - LOW] : null;
+        } else if (value instanceof String) {
+            cached = ((String) value).isEmpty() ? EMPTY_STRING : null;
+        } else {
+            cached = cachedEmpty(value);
+        }
+        if (cached == null) {
+            return new Success<>(value);
+        }
+        return (Result<T>) cached;
+    }
+
+    @SuppressWarnings({"PMD.CompareObjectsWithEquals", "PMD.CyclomaticComplexity"})
+    private static Result<?> cachedEmpty(final Object value) {
+        if (value == Optional.empty()) {
+            return EMPTY_OPTIONAL;
+        } else if (value == Collections.emptyList()) {
+            return EMPTY_LIST;
+        } else if (value == Collections.emptySet()) {
+            return EMPTY_SET;
+        } else if (value == Collections.emptyMap()) {
+            return EMPTY_MAP;
+        } else if (value == List.of()) {
+            return EMPTY_LIST_OF;
+        } else if (value == Set.of()) {
+            return EMPTY_SET_OF;
+        } else if (value == Map.of()) {
+            return EMPTY_MAP_OF;
+        }
+        return null;
+    }
+}
@@ -33,8 +33,8 @@ public final class UnexpectedErrorResultException extends RuntimeException {
 
     private static final long serialVersionUID = 959355287011172256L;
 
-    private UnexpectedErrorResultException(final Throwable cause) {
-        super(cause);
+    private UnexpectedErrorResultException(final Throwable cause, final boolean writableStackTrace) {
+        super(cause == null ? null : cause.toString(), cause, true, writableStackTrace);
     }
 
     /**
@@ -44,6 +44,6 @@ public final class UnexpectedErrorResultException extends RuntimeException {
      * @return a {@link UnexpectedErrorResultException} containing the cause
      */
     static UnexpectedErrorResultException with(final Throwable cause) {
-        return new UnexpectedErrorResultException(cause);
+        return new UnexpectedErrorResultException(cause, !StacklessErrors.isEnabled());
     }
 }
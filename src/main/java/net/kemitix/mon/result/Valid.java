@@ -0,0 +1,136 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.result;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A valid Validation.
+ *
+ * @param <T> the type of the value
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ */
+@RequiredArgsConstructor
+class Valid<T> implements Validation<T> {
+
+    private final T value;
+
+    /**
+     * The value of a valid Validation.
+     *
+     * <p>Other implementations of {@link Validation} give their value through
+     * {@link Validation#toResult()}.</p>
+     *
+     * @param validation the valid Validation
+     * @param <T>        the type of the value
+     * @return the value
+     */
+    static <T> T valueOf(final Validation<T> validation) {
+        if (validation instanceof Valid) {
+            return ((Valid<T>) validation).value;
+        }
+        return validation.toResult().orElseThrowUnchecked();
+    }
+
+    @Override
+    public boolean isValid() {
+        return true;
+    }
+
+    @Override
+    public boolean isInvalid() {
+        return false;
+    }
+
+    @Override
+    public List<Throwable> errors() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    @SuppressWarnings({"illegalcatch", "PMD.AvoidCatchingThrowable"})
+    public <R> Validation<R> map(final ThrowableFunction<T, R, ?> f) {
+        try {
+            return new Valid<>(f.apply(value));
+        } catch (Throwable e) {
+            return Validation.invalid(e);
+        }
+    }
+
+    @Override
+    public <R> Validation<R> flatMap(final Function<T, Validation<R>> f) {
+        return f.apply(value);
+    }
+
+    @Override
+    @SuppressWarnings({"illegalcatch", "PMD.AvoidCatchingThrowable"})
+    public <U, R> Validation<R> combine(final Validation<U> other, final BiFunction<T, U, R> f) {
+        if (other.isInvalid()) {
+            return new Invalid<>(Invalid.errorsOf(other));
+        }
+        try {
+            return new Valid<>(f.apply(value, valueOf(other)));
+        } catch (Throwable e) {
+            return Validation.invalid(e);
+        }
+    }
+
+    @Override
+    public Validation<T> and(final Validation<?> check) {
+        if (check.isValid()) {
+            return this;
+        }
+        return new Invalid<>(Invalid.errorsOf(check));
+    }
+
+    @Override
+    public void match(final Consumer<T> onValid, final Consumer<List<Throwable>> onInvalid) {
+        onValid.accept(value);
+    }
+
+    @Override
+    public Result<T> toResult() {
+        return Result.ok(value);
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return other instanceof Valid && Objects.equals(value, ((Valid<?>) other).value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(value);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Validation.Valid{value=%s}", value);
+    }
+}
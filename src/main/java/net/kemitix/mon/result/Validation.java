@@ -0,0 +1,239 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.result;
+
+import org.apiguardian.api.API;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+/**
+ * Either a valid value, or every error found while validating it.
+ *
+ * <p>Unlike {@link Result}, which stops at the first error, a
+ * {@code Validation} accumulates the errors from independent checks.</p>
+ *
+ * <pre><code>
+ * Validation&lt;Request&gt; validated = Validation.valid(request)
+ *         .and(checkName(request))
+ *         .and(checkAge(request));
+ * validated.match(
+ *         valid -&gt; process(valid),
+ *         errors -&gt; reject(errors));
+ * </code></pre>
+ *
+ * <p>The errors are stored as they are given, without being wrapped, in
+ * an append-only array that is shared along a chain of checks.</p>
+ *
+ * @param <T> the type of the valid value
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ */
+@API(status = EXPERIMENTAL)
+@SuppressWarnings({"methodcount", "PMD.TooManyMethods"})
+public interface Validation<T> {
+
+    /**
+     * Create a valid Validation.
+     *
+     * @param value the value
+     * @param <T>   the type of the value
+     * @return a valid Validation
+     */
+    @API(status = EXPERIMENTAL)
+    static <T> Validation<T> valid(final T value) {
+        return new Valid<>(value);
+    }
+
+    /**
+     * Create an invalid Validation.
+     *
+     * @param error the error
+     * @param <T>   the type of the value, had it been valid
+     * @return an invalid Validation
+     */
+    @API(status = EXPERIMENTAL)
+    static <T> Validation<T> invalid(final Throwable error) {
+        return new Invalid<>(ValidationErrors.of(error));
+    }
+
+    /**
+     * Create a Validation from a Result.
+     *
+     * <p>A success becomes valid, an error becomes invalid with that error.
+     * A {@link ValidationException}, as created by {@link #toResult()},
+     * becomes invalid with each of the errors it holds.</p>
+     *
+     * @param result the result
+     * @param <T>    the type of the value
+     * @return a Validation
+     */
+    @API(status = EXPERIMENTAL)
+    static <T> Validation<T> from(final Result<T> result) {
+        return result.<Validation<T>>map(Validation::valid)
+                .recover(e -> Result.ok(e instanceof ValidationException
+                        ? new Invalid<>(ValidationErrors.of(((ValidationException) e).getErrors()))
+                        : invalid(e)))
+                .orElseThrowUnchecked();
+    }
+
+    /**
+     * Combine a collection of Validations into a single Validation of a
+     * list.
+     *
+     * <p>If every Validation is valid, then the result is valid with a list
+     * of the values, in iteration order. Otherwise, the result is invalid
+     * with the errors from every invalid Validation, in iteration order.</p>
+     *
+     * @param validations the Validations
+     * @param <T>         the type of the values
+     * @return a Validation of the list of values
+     */
+    @API(status = EXPERIMENTAL)
+    static <T> Validation<List<T>> sequence(final Collection<? extends Validation<T>> validations) {
+        final List<T> values = new ArrayList<>(validations.size());
+        ValidationErrors errors = null;
+        for (final Validation<T> validation : validations) {
+            if (validation.isValid()) {
+                if (errors == null) {
+                    values.add(Valid.valueOf(validation));
+                }
+            } else if (errors == null) {
+                errors = Invalid.errorsOf(validation);
+            } else {
+                errors = errors.append(Invalid.errorsOf(validation));
+            }
+        }
+        if (errors == null) {
+            return new Valid<>(values);
+        }
+        return new Invalid<>(errors);
+    }
+
+    /**
+     * Checks if the Validation is valid.
+     *
+     * @return true if valid
+     */
+    @API(status = EXPERIMENTAL)
+    boolean isValid();
+
+    /**
+     * Checks if the Validation is invalid.
+     *
+     * @return true if invalid
+     */
+    @API(status = EXPERIMENTAL)
+    boolean isInvalid();
+
+    /**
+     * The errors, in the order they were found.
+     *
+     * @return an unmodifiable list of the errors, empty if valid
+     */
+    @API(status = EXPERIMENTAL)
+    List<Throwable> errors();
+
+    /**
+     * Applies the function to the value if valid.
+     *
+     * <p>If the function throws an exception, then the result is invalid
+     * with that exception.</p>
+     *
+     * @param f   the function to apply
+     * @param <R> the type of the value returned by the function
+     * @return a Validation of the function output, or the existing errors
+     */
+    @API(status = EXPERIMENTAL)
+    <R> Validation<R> map(ThrowableFunction<T, R, ?> f);
+
+    /**
+     * Applies the function to the value if valid, for checks that depend on
+     * the value.
+     *
+     * <p>Like {@link Result#flatMap(Function)}, the function is not called
+     * when already invalid, so no further errors are accumulated.</p>
+     *
+     * @param f   the function to apply
+     * @param <R> the type of the value in the returned Validation
+     * @return the Validation from the function, or the existing errors
+     */
+    @API(status = EXPERIMENTAL)
+    <R> Validation<R> flatMap(Function<T, Validation<R>> f);
+
+    /**
+     * Combines this Validation with an independent Validation.
+     *
+     * <p>If both are valid, then the function is applied to both values. If
+     * either is invalid, then the result is invalid with the errors from this
+     * Validation followed by those from the other.</p>
+     *
+     * @param other the other Validation
+     * @param f     the function to combine the values
+     * @param <U>   the type of the value in the other Validation
+     * @param <R>   the type of the combined value
+     * @return a Validation of the combined value, or all the errors
+     */
+    @API(status = EXPERIMENTAL)
+    <U, R> Validation<R> combine(Validation<U> other, BiFunction<T, U, R> f);
+
+    /**
+     * Adds the result of an independent check.
+     *
+     * <p>If the check is valid, then this Validation is returned unchanged.
+     * If the check is invalid, then its errors are appended to any errors in
+     * this Validation.</p>
+     *
+     * @param check the result of the check
+     * @return this Validation with any errors from the check
+     */
+    @API(status = EXPERIMENTAL)
+    Validation<T> and(Validation<?> check);
+
+    /**
+     * Matches the Validation, either valid or invalid, and supplies the
+     * appropriate Consumer with the value or the errors.
+     *
+     * @param onValid   the Consumer to pass the value of a valid Validation
+     * @param onInvalid the Consumer to pass the errors of an invalid Validation
+     */
+    @API(status = EXPERIMENTAL)
+    void match(Consumer<T> onValid, Consumer<List<Throwable>> onInvalid);
+
+    /**
+     * Converts the Validation into a Result.
+     *
+     * <p>A valid Validation becomes a success. An invalid Validation becomes
+     * an error containing a {@link ValidationException} that holds all the
+     * errors.</p>
+     *
+     * @return a Result
+     */
+    @API(status = EXPERIMENTAL)
+    Result<T> toResult();
+
+}
@@ -0,0 +1,128 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.result;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The errors held by an invalid {@link Validation}.
+ *
+ * <p>An append-only run of errors in a single array. Appending to the most
+ * recent instance claims the next free slot in the shared array, so a chain
+ * of checks only copies when the array is full, or when an older instance is
+ * appended to a second time.</p>
+ *
+ * <p>Slots below an instance's size are never written again, so each
+ * instance is immutable as seen through {@link #toList()}.</p>
+ *
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ */
+final class ValidationErrors {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private final Throwable[] items;
+    private final int size;
+    private final AtomicInteger claimed;
+
+    private ValidationErrors(final Throwable[] items, final int size, final AtomicInteger claimed) {
+        this.items = items;
+        this.size = size;
+        this.claimed = claimed;
+    }
+
+    /**
+     * Create a new run of errors containing the single error.
+     *
+     * @param error the error
+     * @return the errors
+     */
+    static ValidationErrors of(final Throwable error) {
+        final Throwable[] items = new Throwable[INITIAL_CAPACITY];
+        items[0] = error;
+        return new ValidationErrors(items, 1, new AtomicInteger(1));
+    }
+
+    /**
+     * Create a run of errors from the list.
+     *
+     * @param errors the errors, must not be empty
+     * @return the errors
+     */
+    static ValidationErrors of(final List<Throwable> errors) {
+        final Throwable[] items = errors.toArray(new Throwable[0]);
+        return new ValidationErrors(items, items.length, new AtomicInteger(items.length));
+    }
+
+    /**
+     * The number of errors.
+     *
+     * @return the number of errors
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Append the errors from another run after these errors.
+     *
+     * @param other the errors to append
+     * @return the combined errors
+     */
+    ValidationErrors append(final ValidationErrors other) {
+        final int total = size + other.size;
+        if (total <= items.length && claimed.compareAndSet(size, total)) {
+            System.arraycopy(other.items, 0, items, size, other.size);
+            return new ValidationErrors(items, total, claimed);
+        }
+        final Throwable[] copy = Arrays.copyOf(items, Math.max(INITIAL_CAPACITY, total + (total >> 1)));
+        System.arraycopy(other.items, 0, copy, size, other.size);
+        return new ValidationErrors(copy, total, new AtomicInteger(total));
+    }
+
+    /**
+     * An unmodifiable view of the errors.
+     *
+     * @return the errors
+     */
+    List<Throwable> toList() {
+        return Collections.unmodifiableList(Arrays.asList(items).subList(0, size));
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return other instanceof ValidationErrors && toList().equals(((ValidationErrors) other).toList());
+    }
+
+    @Override
+    public int hashCode() {
+        return toList().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+}
@@ -0,0 +1,66 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.result;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An unchecked exception holding all the errors from an invalid
+ * {@link Validation}.
+ *
+ * <p>Used by {@link Validation#toResult()} when the {@link Validation} is
+ * invalid. The first error is the cause.</p>
+ *
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ */
+public final class ValidationException extends RuntimeException {
+
+    private static final long serialVersionUID = 3618730519478624312L;
+
+    private final Throwable[] errors;
+
+    private ValidationException(final Throwable[] errors, final boolean writableStackTrace) {
+        super(errors.length + " validation error(s): " + errors[0], errors[0], true, writableStackTrace);
+        this.errors = errors;
+    }
+
+    /**
+     * Creates a new object.
+     *
+     * @param errors the errors, must not be empty
+     * @return a {@link ValidationException} containing the errors
+     */
+    static ValidationException with(final List<Throwable> errors) {
+        return new ValidationException(errors.toArray(new Throwable[0]), !StacklessErrors.isEnabled());
+    }
+
+    /**
+     * The errors, in the order they were found.
+     *
+     * @return an unmodifiable list of the errors
+     */
+    public List<Throwable> getErrors() {
+        return Collections.unmodifiableList(Arrays.asList(errors));
+    }
+}
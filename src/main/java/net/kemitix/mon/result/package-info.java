@@ -43,6 +43,15 @@
  *     <li>{@link Result#error(Throwable)}</li>
  * </ul>
  *
+ * <p>{@link AsyncResult} is a {@code Result} that will be available in the
+ * future, with each step run on a caller-supplied executor.</p>
+ *
+ * <p>{@link Validation} accumulates the errors from independent checks,
+ * rather than stopping at the first error.</p>
+ *
+ * <p>{@link Retry} repeats a {@link java.util.concurrent.Callable} with
+ * backoff, a deadline and optional hedging until it succeeds.</p>
+ *
  * @author Paul Campbell (pcampbell@kemitix.net)
  */
 
@@ -0,0 +1,355 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.tree;
+
+import net.kemitix.mon.maybe.Maybe;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+/**
+ * An immutable {@link Tree} with all of its nodes held in flat arrays.
+ *
+ * <p>Nodes are numbered in pre-order, so every subtree is a contiguous range
+ * of nodes, starting with its root. For each node there is its item, the
+ * size of its subtree and the range of a shared array holding the numbers of
+ * its subtrees. A tree of any size is held in five objects.</p>
+ *
+ * <p>An {@code ArrayTree} is a view of one node within those arrays. Views of
+ * subtrees are created as they are requested and share the arrays.</p>
+ *
+ * @param <T> the type of the objects held in the tree
+ *
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ */
+final class ArrayTree<T> implements Tree<T> {
+
+    private final Nodes nodes;
+    private final int index;
+
+    private ArrayTree(final Nodes nodes, final int index) {
+        this.nodes = nodes;
+        this.index = index;
+    }
+
+    /**
+     * Copies a tree into a new {@code ArrayTree}.
+     *
+     * <p>The tree is walked without recursion. If the tree is already an
+     * {@code ArrayTree} then it is returned as it is.</p>
+     *
+     * @param tree the tree to copy
+     * @param <T>  the type of the tree
+     * @return an ArrayTree
+     */
+    static <T> ArrayTree<T> of(final Tree<T> tree) {
+        if (tree instanceof ArrayTree) {
+            return (ArrayTree<T>) tree;
+        }
+        final NodesBuilder builder = new NodesBuilder();
+        final Deque<Tree<T>> pending = new ArrayDeque<>();
+        pending.push(tree);
+        builder.pushParent(-1);
+        while (!pending.isEmpty()) {
+            final Tree<T> node = pending.pop();
+            final int number = builder.add(node.item().orElse(null), builder.popParent());
+            final List<Tree<T>> subTrees = node.subTrees();
+            for (int i = subTrees.size() - 1; i >= 0; i--) {
+                pending.push(subTrees.get(i));
+                builder.pushParent(number);
+            }
+        }
+        return new ArrayTree<>(builder.build(), 0);
+    }
+
+    /**
+     * Maps the tree using the function onto a new tree.
+     *
+     * <p>The function is applied to each item in pre-order. The new tree
+     * shares the shape of this one, so only a new array of items is
+     * created.</p>
+     *
+     * @param f   the function to apply
+     * @param <R> the type of object held in the resulting tree
+     * @return a tree
+     */
+    @Override
+    public <R> Tree<R> map(final Function<T, R> f) {
+        final Nodes source = rooted();
+        final Object[] items = new Object[source.items.length];
+        for (int i = 0; i < items.length; i++) {
+            items[i] = f.apply(source.item(i));
+        }
+        return new ArrayTree<>(source.withItems(items), 0);
+    }
+
+    /**
+     * Maps the tree using the function onto a new tree, mapping items in
+     * parallel.
+     *
+     * @param f   the function to apply
+     * @param <R> the type of object held in the resulting tree
+     * @return a tree
+     */
+    @Override
+    public <R> Tree<R> parallelMap(final Function<T, R> f) {
+        final Nodes source = rooted();
+        final Object[] items = new Object[source.items.length];
+        Arrays.parallelSetAll(items, i -> f.apply(source.item(i)));
+        return new ArrayTree<>(source.withItems(items), 0);
+    }
+
+    @Override
+    public Maybe<T> item() {
+        return Maybe.maybe(nodes.item(index));
+    }
+
+    /**
+     * Counts the items in the tree by scanning this node's range of items.
+     *
+     * @return the number of items in the tree
+     */
+    @Override
+    public int count() {
+        int count = 0;
+        final int end = index + nodes.size[index];
+        for (int i = index; i < end; i++) {
+            if (nodes.items[i] != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns a list of subtrees.
+     *
+     * @return an unmodifiable List of trees, each a view of a subtree
+     */
+    @Override
+    public List<Tree<T>> subTrees() {
+        return new SubTrees<>(nodes, index);
+    }
+
+    private Nodes rooted() {
+        if (index == 0) {
+            return nodes;
+        }
+        return nodes.subTree(index);
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof ArrayTree)) {
+            return false;
+        }
+        final ArrayTree<?> that = (ArrayTree<?>) other;
+        final int length = nodes.size[index];
+        if (length != that.nodes.size[that.index]) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (nodes.size[index + i] != that.nodes.size[that.index + i]
+                    || !Objects.equals(nodes.items[index + i], that.nodes.items[that.index + i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        final int end = index + nodes.size[index];
+        for (int i = index; i < end; i++) {
+            hash = 31 * hash + Objects.hashCode(nodes.items[i]);
+            hash = 31 * hash + nodes.size[i];
+        }
+        return hash;
+    }
+
+    /**
+     * The arrays holding the nodes of a tree.
+     */
+    private static final class Nodes {
+
+        private final Object[] items;
+        private final int[] size;
+        private final int[] childOffset;
+        private final int[] children;
+
+        Nodes(final Object[] items, final int[] size, final int[] childOffset, final int[] children) {
+            this.items = items;
+            this.size = size;
+            this.childOffset = childOffset;
+            this.children = children;
+        }
+
+        @SuppressWarnings("unchecked")
+        <T> T item(final int node) {
+            return (T) items[node];
+        }
+
+        int childCount(final int node) {
+            return childOffset[node + 1] - childOffset[node];
+        }
+
+        int child(final int node, final int position) {
+            return children[childOffset[node] + position];
+        }
+
+        Nodes withItems(final Object[] newItems) {
+            return new Nodes(newItems, size, childOffset, children);
+        }
+
+        /**
+         * Copies the subtree so that its root is node zero.
+         *
+         * @param root the root of the subtree
+         * @return the nodes of the subtree
+         */
+        Nodes subTree(final int root) {
+            final int end = root + size[root];
+            final int firstChild = childOffset[root];
+            final int lastChild = childOffset[end];
+            final int[] newSize = Arrays.copyOfRange(size, root, end);
+            final int[] newOffset = new int[end - root + 1];
+            for (int i = 0; i < newOffset.length; i++) {
+                newOffset[i] = childOffset[root + i] - firstChild;
+            }
+            final int[] newChildren = new int[lastChild - firstChild];
+            for (int i = 0; i < newChildren.length; i++) {
+                newChildren[i] = children[firstChild + i] - root;
+            }
+            return new Nodes(Arrays.copyOfRange(items, root, end), newSize, newOffset, newChildren);
+        }
+    }
+
+    /**
+     * Collects nodes, in pre-order, into the arrays for a tree.
+     */
+    private static final class NodesBuilder {
+
+        private static final int INITIAL_CAPACITY = 16;
+
+        private Object[] items = new Object[INITIAL_CAPACITY];
+        private int[] parents = new int[INITIAL_CAPACITY];
+        private int count;
+        private int[] pendingParents = new int[INITIAL_CAPACITY];
+        private int pendingCount;
+
+        /**
+         * Records the parent of a node that is waiting to be added.
+         *
+         * @param parent the number of the parent node
+         */
+        void pushParent(final int parent) {
+            if (pendingCount == pendingParents.length) {
+                pendingParents = Arrays.copyOf(pendingParents, pendingCount * 2);
+            }
+            pendingParents[pendingCount++] = parent;
+        }
+
+        /**
+         * Takes the parent of the next node to be added.
+         *
+         * @return the number of the parent node
+         */
+        int popParent() {
+            return pendingParents[--pendingCount];
+        }
+
+        /**
+         * Adds the next node.
+         *
+         * @param item   the item of the node
+         * @param parent the number of the parent node, or -1 for the root
+         * @return the number of the node
+         */
+        int add(final Object item, final int parent) {
+            if (count == items.length) {
+                items = Arrays.copyOf(items, count * 2);
+                parents = Arrays.copyOf(parents, count * 2);
+            }
+            items[count] = item;
+            parents[count] = parent;
+            return count++;
+        }
+
+        Nodes build() {
+            final int[] size = new int[count];
+            final int[] childOffset = new int[count + 1];
+            Arrays.fill(size, 1);
+            for (int i = count - 1; i > 0; i--) {
+                size[parents[i]] += size[i];
+                childOffset[parents[i] + 1]++;
+            }
+            for (int i = 0; i < count; i++) {
+                childOffset[i + 1] += childOffset[i];
+            }
+            final int[] children = new int[Math.max(0, count - 1)];
+            final int[] filled = new int[count];
+            for (int i = 1; i < count; i++) {
+                final int parent = parents[i];
+                children[childOffset[parent] + filled[parent]++] = i;
+            }
+            return new Nodes(Arrays.copyOf(items, count), size, childOffset, children);
+        }
+    }
+
+    /**
+     * An unmodifiable list of the subtrees of a node.
+     *
+     * @param <T> the type of the objects held in the tree
+     */
+    private static final class SubTrees<T> extends AbstractList<Tree<T>> implements RandomAccess {
+
+        private final Nodes nodes;
+        private final int parent;
+
+        SubTrees(final Nodes nodes, final int parent) {
+            this.nodes = nodes;
+            this.parent = parent;
+        }
+
+        @Override
+        public Tree<T> get(final int position) {
+            Objects.checkIndex(position, size());
+            return new ArrayTree<>(nodes, nodes.child(parent, position));
+        }
+
+        @Override
+        public int size() {
+            return nodes.childCount(parent);
+        }
+    }
+
+}
@@ -39,7 +39,7 @@ import java.util.function.Function;
  */
 @SuppressFBWarnings("USBR_UNNECESSARY_STORE_BEFORE_RETURN")
 @EqualsAndHashCode
-class GeneralisedTree<T> implements Tree<T>, TreeMapper<T> {
+class GeneralisedTree<T> implements Tree<T> {
 
     private transient final T item;
     private transient final List<Tree<T>> subTrees;
@@ -52,19 +52,34 @@ class GeneralisedTree<T> implements Tree<T>, TreeMapper<T> {
      */
     GeneralisedTree(final T item, final Collection<Tree<T>> subTrees) {
         this.item = item;
-        this.subTrees = new ArrayList<>(subTrees);
+        this.subTrees = Collections.unmodifiableList(new ArrayList<>(subTrees));
     }
 
     /**
      * Maps the tree using the function onto a new tree.
      *
+     * <p>Subtrees that are also {@code GeneralisedTree}s are mapped without
+     * recursion. Any other subtrees are mapped using their own
+     * {@link Tree#map(Function)}.</p>
+     *
      * @param f   the function to apply
      * @param <R> the type of object held in the resulting tree
      * @return a tree
      */
     @Override
     public <R> Tree<R> map(final Function<T, R> f) {
-        return new GeneralisedTree<>(f.apply(item), mapTrees(f, subTrees()));
+        return TreeMapper.map(this, f,
+                GeneralisedTree.class::isInstance,
+                subTree -> subTree.map(f),
+                GeneralisedTree<R>::new);
+    }
+
+    @Override
+    public <R> Tree<R> parallelMap(final Function<T, R> f) {
+        return ParallelTreeMapTask.invoke(this, f,
+                GeneralisedTree.class::isInstance,
+                subTree -> subTree.parallelMap(f),
+                GeneralisedTree<R>::new);
     }
 
     @Override
@@ -75,10 +90,10 @@ class GeneralisedTree<T> implements Tree<T>, TreeMapper<T> {
     /**
      * Returns a list of subtrees.
      *
-     * @return a List of trees
+     * @return an unmodifiable List of trees
      */
     @Override
     public List<Tree<T>> subTrees() {
-        return new ArrayList<>(subTrees);
+        return subTrees;
     }
 }
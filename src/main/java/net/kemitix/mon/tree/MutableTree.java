@@ -27,9 +27,12 @@ import net.kemitix.mon.maybe.Maybe;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 /**
  * A mutable {@link Tree}.
@@ -41,12 +44,29 @@ import java.util.stream.Collectors;
 @SuppressFBWarnings("USBR_UNNECESSARY_STORE_BEFORE_RETURN")
 @EqualsAndHashCode
 @SuppressWarnings("methodcount")
-class MutableTree<T> implements Tree<T>, TreeMapper<T> {
+class MutableTree<T> implements Tree<T> {
+
+    /**
+     * The number of subtrees above which lookups by item use an index.
+     */
+    private static final int INDEX_THRESHOLD = 8;
 
     private transient final List<MutableTree<T>> mySubTrees = new ArrayList<>();
 
+    private transient final List<Tree<T>> subTreesView = Collections.unmodifiableList(mySubTrees);
+
     private transient T item;
 
+    private transient Map<T, MutableTree<T>> childIndex;
+
+    private transient boolean indexed;
+
+    private transient boolean indexHasDuplicates;
+
+    private transient MutableTree<T> parent;
+
+    private transient List<MutableTree<T>> otherParents;
+
     /**
      * Create a new {@link MutableTree}.
      *
@@ -92,21 +112,34 @@ class MutableTree<T> implements Tree<T>, TreeMapper<T> {
         if (tree instanceof MutableTree) {
             return (MutableTree<T>) tree;
         }
-        final T item = tree.item().orElse(null);
-        final List<MutableTree<T>> subtrees = tree.subTrees()
-                .stream().map(MutableTree::of).collect(Collectors.toList());
-        return MutableTree.of(item, subtrees);
+        return TreeMapper.map(tree, Function.identity(),
+                subTree -> !(subTree instanceof MutableTree),
+                Function.identity(),
+                MutableTree::node);
     }
 
     @Override
     public <R> MutableTree<R> map(final Function<T, R> f) {
-        final MutableTree<R> mutableTree = MutableTree.create();
-        final List<MutableTree<R>> trees = subTreesAsMutable().stream()
-                .map(subTree -> subTree.map(f))
-                .collect(Collectors.toList());
-        return mutableTree
-                .set(f.apply(item))
-                .subTrees(trees);
+        return TreeMapper.map(this, f,
+                subTree -> true,
+                subTree -> subTree.map(f),
+                MutableTree::node);
+    }
+
+    @Override
+    public <R> MutableTree<R> parallelMap(final Function<T, R> f) {
+        return ParallelTreeMapTask.invoke(this, f,
+                subTree -> true,
+                subTree -> subTree.parallelMap(f),
+                MutableTree::node);
+    }
+
+    private static <B> MutableTree<B> node(final B item, final List<Tree<B>> subTrees) {
+        final MutableTree<B> tree = MutableTree.<B>create().set(item);
+        for (final Tree<B> subTree : subTrees) {
+            tree.addSubTree(MutableTree.of(subTree));
+        }
+        return tree;
     }
 
     @Override
@@ -122,13 +155,28 @@ class MutableTree<T> implements Tree<T>, TreeMapper<T> {
      * @return the tree
      */
     MutableTree<T> set(final T newItem) {
+        final T oldItem = item;
         this.item = newItem;
+        if (parent != null) {
+            parent.childRenamed(this, oldItem, newItem);
+        }
+        if (otherParents != null) {
+            for (final MutableTree<T> other : otherParents) {
+                other.childRenamed(this, oldItem, newItem);
+            }
+        }
         return this;
     }
 
+    /**
+     * The subtrees of the tree.
+     *
+     * @return an unmodifiable view of the subtrees, which reflects any later
+     * changes to this tree
+     */
     @Override
     public List<Tree<T>> subTrees() {
-        return new ArrayList<>(mySubTrees);
+        return subTreesView;
     }
 
     /**
@@ -138,8 +186,15 @@ class MutableTree<T> implements Tree<T>, TreeMapper<T> {
      * @return the tree
      */
     MutableTree<T> subTrees(final Collection<MutableTree<T>> subTrees) {
+        for (final MutableTree<T> subTree : mySubTrees) {
+            subTree.removeParent(this);
+        }
         this.mySubTrees.clear();
-        this.mySubTrees.addAll(subTrees);
+        for (final MutableTree<T> subTree : subTrees) {
+            subTree.addParent(this);
+            this.mySubTrees.add(subTree);
+        }
+        indexed = false;
         return this;
     }
 
@@ -150,16 +205,143 @@ class MutableTree<T> implements Tree<T>, TreeMapper<T> {
      * @return the current tree
      */
     MutableTree<T> add(final Tree<T> subtree) {
-        mySubTrees.add(MutableTree.of(subtree));
+        addSubTree(MutableTree.of(subtree));
         return this;
     }
 
+    private MutableTree<T> addSubTree(final MutableTree<T> subtree) {
+        subtree.addParent(this);
+        mySubTrees.add(subtree);
+        if (indexed && childIndex.putIfAbsent(subtree.item, subtree) != null) {
+            indexHasDuplicates = true;
+        }
+        return subtree;
+    }
+
+    /**
+     * Records a tree that holds this tree as a subtree, so that it is told
+     * when the item of this tree changes.
+     *
+     * <p>A subtree may be shared by several trees, so each of them is
+     * recorded. They are compared by identity.</p>
+     *
+     * @param newParent the tree that holds this tree
+     */
+    private void addParent(final MutableTree<T> newParent) {
+        if (parent == null) {
+            parent = newParent;
+            return;
+        }
+        if (parent == newParent) {
+            return;
+        }
+        if (otherParents == null) {
+            otherParents = new ArrayList<>(1);
+        }
+        for (final MutableTree<T> other : otherParents) {
+            if (other == newParent) {
+                return;
+            }
+        }
+        otherParents.add(newParent);
+    }
+
+    private void removeParent(final MutableTree<T> oldParent) {
+        if (parent == oldParent) {
+            parent = otherParents == null || otherParents.isEmpty()
+                    ? null
+                    : otherParents.remove(otherParents.size() - 1);
+            return;
+        }
+        if (otherParents != null) {
+            otherParents.removeIf(other -> other == oldParent);
+        }
+    }
+
+    /**
+     * Finds the first subtree with the item.
+     *
+     * <p>When there are more than a few subtrees, they are indexed by their
+     * items on the first lookup. The index is kept up to date as subtrees are
+     * added and as their items change.</p>
+     *
+     * @param childItem the item to find
+     * @return the subtree, or null if there is no subtree with the item
+     */
+    MutableTree<T> findChild(final T childItem) {
+        if (!indexed && mySubTrees.size() > INDEX_THRESHOLD) {
+            buildIndex();
+        }
+        if (!indexed) {
+            return scan(childItem);
+        }
+        final MutableTree<T> child = childIndex.get(childItem);
+        if (child == null || Objects.equals(child.item, childItem)) {
+            return child;
+        }
+        buildIndex();
+        return childIndex.get(childItem);
+    }
+
     /**
-     * The mutable subtrees of the tree.
+     * Finds the first subtree with the item, adding a new leaf with the item
+     * if there isn't one.
      *
-     * @return a list of Trees
+     * @param childItem the item to find
+     * @return the subtree
      */
-    List<MutableTree<T>> subTreesAsMutable() {
-        return mySubTrees;
+    MutableTree<T> findOrAddChild(final T childItem) {
+        final MutableTree<T> found = findChild(childItem);
+        if (found != null) {
+            return found;
+        }
+        return addSubTree(MutableTree.leaf(childItem));
+    }
+
+    /**
+     * Updates the index for a subtree whose item has changed.
+     *
+     * <p>Only the entries for the old and new items are changed. If more than
+     * one subtree has either item, then which one is first can't be told from
+     * the index, so it is rebuilt on the next lookup instead.</p>
+     *
+     * @param child   the subtree
+     * @param oldItem the previous item of the subtree
+     * @param newItem the new item of the subtree
+     */
+    private void childRenamed(final MutableTree<T> child, final T oldItem, final T newItem) {
+        if (!indexed || Objects.equals(oldItem, newItem)) {
+            return;
+        }
+        if (indexHasDuplicates || childIndex.containsKey(newItem)) {
+            indexed = false;
+            return;
+        }
+        childIndex.remove(oldItem, child);
+        childIndex.put(newItem, child);
+    }
+
+    private MutableTree<T> scan(final T childItem) {
+        for (final MutableTree<T> child : mySubTrees) {
+            if (Objects.equals(child.item, childItem)) {
+                return child;
+            }
+        }
+        return null;
+    }
+
+    private void buildIndex() {
+        if (childIndex == null) {
+            childIndex = new HashMap<>();
+        } else {
+            childIndex.clear();
+        }
+        indexHasDuplicates = false;
+        for (final MutableTree<T> child : mySubTrees) {
+            if (childIndex.putIfAbsent(child.item, child) != null) {
+                indexHasDuplicates = true;
+            }
+        }
+        indexed = true;
     }
 }
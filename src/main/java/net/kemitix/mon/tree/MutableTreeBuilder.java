@@ -21,9 +21,9 @@
 
 package net.kemitix.mon.tree;
 
-import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import net.kemitix.mon.maybe.Maybe;
 
+import java.util.List;
 import java.util.function.Function;
 
 /**
@@ -58,6 +58,11 @@ class MutableTreeBuilder<T> implements TreeBuilder<T> {
         return root.map(Function.identity());
     }
 
+    @Override
+    public Tree<T> buildCompact() {
+        return Tree.compact(root);
+    }
+
     @Override
     public TreeBuilder<T> item(final T item) {
         root.set(item);
@@ -78,21 +83,26 @@ class MutableTreeBuilder<T> implements TreeBuilder<T> {
 
     @Override
     public Maybe<TreeBuilder<T>> select(final T childItem) {
-        return Maybe.findFirst(
-                root.subTreesAsMutable()
-                        .stream()
-                        .filter((MutableTree<T> tree) -> matchesItem(childItem, tree))
-                        .map(Tree::builder));
+        return Maybe.maybe(root.findChild(childItem))
+                .map(this::childBuilder);
+    }
+
+    @Override
+    public TreeBuilder<T> selectOrAdd(final T childItem) {
+        return childBuilder(root.findOrAddChild(childItem));
+    }
+
+    @Override
+    public TreeBuilder<T> addPath(final List<T> path) {
+        MutableTree<T> node = root;
+        for (final T item : path) {
+            node = node.findOrAddChild(item);
+        }
+        return this;
     }
 
-    @SuppressFBWarnings("NAB_NEEDLESS_BOOLEAN_CONSTANT_CONVERSION")
-    private boolean matchesItem(
-            final T childItem,
-            final MutableTree<T> tree
-    ) {
-        return tree.item()
-                .map(childItem::equals)
-                .orElse(false);
+    private TreeBuilder<T> childBuilder(final MutableTree<T> child) {
+        return new MutableTreeBuilder<>(child);
     }
 
 }
@@ -0,0 +1,212 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2021 Paul Campbell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies
+ * or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE
+ * AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package net.kemitix.mon.tree;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Fork/join task to map a Tree, mapping subtrees in parallel.
+ *
+ * <p>A node with more than one subtree forks a task for each of them, while
+ * there is little queued work for the current worker thread to get on with,
+ * the node is not too far below the root, and there are at least
+ * {@link #SEQUENTIAL_THRESHOLD} nodes below it. Otherwise the node, and
+ * everything below it, is mapped on the current thread using
+ * {@link TreeMapper}. Nodes with a single subtree are mapped by the same
+ * task as that subtree, without counting towards the depth. Each mapped
+ * subtree is kept in its original position, so the mapped tree has the same
+ * shape as the original.</p>
+ *
+ * @param <T> the type of the items in the tree
+ * @param <R> the type of the items in the resulting tree
+ * @param <N> the type of the nodes created
+ * @author Paul Campbell (pcampbell@kemitix.net)
+ */
+class ParallelTreeMapTask<T, R, N extends Tree<R>> extends RecursiveTask<Tree<R>> {
+
+    private static final long serialVersionUID = -6405870254139524633L;
+
+    /**
+     * The number of queued tasks above which subtrees are no longer forked.
+     */
+    private static final int SURPLUS_THRESHOLD = 3;
+
+    /**
+     * The deepest level at which subtrees are forked, which limits the
+     * nesting of tasks on a worker thread's stack.
+     */
+    private static final int MAX_FORK_DEPTH = 64;
+
+    /**
+     * The number of nodes below which a subtree is mapped on the current
+     * thread, as forking would cost more than mapping it.
+     */
+    private static final int SEQUENTIAL_THRESHOLD = 32;
+
+    private final transient Tree<T> tree;
+    private final int depth;
+    private final transient Function<T, R> f;
+    private final transient Predicate<Tree<T>> expand;
+    private final transient Function<Tree<T>, Tree<R>> other;
+    private final transient BiFunction<R, List<Tree<R>>, N> factory;
+
+    @SuppressWarnings("checkstyle:parameternumber")
+    private ParallelTreeMapTask(
+            final Tree<T> tree,
+            final int depth,
+            final Function<T, R> f,
+            final Predicate<Tree<T>> expand,
+            final Function<Tree<T>, Tree<R>> other,
+            final BiFunction<R, List<Tree<R>>, N> factory
+    ) {
+        this.tree = tree;
+        this.depth = depth;
+        this.f = f;
+        this.expand = expand;
+        this.other = other;
+        this.factory = factory;
+    }
+
+    /**
+     * Map the tree in the current fork/join pool, or the common pool when not
+     * called from within one.
+     *
+     * @param root    the tree to map
+     * @param f       the function to apply to each item
+     * @param expand  selects the subtrees to walk into
+     * @param other   converts the subtrees that are not walked into
+     * @param factory creates a node from its mapped item and subtrees
+     * @param <T>     the type of the items in the tree
+     * @param <R>     the type of the items in the resulting tree
+     * @param <N>     the type of the nodes created
+     * @return the mapped tree
+     * @see TreeMapper#map(Tree, Function, Predicate, Function, BiFunction)
+     */
+    @SuppressWarnings("unchecked")
+    static <T, R, N extends Tree<R>> N invoke(
+            final Tree<T> root,
+            final Function<T, R> f,
+            final Predicate<Tree<T>> expand,
+            final Function<Tree<T>, Tree<R>> other,
+            final BiFunction<R, List<Tree<R>>, N> factory
+    ) {
+        final ParallelTreeMapTask<T, R, N> task = new ParallelTreeMapTask<>(root, 0, f, expand, other, factory);
+        if (ForkJoinTask.inForkJoinPool()) {
+            return (N) task.invoke();
+        }
+        return (N) ForkJoinPool.commonPool().invoke(task);
+    }
+
+    /**
+     * Maps the tree.
+     *
+     * <p>Any chain of nodes that each have a single subtree is walked down
+     * within this task, so that a wide level below it can still be forked.</p>
+     *
+     * @return the mapped tree
+     */
+    @Override
+    protected Tree<R> compute() {
+        if (!expand.test(tree)) {
+            return other.apply(tree);
+        }
+        final List<R> chain = new ArrayList<>();
+        Tree<T> node = tree;
+        List<Tree<T>> subTrees = node.subTrees();
+        while (subTrees.size() == 1 && expand.test(subTrees.get(0))) {
+            chain.add(f.apply(node.item().orElse(null)));
+            node = subTrees.get(0);
+            subTrees = node.subTrees();
+        }
+        Tree<R> mapped = mapNode(node, subTrees);
+        for (int i = chain.size() - 1; i >= 0; i--) {
+            mapped = factory.apply(chain.get(i), Collections.singletonList(mapped));
+        }
+        return mapped;
+    }
+
+    private Tree<R> mapNode(final Tree<T> node, final List<Tree<T>> subTrees) {
+        if (subTrees.size() < 2) {
+            final R item = f.apply(node.item().orElse(null));
+            final List<Tree<R>> mapped = new ArrayList<>(subTrees.size());
+            for (final Tree<T> subTree : subTrees) {
+                mapped.add(other.apply(subTree));
+            }
+            return factory.apply(item, mapped);
+        }
+        if (depth >= MAX_FORK_DEPTH
+                || getSurplusQueuedTaskCount() > SURPLUS_THRESHOLD
+                || isSmall(subTrees)) {
+            return TreeMapper.map(node, f, expand, other, factory);
+        }
+        final List<ParallelTreeMapTask<T, R, N>> tasks = new ArrayList<>(subTrees.size());
+        for (final Tree<T> subTree : subTrees) {
+            final ParallelTreeMapTask<T, R, N> task =
+                    new ParallelTreeMapTask<>(subTree, depth + 1, f, expand, other, factory);
+            task.fork();
+            tasks.add(task);
+        }
+        final R item = f.apply(node.item().orElse(null));
+        final List<Tree<R>> mapped = new ArrayList<>(Collections.nCopies(tasks.size(), null));
+        for (int i = tasks.size() - 1; i >= 0; i--) {
+            mapped.set(i, tasks.get(i).join());
+        }
+        return factory.apply(item, mapped);
+    }
+
+    /**
+     * Checks if there are fewer than {@link #SEQUENTIAL_THRESHOLD} nodes
+     * within the subtrees that are walked into.
+     *
+     * <p>Stops counting at the threshold, so a large tree is not walked in
+     * full.</p>
+     *
+     * @param subTrees the subtrees to count
+     * @return true if the subtrees are too small to fork
+     */
+    private boolean isSmall(final List<Tree<T>> subTrees) {
+        final Deque<Tree<T>> pending = new ArrayDeque<>(subTrees);
+        int count = 0;
+        while (!pending.isEmpty()) {
+            final Tree<T> node = pending.pop();
+            count++;
+            if (count >= SEQUENTIAL_THRESHOLD) {
+                return false;
+            }
+            if (expand.test(node)) {
+                pending.addAll(node.subTrees());
+            }
+        }
+        return true;
+    }
+
+}
@@ -25,8 +25,10 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import net.kemitix.mon.Functor;
 import net.kemitix.mon.maybe.Maybe;
 
+import java.util.ArrayDeque;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.function.Function;
 
@@ -63,6 +65,21 @@ public interface Tree<T> extends Functor<T, Tree<?>> {
         return new GeneralisedTree<>(item, subtrees);
     }
 
+    /**
+     * Create a compact copy of the tree.
+     *
+     * <p>The copy is immutable and holds all of its nodes in a few flat
+     * arrays, rather than an object and a list for each node. It is quicker
+     * to walk, count and map, and uses much less memory for large trees.</p>
+     *
+     * @param tree the tree to copy
+     * @param <R> the type of the items in the tree
+     * @return a compact tree
+     */
+    static <R> Tree<R> compact(final Tree<R> tree) {
+        return ArrayTree.of(tree);
+    }
+
     /**
      * Create a new {@link TreeBuilder} starting with an empty tree.
      *
@@ -92,6 +109,27 @@ public interface Tree<T> extends Functor<T, Tree<?>> {
     @Override
     <R> Tree<R> map(Function<T, R> f);
 
+    /**
+     * Maps the tree using the function onto a new tree, mapping subtrees in
+     * parallel.
+     *
+     * <p>Subtrees are mapped using the current
+     * {@link java.util.concurrent.ForkJoinPool}, or the common pool when not
+     * called from within one, and the resulting tree has the
+     * same shape, and order of subtrees, as this one. The function may be
+     * called from several threads at once, and in any order.</p>
+     *
+     * <p>Tree implementations that don't support parallel mapping use
+     * {@link #map(Function)}.</p>
+     *
+     * @param f   the function to apply
+     * @param <R> the type of object held in the resulting tree
+     * @return a tree
+     */
+    default <R> Tree<R> parallelMap(final Function<T, R> f) {
+        return map(f);
+    }
+
     /**
      * Return the item within the node of the tree, if present.
      *
@@ -102,16 +140,32 @@ public interface Tree<T> extends Functor<T, Tree<?>> {
     /**
      * Count the number of item in the tree, including subtrees.
      *
+     * <p>The tree is walked using an explicit stack, so very deep trees do not
+     * overflow the call stack.</p>
+     *
      * @return the sum of the subtrees, plus 1 if there is an item in this node
      */
     default int count() {
-        return item().matchValue(x -> 1, () -> 0)
-                + subTrees().stream().mapToInt(Tree::count).sum();
+        int count = 0;
+        final Deque<Tree<T>> pending = new ArrayDeque<>();
+        pending.push(this);
+        while (!pending.isEmpty()) {
+            final Tree<T> tree = pending.pop();
+            if (tree.item().isJust()) {
+                count++;
+            }
+            for (final Tree<T> subTree : tree.subTrees()) {
+                pending.push(subTree);
+            }
+        }
+        return count;
     }
 
     /**
      * The subtrees of the tree.
      *
+     * <p>The list is an unmodifiable view and is not copied.</p>
+     *
      * @return a list of Trees
      */
     List<Tree<T>> subTrees();
@@ -23,6 +23,7 @@ package net.kemitix.mon.tree;
 
 import net.kemitix.mon.maybe.Maybe;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -41,6 +42,16 @@ public interface TreeBuilder<T> {
      */
     Tree<T> build();
 
+    /**
+     * Create the immutable {@link Tree} in its compact form.
+     *
+     * @return a {@link Tree}
+     * @see Tree#compact(Tree)
+     */
+    default Tree<T> buildCompact() {
+        return Tree.compact(build());
+    }
+
     /**
      * Set the current {@link Tree}'s item.
      *
@@ -85,4 +96,59 @@ public interface TreeBuilder<T> {
      * @return a Maybe containing the TreeBuilder for the subtree, or Nothing if there child item is not found
      */
     Maybe<TreeBuilder<T>> select(T childItem);
+
+    /**
+     * Create a TreeBuilder for the subTree of the current Tree that has the
+     * childItem, first adding the childItem as a subTree if there isn't one.
+     *
+     * @param childItem the item to search the subtrees for, or to add
+     * @return the TreeBuilder for the subtree
+     */
+    default TreeBuilder<T> selectOrAdd(T childItem) {
+        final Maybe<TreeBuilder<T>> existing = select(childItem);
+        if (existing.isJust()) {
+            return existing.orElse(this);
+        }
+        return addChild(childItem)
+                .select(childItem)
+                .orElseThrow(IllegalStateException::new);
+    }
+
+    /**
+     * Add the items as a path of nested subTrees below the current Tree.
+     *
+     * <p>Each item is looked for in the subtrees of the one before it, and
+     * only added if it is not found, so paths that share a prefix share the
+     * subtrees for that prefix.</p>
+     *
+     * <pre><code>
+     * Tree.builder(String.class)
+     *     .addPath(List.of("usr", "local", "bin"))
+     *     .addPath(List.of("usr", "lib"))
+     *     .build();
+     * // usr has the subtrees local and lib
+     * </code></pre>
+     *
+     * @param path the items along the path, starting with a subtree of the current Tree
+     * @return the TreeBuilder for the current Tree
+     */
+    default TreeBuilder<T> addPath(List<T> path) {
+        TreeBuilder<T> builder = this;
+        for (final T item : path) {
+            builder = builder.selectOrAdd(item);
+        }
+        return this;
+    }
+
+    /**
+     * Add each of the paths below the current Tree.
+     *
+     * @param paths the paths to add
+     * @return the TreeBuilder for the current Tree
+     * @see #addPath(List)
+     */
+    default TreeBuilder<T> addPaths(Collection<List<T>> paths) {
+        paths.forEach(this::addPath);
+        return this;
+    }
 }
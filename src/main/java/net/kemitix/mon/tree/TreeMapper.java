@@ -21,35 +21,100 @@
 
 package net.kemitix.mon.tree;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
+import java.util.function.BiFunction;
 import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.function.Predicate;
 
 /**
- * Maps a list of Trees.
+ * Maps Trees without recursion.
  *
- * @param <T> the type of the objects help in the tree
+ * <p>Nodes are visited depth first using an explicit stack, so the depth of
+ * the tree is limited by the heap rather than the call stack. The function
+ * is applied to each item in pre-order, and each new node is created once
+ * all of its subtrees have been mapped.</p>
  *
  * @author Paul Campbell (pcampbell@kemitix.net)
  */
-interface TreeMapper<T> {
+final class TreeMapper {
+
+    private TreeMapper() {
+    }
 
     /**
-     * Map the Trees.
+     * Map the tree.
      *
-     * @param f the mapping function
-     * @param trees the trees to map
-     * @param <R> the type of the resulting Trees
+     * <p>Only nodes accepted by {@code expand} are walked into. Any other
+     * subtree is converted as a whole by {@code other}.</p>
      *
-     * @return a List of mapped sub-trees
+     * @param root    the tree to map
+     * @param f       the function to apply to each item
+     * @param expand  selects the subtrees to walk into
+     * @param other   converts the subtrees that are not walked into
+     * @param factory creates a node from its mapped item and subtrees
+     * @param <T>     the type of the items in the tree
+     * @param <R>     the type of the items in the resulting tree
+     * @param <N>     the type of the nodes created
+     * @return the mapped tree
      */
-    default <R> List<Tree<R>> mapTrees(
+    static <T, R, N extends Tree<R>> N map(
+            final Tree<T> root,
             final Function<T, R> f,
-            final List<Tree<T>> trees
+            final Predicate<Tree<T>> expand,
+            final Function<Tree<T>, Tree<R>> other,
+            final BiFunction<R, List<Tree<R>>, N> factory
     ) {
-        return trees.stream()
-                .map(subTree -> subTree.map(f))
-                .collect(Collectors.toList());
+        final Deque<Frame<T, R>> stack = new ArrayDeque<>();
+        stack.push(new Frame<>(root, f));
+        while (true) {
+            final Frame<T, R> frame = stack.peek();
+            if (frame.hasNext()) {
+                final Tree<T> subTree = frame.next();
+                if (expand.test(subTree)) {
+                    stack.push(new Frame<>(subTree, f));
+                } else {
+                    frame.mapped.add(other.apply(subTree));
+                }
+            } else {
+                stack.pop();
+                final N node = factory.apply(frame.item, frame.mapped);
+                if (stack.isEmpty()) {
+                    return node;
+                }
+                stack.peek().mapped.add(node);
+            }
+        }
+    }
+
+    /**
+     * A node that is being mapped.
+     *
+     * @param <T> the type of the items in the tree
+     * @param <R> the type of the items in the resulting tree
+     */
+    private static final class Frame<T, R> {
+
+        private final R item;
+        private final List<Tree<T>> subTrees;
+        private final List<Tree<R>> mapped;
+        private int index;
+
+        Frame(final Tree<T> tree, final Function<T, R> f) {
+            item = f.apply(tree.item().orElse(null));
+            subTrees = tree.subTrees();
+            mapped = new ArrayList<>(subTrees.size());
+        }
+
+        boolean hasNext() {
+            return index < subTrees.size();
+        }
+
+        Tree<T> next() {
+            return subTrees.get(index++);
+        }
     }
 
 }
@@ -5,6 +5,8 @@ import org.assertj.core.api.AbstractIntegerAssert;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -372,4 +374,25 @@ class MaybeTest implements WithAssertions {
         //then
         assertThat(result.toOptional()).contains(first);
     }
+
+    @Test
+    void emptyStream_findAny_isNothing() {
+        //given
+        final Stream<Object> stream = Stream.empty();
+        //when
+        final Maybe<Object> result = Maybe.findAny(stream);
+        //then
+        assertThat(result.isNothing()).isTrue();
+    }
+
+    @Test
+    void multipleItemParallelStream_findAny_isJustAnItem() {
+        //given
+        final List<String> items = Arrays.asList("first", "second", "third");
+        //when
+        final Maybe<String> result = Maybe.findAny(items.parallelStream());
+        //then
+        assertThat(result.isJust()).isTrue();
+        assertThat(items).contains(result.orElse(null));
+    }
 }
@@ -11,12 +11,15 @@ import net.kemitix.mon.result.SuccessVoid;
 import net.kemitix.mon.result.UnexpectedErrorResultException;
 import net.kemitix.mon.result.VoidCallable;
 import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -25,6 +28,8 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assumptions.assumeThat;
@@ -583,6 +588,91 @@ class ResultTest implements WithAssertions {
         }
     }
 
+    @Nested
+    @DisplayName("stacklessErrors")
+    class StacklessErrorsTests {
+
+        private boolean original;
+
+        @BeforeEach
+        void setUp() {
+            original = Result.isStacklessErrors();
+        }
+
+        @AfterEach
+        void tearDown() {
+            Result.stacklessErrors(original);
+        }
+
+        @Test
+        void defaultIsSetBySystemProperty() {
+            assertThat(Result.isStacklessErrors())
+                    .isEqualTo(Boolean.getBoolean("net.kemitix.mon.result.stackless"));
+        }
+
+        @Test
+        void whenDisabled_orElseThrow_hasStackTrace() {
+            //given
+            Result.stacklessErrors(false);
+            final IOException exception = new IOException();
+            final Result<Integer> error = anError(exception);
+            //then
+            assertThatThrownBy(() -> error.orElseThrow())
+                    .isInstanceOf(CheckedErrorResultException.class)
+                    .satisfies(e -> assertThat(e.getStackTrace()).isNotEmpty());
+        }
+
+        @Test
+        void whenEnabled_orElseThrow_hasNoStackTrace() {
+            //given
+            Result.stacklessErrors(true);
+            final IOException exception = new IOException();
+            final Result<Integer> error = anError(exception);
+            //then
+            assertThatThrownBy(() -> error.orElseThrow())
+                    .isInstanceOf(CheckedErrorResultException.class)
+                    .hasCause(exception)
+                    .satisfies(e -> assertThat(e.getStackTrace()).isEmpty());
+        }
+
+        @Test
+        void whenEnabled_orElseThrowT_hasNoStackTrace() {
+            //given
+            Result.stacklessErrors(true);
+            final IOException exception = new IOException();
+            final Result<Integer> error = anError(exception);
+            //then
+            assertThatThrownBy(() -> error.orElseThrow(RuntimeException.class))
+                    .isInstanceOf(UnexpectedErrorResultException.class)
+                    .hasCause(exception)
+                    .satisfies(e -> assertThat(e.getStackTrace()).isEmpty());
+        }
+
+        @Test
+        void whenEnabled_orElseThrowUnchecked_hasNoStackTrace() {
+            //given
+            Result.stacklessErrors(true);
+            final IOException exception = new IOException();
+            final Result<Integer> error = anError(exception);
+            //then
+            assertThatThrownBy(() -> error.orElseThrowUnchecked())
+                    .isInstanceOf(ErrorResultException.class)
+                    .hasCause(exception)
+                    .satisfies(e -> assertThat(e.getStackTrace()).isEmpty());
+        }
+
+        @Test
+        void whenEnabled_causeKeepsStackTrace() {
+            //given
+            Result.stacklessErrors(true);
+            final IOException exception = new IOException();
+            final Result<Integer> error = anError(exception);
+            //then
+            assertThatThrownBy(() -> error.orElseThrowUnchecked())
+                    .satisfies(e -> assertThat(e.getCause().getStackTrace()).isNotEmpty());
+        }
+    }
+
     @Nested
     @DisplayName("use cases")
     class UseCaseTests {
@@ -1504,6 +1594,366 @@ class ResultTest implements WithAssertions {
         }
     }
 
+    @Nested
+    @DisplayName("parallelApplyOver")
+    class ParallelApplyOverTests {
+
+        private final List<Integer> values = IntStream.range(0, 100_000)
+                .boxed()
+                .collect(Collectors.toList());
+
+        @Test
+        @DisplayName("Empty List is Okay")
+        void emptyListIsOkay() {
+            //when
+            var result = Result.parallelApplyOver(List.of(), x -> {});
+            //then
+            assertThat(result.isOkay()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Large list with valid results - is valid result")
+        void largeListValidIsValid() {
+            //when
+            var result = Result.parallelApplyOver(values, Integer::longValue, 0L, Long::sum);
+            //then
+            result.match(
+                    success -> assertThat(success).isEqualTo(4_999_950_000L),
+                    error -> fail("not an error")
+            );
+        }
+
+        @Test
+        @DisplayName("Partial results are combined in list order")
+        void combinedInOrder() {
+            //given
+            var fewer = values.subList(0, 5_000);
+            //when
+            var result = Result.parallelApplyOver(fewer, String::valueOf, "",
+                    (next, acc) -> acc.isEmpty() ? next : acc + "," + next);
+            //then
+            result.match(
+                    success -> assertThat(success).isEqualTo(fewer.stream()
+                            .map(String::valueOf)
+                            .collect(Collectors.joining(","))),
+                    error -> fail("not an error")
+            );
+        }
+
+        @Test
+        @DisplayName("Large list with several errors - is first error")
+        void severalErrorsIsFirstError() {
+            //when
+            var result = Result.parallelApplyOver(values, v -> {
+                if (v % 30_000 == 29_999) {
+                    throw new RuntimeException(String.valueOf(v));
+                }
+                return v;
+            }, 0, Integer::sum);
+            //then
+            result.match(
+                    success -> fail("not a success"),
+                    error -> assertThat(error).hasMessage("29999")
+            );
+        }
+
+        @Test
+        @DisplayName("Consumer error - is first error")
+        void consumerErrorIsFirstError() {
+            //when
+            var result = Result.parallelApplyOver(values, v -> {
+                if (v >= 70_000) {
+                    throw new RuntimeException(String.valueOf(v));
+                }
+            });
+            //then
+            result.match(
+                    () -> fail("not a success"),
+                    error -> assertThat(error).hasMessage("70000")
+            );
+        }
+
+        @Test
+        @DisplayName("Non random access list - is valid result")
+        void linkedListIsValid() {
+            //when
+            var result = Result.parallelApplyOver(new LinkedList<>(values), Integer::longValue, 0L, Long::sum);
+            //then
+            result.match(
+                    success -> assertThat(success).isEqualTo(4_999_950_000L),
+                    error -> fail("not an error")
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("parallelFlatApplyOver")
+    class ParallelFlatApplyOverTests {
+
+        private final List<Integer> values = IntStream.range(0, 100_000)
+                .boxed()
+                .collect(Collectors.toList());
+
+        @Test
+        @DisplayName("Large list with valid results - is valid result")
+        void largeListValidIsValid() {
+            //given
+            Function<Integer, Result<Long>> f = v -> Result.ok(v.longValue());
+            //when
+            var result = Result.parallelFlatApplyOver(values, f, 0L, Long::sum);
+            //then
+            result.match(
+                    success -> assertThat(success).isEqualTo(4_999_950_000L),
+                    error -> fail("not an error")
+            );
+        }
+
+        @Test
+        @DisplayName("Large list with several errors - is first error")
+        void severalErrorsIsFirstError() {
+            //given
+            Function<Integer, Result<Integer>> f = v -> Result.of(() -> {
+                if (v % 30_000 == 29_999) {
+                    throw new RuntimeException(String.valueOf(v));
+                }
+                return v;
+            });
+            //when
+            var result = Result.parallelFlatApplyOver(values, f, 0, Integer::sum);
+            //then
+            result.match(
+                    success -> fail("not a success"),
+                    error -> assertThat(error).hasMessage("29999")
+            );
+        }
+
+        @Test
+        @DisplayName("Error stops later values being processed")
+        void errorSkipsLaterValues() {
+            //given
+            var processed = new AtomicInteger();
+            Function<Integer, Result<Integer>> f = v -> Result.of(() -> {
+                processed.incrementAndGet();
+                if (v == 0) {
+                    throw new RuntimeException(String.valueOf(v));
+                }
+                return v;
+            });
+            //when
+            var result = Result.parallelFlatApplyOver(values, f, 0, Integer::sum);
+            //then
+            assertThat(result.isError()).isTrue();
+            assertThat(processed).hasValueLessThan(values.size());
+        }
+
+        @Test
+        @DisplayName("Function throwing is first error")
+        void functionThrowingIsFirstError() {
+            //given
+            Function<Integer, Result<Integer>> f = v -> {
+                if (v % 30_000 == 29_999) {
+                    throw new RuntimeException(String.valueOf(v));
+                }
+                return Result.ok(v);
+            };
+            //when
+            var result = Result.parallelFlatApplyOver(values, f, 0, Integer::sum);
+            //then
+            result.match(
+                    success -> fail("not a success"),
+                    error -> assertThat(error).hasMessage("29999")
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("sequence")
+    class SequenceTests {
+
+        @Test
+        @DisplayName("Empty collection is empty list")
+        void emptyIsEmptyList() {
+            //when
+            var result = Result.sequence(List.<Result<Integer>>of());
+            //then
+            result.match(
+                    success -> assertThat(success).isEmpty(),
+                    error -> fail("not an error")
+            );
+        }
+
+        @Test
+        @DisplayName("All successes is list of values")
+        void allSuccessesIsValues() {
+            //given
+            var results = List.of(Result.ok(1), Result.ok(2), Result.ok(3));
+            //when
+            var result = Result.sequence(results);
+            //then
+            result.match(
+                    success -> assertThat(success).containsExactly(1, 2, 3),
+                    error -> fail("not an error")
+            );
+        }
+
+        @Test
+        @DisplayName("Errors is first error")
+        void errorsIsFirstError() {
+            //given
+            var first = new RuntimeException("first");
+            var results = List.of(Result.ok(1), anError(first), anError(new RuntimeException("second")));
+            //when
+            var result = Result.sequence(results);
+            //then
+            result.match(
+                    success -> fail("not a success"),
+                    error -> assertThat(error).isSameAs(first)
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("traverse")
+    class TraverseTests {
+
+        @Test
+        @DisplayName("All successes is list of values")
+        void allSuccessesIsValues() {
+            //given
+            var items = List.of("1", "2", "3");
+            //when
+            var result = Result.traverse(items, s -> Result.of(() -> Integer.parseInt(s)));
+            //then
+            result.match(
+                    success -> assertThat(success).containsExactly(1, 2, 3),
+                    error -> fail("not an error")
+            );
+        }
+
+        @Test
+        @DisplayName("Error is first error and stops processing")
+        void errorIsFirstErrorAndStops() {
+            //given
+            var items = List.of("1", "x", "y");
+            List<String> processed = new ArrayList<>();
+            //when
+            var result = Result.traverse(items, s -> Result.of(() -> {
+                processed.add(s);
+                return Integer.parseInt(s);
+            }));
+            //then
+            result.match(
+                    success -> fail("not a success"),
+                    error -> assertThat(error).isInstanceOf(NumberFormatException.class)
+                            .hasMessageContaining("\"x\"")
+            );
+            assertThat(processed).containsExactly("1", "x");
+        }
+    }
+
+    @Nested
+    @DisplayName("sequenceCollector")
+    class SequenceCollectorTests {
+
+        @Test
+        @DisplayName("All successes is list of values")
+        void allSuccessesIsValues() {
+            //when
+            var result = Stream.of(Result.ok(1), Result.ok(2), Result.ok(3))
+                    .collect(Result.sequenceCollector());
+            //then
+            result.match(
+                    success -> assertThat(success).containsExactly(1, 2, 3),
+                    error -> fail("not an error")
+            );
+        }
+
+        @Test
+        @DisplayName("Errors is first error")
+        void errorsIsFirstError() {
+            //given
+            var first = new RuntimeException("first");
+            //when
+            var result = Stream.of(Result.ok(1), anError(first), anError(new RuntimeException("second")))
+                    .collect(Result.sequenceCollector());
+            //then
+            result.match(
+                    success -> fail("not a success"),
+                    error -> assertThat(error).isSameAs(first)
+            );
+        }
+
+        @Test
+        @DisplayName("Parallel stream keeps encounter order")
+        void parallelKeepsOrder() {
+            //given
+            var values = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+            //when
+            var result = values.parallelStream()
+                    .map(Result::ok)
+                    .collect(Result.sequenceCollector());
+            //then
+            result.match(
+                    success -> assertThat(success).isEqualTo(values),
+                    error -> fail("not an error")
+            );
+        }
+
+        @Test
+        @DisplayName("Parallel stream with errors is first error")
+        void parallelErrorsIsFirstError() {
+            //when
+            var result = IntStream.range(0, 100_000).boxed()
+                    .parallel()
+                    .map(v -> v % 30_000 == 29_999
+                            ? anError(new RuntimeException(String.valueOf(v)))
+                            : Result.ok(v))
+                    .collect(Result.sequenceCollector());
+            //then
+            result.match(
+                    success -> fail("not a success"),
+                    error -> assertThat(error).hasMessage("29999")
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("traverseCollector")
+    class TraverseCollectorTests {
+
+        @Test
+        @DisplayName("All successes is list of values")
+        void allSuccessesIsValues() {
+            //when
+            var result = Stream.of("1", "2", "3")
+                    .collect(Result.traverseCollector(s -> Result.of(() -> Integer.parseInt(s))));
+            //then
+            result.match(
+                    success -> assertThat(success).containsExactly(1, 2, 3),
+                    error -> fail("not an error")
+            );
+        }
+
+        @Test
+        @DisplayName("Error is first error and stops processing")
+        void errorIsFirstErrorAndStops() {
+            //given
+            List<String> processed = new ArrayList<>();
+            //when
+            var result = Stream.of("1", "x", "y")
+                    .collect(Result.traverseCollector(s -> Result.of(() -> {
+                        processed.add(s);
+                        return Integer.parseInt(s);
+                    })));
+            //then
+            result.match(
+                    success -> fail("not a success"),
+                    error -> assertThat(error).hasMessageContaining("\"x\"")
+            );
+            assertThat(processed).containsExactly("1", "x");
+        }
+    }
+
     @Nested
     @DisplayName("toEither")
     class ToEitherTests {
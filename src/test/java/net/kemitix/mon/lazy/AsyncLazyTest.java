@@ -0,0 +1,138 @@
+package net.kemitix.mon.lazy;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class AsyncLazyTest implements WithAssertions {
+
+    private final AtomicInteger supplierCalledCounter = new AtomicInteger();
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+    private final Executor executor = tasks::add;
+
+    private void runTasks() {
+        while (!tasks.isEmpty()) {
+            tasks.remove().run();
+        }
+    }
+
+    @Test
+    void whenCreateThenNothingIsStarted() {
+        //when
+        final AsyncLazy<Integer> lazy = AsyncLazy.of(supplierCalledCounter::incrementAndGet, executor);
+        //then
+        assertThat(tasks).isEmpty();
+        assertThat(lazy.isEvaluated()).isFalse();
+    }
+
+    @Test
+    void whenFutureThenSupplierIsStartedOnExecutor() {
+        //given
+        final AsyncLazy<Integer> lazy = AsyncLazy.of(supplierCalledCounter::incrementAndGet, executor);
+        //when
+        final CompletableFuture<Integer> future = lazy.future();
+        //then
+        assertThat(future).isNotDone();
+        assertThat(supplierCalledCounter).hasValue(0);
+        runTasks();
+        assertThat(future).isCompletedWithValue(1);
+        assertThat(lazy.isEvaluated()).isTrue();
+    }
+
+    @Test
+    void whenFutureCalledTwiceThenComputationIsShared() {
+        //given
+        final AsyncLazy<Integer> lazy = AsyncLazy.of(supplierCalledCounter::incrementAndGet, executor);
+        //when
+        final CompletableFuture<Integer> future1 = lazy.future();
+        final CompletableFuture<Integer> future2 = lazy.future();
+        runTasks();
+        //then
+        assertThat(future1).isCompletedWithValue(1);
+        assertThat(future2).isCompletedWithValue(1);
+        assertThat(lazy.future()).isCompletedWithValue(1);
+        assertThat(supplierCalledCounter).hasValue(1);
+    }
+
+    @Test
+    void whenCallerCompletesFutureThenOtherCallersAreUnaffected() {
+        //given
+        final AsyncLazy<Integer> lazy = AsyncLazy.of(supplierCalledCounter::incrementAndGet, executor);
+        //when
+        lazy.future().complete(-1);
+        runTasks();
+        //then
+        assertThat(lazy.future()).isCompletedWithValue(1);
+    }
+
+    @Test
+    void whenSupplierFailsThenFailureIsNotMemoized() {
+        //given
+        final AsyncLazy<Integer> lazy = AsyncLazy.of(() -> {
+            if (supplierCalledCounter.incrementAndGet() == 1) {
+                throw new IllegalStateException("first");
+            }
+            return supplierCalledCounter.get();
+        }, executor);
+        //when
+        final CompletableFuture<Integer> failed = lazy.future();
+        runTasks();
+        //then
+        assertThat(failed).isCompletedExceptionally();
+        assertThatThrownBy(failed::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(lazy.isEvaluated()).isFalse();
+        final CompletableFuture<Integer> retried = lazy.future();
+        runTasks();
+        assertThat(retried).isCompletedWithValue(2);
+    }
+
+    @Test
+    void whenExecutorRejectsThenFailureIsNotMemoized() {
+        //given
+        final AtomicInteger attempts = new AtomicInteger();
+        final AsyncLazy<Integer> lazy = AsyncLazy.of(supplierCalledCounter::incrementAndGet, task -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new RejectedExecutionException();
+            }
+            task.run();
+        });
+        //when
+        final CompletableFuture<Integer> rejected = lazy.future();
+        //then
+        assertThat(rejected).isCompletedExceptionally();
+        assertThat(lazy.future()).isCompletedWithValue(1);
+    }
+
+    @Test
+    void whenMapThenNothingIsStarted() {
+        //given
+        final AsyncLazy<Integer> lazy = AsyncLazy.of(supplierCalledCounter::incrementAndGet, executor);
+        //when
+        lazy.map(v -> v * 10);
+        //then
+        assertThat(tasks).isEmpty();
+    }
+
+    @Test
+    void whenMapFutureThenFunctionIsApplied() {
+        //given
+        final AsyncLazy<Integer> lazy = AsyncLazy.of(supplierCalledCounter::incrementAndGet, executor);
+        final AsyncLazy<String> mapped = lazy.map(v -> v * 10).map(String::valueOf);
+        //when
+        final CompletableFuture<String> future = mapped.future();
+        runTasks();
+        //then
+        assertThat(future).isCompletedWithValue("10");
+        assertThat(lazy.isEvaluated()).isTrue();
+        assertThat(mapped.isEvaluated()).isTrue();
+    }
+}
@@ -0,0 +1,252 @@
+package net.kemitix.mon.lazy;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+class ExpiringLazyTest implements WithAssertions {
+
+    private final Duration ttl = Duration.ofNanos(100);
+    private final AtomicLong ticker = new AtomicLong();
+    private final AtomicInteger supplierCalledCounter = new AtomicInteger();
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+    private final Executor executor = tasks::add;
+
+    @Test
+    void whenCreateThenSupplierIsNotCalled() {
+        //when
+        final ExpiringLazy<Integer> lazy = ExpiringLazy.of(supplierCalledCounter::incrementAndGet, ttl, ticker::get);
+        //then
+        assertThat(lazy.isEvaluated()).isFalse();
+        assertThat(supplierCalledCounter).hasValue(0);
+    }
+
+    @Test
+    void whenValueWithinTtlThenSupplierIsCalledOnce() {
+        //given
+        final ExpiringLazy<Integer> lazy = ExpiringLazy.of(supplierCalledCounter::incrementAndGet, ttl, ticker::get);
+        //when
+        final Integer value1 = lazy.value();
+        ticker.set(99);
+        final Integer value2 = lazy.value();
+        //then
+        assertThat(value1).isEqualTo(1);
+        assertThat(value2).isEqualTo(1);
+        assertThat(lazy.isEvaluated()).isTrue();
+    }
+
+    @Test
+    void whenTtlPassedThenValueIsEvaluatedAgain() {
+        //given
+        final ExpiringLazy<Integer> lazy = ExpiringLazy.of(supplierCalledCounter::incrementAndGet, ttl, ticker::get);
+        lazy.value();
+        //when
+        ticker.set(100);
+        //then
+        assertThat(lazy.isEvaluated()).isFalse();
+        assertThat(lazy.value()).isEqualTo(2);
+        assertThat(lazy.isEvaluated()).isTrue();
+    }
+
+    @Test
+    void whenInvalidateThenValueIsEvaluatedAgain() {
+        //given
+        final ExpiringLazy<Integer> lazy = ExpiringLazy.of(supplierCalledCounter::incrementAndGet, ttl, ticker::get);
+        lazy.value();
+        //when
+        lazy.invalidate();
+        //then
+        assertThat(lazy.isEvaluated()).isFalse();
+        assertThat(lazy.value()).isEqualTo(2);
+    }
+
+    @Test
+    void whenRefreshingAndExpiredThenStaleValueIsReturnedAndRefreshed() {
+        //given
+        final ExpiringLazy<Integer> lazy =
+                ExpiringLazy.refreshing(supplierCalledCounter::incrementAndGet, ttl, executor, ticker::get);
+        lazy.value();
+        ticker.set(100);
+        //when
+        final Integer stale = lazy.value();
+        //then
+        assertThat(stale).isEqualTo(1);
+        assertThat(tasks).hasSize(1);
+        tasks.remove().run();
+        assertThat(lazy.value()).isEqualTo(2);
+        assertThat(lazy.isEvaluated()).isTrue();
+    }
+
+    @Test
+    void whenRefreshingFirstValueThenEvaluatedOnCallingThread() {
+        //given
+        final ExpiringLazy<Integer> lazy =
+                ExpiringLazy.refreshing(supplierCalledCounter::incrementAndGet, ttl, executor, ticker::get);
+        //when
+        final Integer value = lazy.value();
+        //then
+        assertThat(value).isEqualTo(1);
+        assertThat(tasks).isEmpty();
+    }
+
+    @Test
+    void whenRefreshInProgressThenNoSecondRefreshIsStarted() {
+        //given
+        final ExpiringLazy<Integer> lazy =
+                ExpiringLazy.refreshing(supplierCalledCounter::incrementAndGet, ttl, executor, ticker::get);
+        lazy.value();
+        ticker.set(100);
+        //when
+        lazy.value();
+        lazy.value();
+        //then
+        assertThat(tasks).hasSize(1);
+    }
+
+    @Test
+    void whenInvalidatedDuringRefreshThenRefreshDoesNotReplaceValue() {
+        //given
+        final ExpiringLazy<Integer> lazy =
+                ExpiringLazy.refreshing(supplierCalledCounter::incrementAndGet, ttl, executor, ticker::get);
+        lazy.value();
+        ticker.set(100);
+        lazy.value();
+        //when
+        lazy.invalidate();
+        tasks.remove().run();
+        //then
+        assertThat(lazy.isEvaluated()).isFalse();
+        assertThat(lazy.value()).isEqualTo(3);
+    }
+
+    @Test
+    void whenRefreshRejectedThenStaleValueIsReturnedAndRetriedLater() {
+        //given
+        final AtomicInteger attempts = new AtomicInteger();
+        final Executor rejecting = task -> {
+            attempts.incrementAndGet();
+            throw new RejectedExecutionException();
+        };
+        final ExpiringLazy<Integer> lazy =
+                ExpiringLazy.refreshing(supplierCalledCounter::incrementAndGet, ttl, rejecting, ticker::get);
+        lazy.value();
+        ticker.set(100);
+        //when
+        final Integer value1 = lazy.value();
+        final Integer value2 = lazy.value();
+        //then
+        assertThat(value1).isEqualTo(1);
+        assertThat(value2).isEqualTo(1);
+        assertThat(attempts).hasValue(2);
+    }
+
+    @Test
+    void whenMapThenMappedValueFollowsExpiry() {
+        //given
+        final ExpiringLazy<Integer> lazy = ExpiringLazy.of(supplierCalledCounter::incrementAndGet, ttl, ticker::get);
+        final Lazy<Integer> mapped = lazy.map(v -> v * 10).map(v -> v + 1);
+        //when
+        final Integer value1 = mapped.value();
+        ticker.set(100);
+        final Integer value2 = mapped.value();
+        //then
+        assertThat(value1).isEqualTo(11);
+        assertThat(value2).isEqualTo(21);
+    }
+
+    @Test
+    void whenInvalidatedDuringEvaluationThenValueIsNotKept() throws Exception {
+        //given
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Supplier<Integer> blocking = () -> {
+            final int value = supplierCalledCounter.incrementAndGet();
+            if (value == 1) {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return value;
+        };
+        final ExpiringLazy<Integer> lazy = ExpiringLazy.of(blocking, Duration.ofHours(1), ticker::get);
+        final CompletableFuture<Integer> first = CompletableFuture.supplyAsync(lazy::value);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        //when
+        lazy.invalidate();
+        release.countDown();
+        //then
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+        assertThat(lazy.isEvaluated()).isFalse();
+        assertThat(lazy.value()).isEqualTo(2);
+    }
+
+    @Test
+    void whenRefreshThrowsThenNextValueEvaluatesOnCallingThread() {
+        //given
+        final Supplier<Integer> failingRefresh = () -> {
+            if (supplierCalledCounter.incrementAndGet() == 2) {
+                throw new IllegalStateException("refresh failed");
+            }
+            return supplierCalledCounter.get();
+        };
+        final ExpiringLazy<Integer> lazy = ExpiringLazy.refreshing(failingRefresh, ttl, executor, ticker::get);
+        lazy.value();
+        ticker.set(100);
+        lazy.value();
+        //when
+        tasks.remove().run();
+        //then
+        assertThat(lazy.isEvaluated()).isFalse();
+        assertThat(lazy.value()).isEqualTo(3);
+        assertThat(tasks).isEmpty();
+    }
+
+    @Test
+    void whenRefreshThrowsThenNextValueThrowsToCaller() {
+        //given
+        final Supplier<Integer> failing = () -> {
+            if (supplierCalledCounter.incrementAndGet() > 1) {
+                throw new IllegalStateException("failed");
+            }
+            return 1;
+        };
+        final ExpiringLazy<Integer> lazy = ExpiringLazy.refreshing(failing, ttl, executor, ticker::get);
+        lazy.value();
+        ticker.set(100);
+        lazy.value();
+        //when
+        tasks.remove().run();
+        //then
+        assertThatThrownBy(lazy::value)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("failed");
+    }
+
+    @Test
+    void whenMapLongChainThenValueIsCorrect() {
+        //given
+        final ExpiringLazy<Integer> lazy = ExpiringLazy.of(() -> 0, ttl, ticker::get);
+        Lazy<Integer> mapped = lazy;
+        for (int i = 0; i < 100_000; i++) {
+            mapped = mapped.map(v -> v + 1);
+        }
+        //when
+        final Integer value = mapped.value();
+        //then
+        assertThat(value).isEqualTo(100_000);
+    }
+}
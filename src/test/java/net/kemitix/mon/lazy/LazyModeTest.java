@@ -0,0 +1,137 @@
+package net.kemitix.mon.lazy;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+class LazyModeTest implements WithAssertions {
+
+    private interface ModeTest {
+        void test(LazyMode mode) throws Exception;
+    }
+
+    private static Stream<DynamicTest> forEach(final Stream<LazyMode> modes, final ModeTest test) {
+        return modes.map(mode -> DynamicTest.dynamicTest(mode.name(), () -> test.test(mode)));
+    }
+
+    @TestFactory
+    Stream<DynamicTest> whenCreateLazyThenSupplierIsNotCalled() {
+        return forEach(Stream.of(LazyMode.values()), this::whenCreateLazyThenSupplierIsNotCalledInMode);
+    }
+
+    private void whenCreateLazyThenSupplierIsNotCalledInMode(final LazyMode mode) {
+        //given
+        final AtomicInteger supplierCalledCounter = new AtomicInteger(0);
+        //when
+        final Lazy<Integer> lazy = Lazy.of(supplierCalledCounter::incrementAndGet, mode);
+        //then
+        assertThat(lazy.isEvaluated()).isFalse();
+        assertThat(supplierCalledCounter).hasValue(0);
+    }
+
+    @TestFactory
+    Stream<DynamicTest> whenValueCalledTwiceThenSupplierIsCalledOnce() {
+        return forEach(Stream.of(LazyMode.values()), this::whenValueCalledTwiceThenSupplierIsCalledOnceInMode);
+    }
+
+    private void whenValueCalledTwiceThenSupplierIsCalledOnceInMode(final LazyMode mode) {
+        //given
+        final AtomicInteger supplierCalledCounter = new AtomicInteger(0);
+        final Lazy<Integer> lazy = Lazy.of(supplierCalledCounter::incrementAndGet, mode);
+        //when
+        final Integer value1 = lazy.value();
+        final Integer value2 = lazy.value();
+        //then
+        assertThat(value1).isEqualTo(1);
+        assertThat(value2).isEqualTo(1);
+        assertThat(lazy.isEvaluated()).isTrue();
+        assertThat(supplierCalledCounter).hasValue(1);
+    }
+
+    @TestFactory
+    Stream<DynamicTest> whenSupplierReturnsNullThenIsEvaluated() {
+        return forEach(Stream.of(LazyMode.values()), this::whenSupplierReturnsNullThenIsEvaluatedInMode);
+    }
+
+    private void whenSupplierReturnsNullThenIsEvaluatedInMode(final LazyMode mode) {
+        //given
+        final Lazy<UUID> lazy = Lazy.of(() -> null, mode);
+        //when
+        final UUID value = lazy.value();
+        //then
+        assertThat(value).isNull();
+        assertThat(lazy.isEvaluated()).isTrue();
+    }
+
+    @TestFactory
+    Stream<DynamicTest> whenMapThenModeIsKeptAndValueIsCorrect() {
+        return forEach(Stream.of(LazyMode.values()), this::whenMapThenModeIsKeptAndValueIsCorrectInMode);
+    }
+
+    private void whenMapThenModeIsKeptAndValueIsCorrectInMode(final LazyMode mode) {
+        //given
+        final Lazy<String> lazy = Lazy.of(() -> "value", mode);
+        //when
+        final Lazy<Integer> mapped = lazy.map(String::length);
+        //then
+        assertThat(mapped).isInstanceOf(Lazy.of(() -> 0, mode).getClass());
+        assertThat(mapped.isEvaluated()).isFalse();
+        assertThat(mapped.value()).isEqualTo(5);
+    }
+
+    @TestFactory
+    Stream<DynamicTest> whenValueCalledOnManyThreadsThenAllSeeTheSameValue() {
+        return forEach(Stream.of(LazyMode.SYNCHRONIZED, LazyMode.PUBLICATION), this::whenValueCalledOnManyThreadsThenAllSeeTheSameValueInMode);
+    }
+
+    private void whenValueCalledOnManyThreadsThenAllSeeTheSameValueInMode(final LazyMode mode)
+            throws ExecutionException, InterruptedException {
+        //given
+        final int threads = 16;
+        final CountDownLatch latch = new CountDownLatch(1);
+        final Lazy<Object> lazy = Lazy.of(Object::new, mode);
+        final ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        final List<Future<Object>> futures = new ArrayList<>();
+        //when
+        for (int i = 0; i < threads; i++) {
+            futures.add(executorService.submit(() -> {
+                latch.await();
+                return lazy.value();
+            }));
+        }
+        latch.countDown();
+        //then
+        final Object expected = lazy.value();
+        for (final Future<Object> future : futures) {
+            assertThat(future.get()).isSameAs(expected);
+        }
+        executorService.shutdown();
+    }
+
+    @TestFactory
+    Stream<DynamicTest> whenSupplierThrowsThenIsNotEvaluated() {
+        return forEach(Stream.of(LazyMode.values()), this::whenSupplierThrowsThenIsNotEvaluatedInMode);
+    }
+
+    private void whenSupplierThrowsThenIsNotEvaluatedInMode(final LazyMode mode) {
+        //given
+        final Lazy<String> lazy = Lazy.of(() -> {
+            throw new IllegalStateException();
+        }, mode);
+        //when
+        assertThatIllegalStateException().isThrownBy(lazy::value);
+        //then
+        assertThat(lazy.isEvaluated()).isFalse();
+    }
+}
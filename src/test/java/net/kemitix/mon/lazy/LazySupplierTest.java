@@ -3,6 +3,8 @@ package net.kemitix.mon.lazy;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -168,4 +170,156 @@ class LazySupplierTest implements WithAssertions {
         assertThat(supplierCalledCounter).hasValue(1);
     }
 
+    @Test
+    void whenSupplierReturnsNullThenIsEvaluatedAndNotCalledAgain() {
+        //given
+        final AtomicInteger supplierCalledCounter = new AtomicInteger(0);
+        final Lazy<UUID> lazy = Lazy.of(() -> {
+            supplierCalledCounter.incrementAndGet();
+            return null;
+        });
+        //when
+        final UUID value1 = lazy.value();
+        final UUID value2 = lazy.value();
+        //then
+        assertThat(value1).isNull();
+        assertThat(value2).isNull();
+        assertThat(lazy.isEvaluated()).isTrue();
+        assertThat(supplierCalledCounter).hasValue(1);
+    }
+
+    @Test
+    void whenSupplierThrowsThenIsNotEvaluatedAndIsCalledAgain() {
+        //given
+        final AtomicInteger supplierCalledCounter = new AtomicInteger(0);
+        final UUID uuid = UUID.randomUUID();
+        final Lazy<UUID> lazy = Lazy.of(() -> {
+            if (supplierCalledCounter.incrementAndGet() == 1) {
+                throw new IllegalStateException("first");
+            }
+            return uuid;
+        });
+        //when
+        assertThatIllegalStateException().isThrownBy(lazy::value);
+        //then
+        assertThat(lazy.isEvaluated()).isFalse();
+        assertThat(lazy.value()).isEqualTo(uuid);
+        assertThat(supplierCalledCounter).hasValue(2);
+    }
+
+    @Test
+    void whenLazyValueCalledOnManyThreadsThenSupplierIsOnlyCalledOnce() throws ExecutionException, InterruptedException {
+        //given
+        final int threads = 16;
+        final AtomicInteger supplierCalledCounter = new AtomicInteger(0);
+        final CountDownLatch latch = new CountDownLatch(1);
+        final Lazy<Integer> lazy = Lazy.of(supplierCalledCounter::incrementAndGet);
+        final ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        final List<Future<Integer>> futures = new ArrayList<>();
+        //when
+        for (int i = 0; i < threads; i++) {
+            futures.add(executorService.submit(() -> {
+                latch.await();
+                return lazy.value();
+            }));
+        }
+        latch.countDown();
+        //then
+        for (final Future<Integer> future : futures) {
+            assertThat(future.get()).isEqualTo(1);
+        }
+        assertThat(supplierCalledCounter).hasValue(1);
+        executorService.shutdown();
+    }
+
+    @Test
+    void whenLongMapChainValueThenEvaluatesWithoutDeepStack() {
+        //given
+        final int depth = 100_000;
+        Lazy<Integer> lazy = Lazy.of(() -> 0);
+        for (int i = 0; i < depth; i++) {
+            lazy = lazy.map(v -> v + 1);
+        }
+        //when
+        final Integer value = lazy.value();
+        //then
+        assertThat(value).isEqualTo(depth);
+    }
+
+    @Test
+    void whenMapChainAndUpstreamBothEvaluatedThenSupplierIsCalledOnce() {
+        //given
+        final AtomicInteger supplierCalledCounter = new AtomicInteger(0);
+        final Lazy<Integer> upstream = Lazy.of(supplierCalledCounter::incrementAndGet);
+        final Lazy<Integer> mapped = upstream.map(v -> v * 10).map(v -> v + 1);
+        //when
+        final Integer mappedValue = mapped.value();
+        final Integer upstreamValue = upstream.value();
+        //then
+        assertThat(mappedValue).isEqualTo(11);
+        assertThat(upstreamValue).isEqualTo(1);
+        assertThat(supplierCalledCounter).hasValue(1);
+    }
+
+    @Test
+    void whenMapChainValueThenIntermediateLazyIsEvaluated() {
+        //given
+        final Lazy<String> upstream = Lazy.of(() -> "value");
+        final Lazy<Integer> intermediate = upstream.map(String::length);
+        final Lazy<Integer> mapped = intermediate.map(v -> v * 2);
+        //when
+        final Integer value = mapped.value();
+        //then
+        assertThat(value).isEqualTo(10);
+        assertThat(upstream.isEvaluated()).isTrue();
+        assertThat(intermediate.isEvaluated()).isTrue();
+        assertThat(intermediate.value()).isEqualTo(5);
+    }
+
+    @Test
+    void whenMappedThenIntermediateValueThenEachFunctionIsCalledOnce() {
+        //given
+        final AtomicInteger firstCalls = new AtomicInteger();
+        final AtomicInteger secondCalls = new AtomicInteger();
+        final Lazy<Integer> intermediate = Lazy.of(() -> 1).map(v -> firstCalls.incrementAndGet() + v);
+        final Lazy<Integer> mapped = intermediate.map(v -> secondCalls.incrementAndGet() * v * 10);
+        //when
+        final Integer mappedValue = mapped.value();
+        final Integer intermediateValue = intermediate.value();
+        //then
+        assertThat(mappedValue).isEqualTo(20);
+        assertThat(intermediateValue).isEqualTo(2);
+        assertThat(firstCalls).hasValue(1);
+        assertThat(secondCalls).hasValue(1);
+    }
+
+    @Test
+    void whenIntermediateThenMappedValueThenEachFunctionIsCalledOnce() {
+        //given
+        final AtomicInteger firstCalls = new AtomicInteger();
+        final AtomicInteger secondCalls = new AtomicInteger();
+        final Lazy<Integer> intermediate = Lazy.of(() -> 1).map(v -> firstCalls.incrementAndGet() + v);
+        final Lazy<Integer> mapped = intermediate.map(v -> secondCalls.incrementAndGet() * v * 10);
+        //when
+        final Integer intermediateValue = intermediate.value();
+        final Integer mappedValue = mapped.value();
+        //then
+        assertThat(intermediateValue).isEqualTo(2);
+        assertThat(mappedValue).isEqualTo(20);
+        assertThat(firstCalls).hasValue(1);
+        assertThat(secondCalls).hasValue(1);
+    }
+
+    @Test
+    void whenMapEvaluatedLazyThenValueIsCorrect() {
+        //given
+        final Lazy<String> upstream = Lazy.of(() -> "value");
+        upstream.value();
+        //when
+        final Lazy<Integer> mapped = upstream.map(String::length).map(v -> v + 1);
+        //then
+        assertThat(mapped.isEvaluated()).isFalse();
+        assertThat(mapped.value()).isEqualTo(6);
+    }
+
 }
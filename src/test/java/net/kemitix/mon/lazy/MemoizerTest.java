@@ -0,0 +1,170 @@
+package net.kemitix.mon.lazy;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+class MemoizerTest implements WithAssertions {
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private final Function<Integer, String> function = key -> {
+        calls.incrementAndGet();
+        return "value " + key;
+    };
+
+    @Test
+    void whenApplyThenValueIsComputed() {
+        //given
+        final Memoizer<Integer, String> memoizer = Memoizer.of(function);
+        //when
+        final String value = memoizer.apply(1);
+        //then
+        assertThat(value).isEqualTo("value 1");
+        assertThat(calls).hasValue(1);
+        assertThat(memoizer.size()).isEqualTo(1);
+    }
+
+    @Test
+    void whenApplySameKeyTwiceThenFunctionIsCalledOnce() {
+        //given
+        final Memoizer<Integer, String> memoizer = Memoizer.of(function);
+        //when
+        memoizer.apply(1);
+        final String value = memoizer.apply(1);
+        //then
+        assertThat(value).isEqualTo("value 1");
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void whenApplyOnManyThreadsThenFunctionIsCalledOncePerKey() throws ExecutionException, InterruptedException {
+        //given
+        final int threads = 16;
+        final Memoizer<Integer, String> memoizer = Memoizer.of(function);
+        final CountDownLatch latch = new CountDownLatch(1);
+        final ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        final List<Future<String>> futures = new ArrayList<>();
+        //when
+        for (int i = 0; i < threads; i++) {
+            final int key = i % 2;
+            futures.add(executorService.submit(() -> {
+                latch.await();
+                return memoizer.apply(key);
+            }));
+        }
+        latch.countDown();
+        for (final Future<String> future : futures) {
+            future.get();
+        }
+        //then
+        assertThat(calls).hasValue(2);
+        executorService.shutdown();
+    }
+
+    @Test
+    void whenFunctionThrowsThenNothingIsCached() {
+        //given
+        final Memoizer<Integer, String> memoizer = Memoizer.of(key -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException("first");
+            }
+            return "value " + key;
+        });
+        //when
+        assertThatIllegalStateException().isThrownBy(() -> memoizer.apply(1));
+        //then
+        assertThat(memoizer.size()).isZero();
+        assertThat(memoizer.apply(1)).isEqualTo("value 1");
+    }
+
+    @Test
+    void whenInvalidateThenValueIsComputedAgain() {
+        //given
+        final Memoizer<Integer, String> memoizer = Memoizer.of(function);
+        memoizer.apply(1);
+        memoizer.apply(2);
+        //when
+        memoizer.invalidate(1);
+        memoizer.apply(1);
+        memoizer.apply(2);
+        //then
+        assertThat(calls).hasValue(3);
+    }
+
+    @Test
+    void whenInvalidateAllThenEmpty() {
+        //given
+        final Memoizer<Integer, String> memoizer = Memoizer.of(function);
+        memoizer.apply(1);
+        memoizer.apply(2);
+        //when
+        memoizer.invalidateAll();
+        //then
+        assertThat(memoizer.size()).isZero();
+    }
+
+    @Test
+    void whenLruExceedsMaximumSizeThenLeastRecentlyUsedIsEvicted() {
+        //given
+        final Memoizer<Integer, String> memoizer = Memoizer.lru(function, 2);
+        memoizer.apply(1);
+        memoizer.apply(2);
+        memoizer.apply(1);
+        //when
+        memoizer.apply(3);
+        //then
+        assertThat(memoizer.size()).isEqualTo(2);
+        assertThat(memoizer.stats().evictionCount()).isEqualTo(1);
+        memoizer.apply(1);
+        assertThat(calls).hasValue(3);
+        memoizer.apply(2);
+        assertThat(calls).hasValue(4);
+    }
+
+    @Test
+    void whenLruMaximumSizeInvalidThenIllegalArgument() {
+        assertThatIllegalArgumentException().isThrownBy(() -> Memoizer.lru(function, 0));
+    }
+
+    @Test
+    void whenWeakKeysThenValuesAreMemoized() {
+        //given
+        final Memoizer<Integer, String> memoizer = Memoizer.weakKeys(function);
+        //when
+        memoizer.apply(1000);
+        memoizer.apply(1000);
+        //then
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void statsCountHitsAndMisses() {
+        //given
+        final Memoizer<Integer, String> memoizer = Memoizer.of(function);
+        //when
+        memoizer.apply(1);
+        memoizer.apply(1);
+        memoizer.apply(1);
+        memoizer.apply(2);
+        //then
+        final MemoizerStats stats = memoizer.stats();
+        assertThat(stats.hitCount()).isEqualTo(2);
+        assertThat(stats.missCount()).isEqualTo(2);
+        assertThat(stats.evictionCount()).isZero();
+        assertThat(stats.hitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    void statsWithNoCallsHaveFullHitRate() {
+        assertThat(Memoizer.of(function).stats().hitRate()).isEqualTo(1.0);
+    }
+}
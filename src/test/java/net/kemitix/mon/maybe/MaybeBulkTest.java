@@ -0,0 +1,136 @@
+package net.kemitix.mon.maybe;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+class MaybeBulkTest implements WithAssertions {
+
+    private final List<Maybe<Integer>> mixed = Arrays.asList(
+            Maybe.just(1), Maybe.nothing(), Maybe.just(3), Maybe.nothing());
+
+    private final List<Maybe<Integer>> allJust = Arrays.asList(
+            Maybe.just(1), Maybe.just(2), Maybe.just(3));
+
+    @Test
+    void catMaybesKeepsJustValuesInOrder() {
+        assertThat(Maybe.catMaybes(mixed)).containsExactly(1, 3);
+    }
+
+    @Test
+    void catMaybesOfEmptyIsEmpty() {
+        assertThat(Maybe.catMaybes(Collections.<Maybe<Integer>>emptyList())).isEmpty();
+    }
+
+    @Test
+    void catMaybesCollectorKeepsJustValuesInOrder() {
+        assertThat(mixed.stream().collect(Maybe.catMaybesCollector())).containsExactly(1, 3);
+    }
+
+    @Test
+    void catMaybesCollectorOnParallelStreamKeepsEncounterOrder() {
+        //given
+        final List<Maybe<Integer>> maybes = IntStream.range(0, 10_000)
+                .mapToObj(i -> i % 2 == 0 ? Maybe.just(i) : Maybe.<Integer>nothing())
+                .collect(Collectors.toList());
+        //when
+        final List<Integer> values = maybes.parallelStream().collect(Maybe.catMaybesCollector());
+        //then
+        assertThat(values).hasSize(5_000).isSorted();
+    }
+
+    @Test
+    void partitionSplitsJustsAndCountsNothings() {
+        //when
+        final MaybePartition<Integer> partition = Maybe.partition(mixed);
+        //then
+        assertThat(partition.justs()).containsExactly(1, 3);
+        assertThat(partition.nothingCount()).isEqualTo(2);
+    }
+
+    @Test
+    void partitionJustsAreUnmodifiable() {
+        //given
+        final MaybePartition<Integer> partition = Maybe.partition(mixed);
+        //then
+        assertThatThrownBy(() -> partition.justs().add(4))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void partitionCollectorOnParallelStreamCountsAllNothings() {
+        //when
+        final MaybePartition<Integer> partition = IntStream.range(0, 9_000).parallel()
+                .mapToObj(i -> i % 3 == 0 ? Maybe.<Integer>nothing() : Maybe.just(i))
+                .collect(Maybe.partitionCollector());
+        //then
+        assertThat(partition.justs()).hasSize(6_000).isSorted();
+        assertThat(partition.nothingCount()).isEqualTo(3_000);
+    }
+
+    @Test
+    void sequenceAllJustIsJustList() {
+        assertThat(Maybe.sequence(allJust).orElse(null)).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void sequenceWithNothingIsNothing() {
+        assertThat(Maybe.sequence(mixed).isNothing()).isTrue();
+    }
+
+    @Test
+    void sequenceCollectorAllJustIsJustList() {
+        assertThat(allJust.stream().collect(Maybe.sequenceCollector()).orElse(null))
+                .containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void sequenceCollectorWithNothingIsNothing() {
+        assertThat(mixed.parallelStream().collect(Maybe.sequenceCollector()).isNothing()).isTrue();
+    }
+
+    @Test
+    void traverseAllJustIsJustList() {
+        //when
+        final Maybe<List<Integer>> result = Maybe.traverse(Arrays.asList("a", "bb"), s -> Maybe.just(s.length()));
+        //then
+        assertThat(result.orElse(null)).containsExactly(1, 2);
+    }
+
+    @Test
+    void traverseStopsAtFirstNothing() {
+        //given
+        final AtomicInteger calls = new AtomicInteger();
+        //when
+        final Maybe<List<Integer>> result = Maybe.traverse(Arrays.asList("a", "", "c"), s -> {
+            calls.incrementAndGet();
+            return s.isEmpty() ? Maybe.<Integer>nothing() : Maybe.just(s.length());
+        });
+        //then
+        assertThat(result.isNothing()).isTrue();
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void traverseCollectorStopsCallingFunctionAfterNothing() {
+        //given
+        final AtomicInteger calls = new AtomicInteger();
+        //when
+        final Maybe<List<Integer>> result = Stream.of("a", "", "c")
+                .collect(Maybe.traverseCollector(s -> {
+                    calls.incrementAndGet();
+                    return s.isEmpty() ? Maybe.<Integer>nothing() : Maybe.just(s.length());
+                }));
+        //then
+        assertThat(result.isNothing()).isTrue();
+        assertThat(calls).hasValue(2);
+    }
+
+}
@@ -0,0 +1,121 @@
+package net.kemitix.mon.maybe;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+class MaybePipelineTest implements WithAssertions {
+
+    @Test
+    void emptyPipelineGivesJustTheValue() {
+        assertThat(Maybe.<String>pipeline().run("value")).isEqualTo(Maybe.just("value"));
+    }
+
+    @Test
+    void nullValueGivesNothing() {
+        assertThat(Maybe.<String>pipeline().map(String::length).run((String) null))
+                .isEqualTo(Maybe.nothing());
+    }
+
+    @Test
+    void mapStepsAreAppliedInOrder() {
+        //given
+        final MaybePipeline<String, Integer> pipeline = Maybe.<String>pipeline()
+                .map(String::trim)
+                .map(String::length)
+                .map(v -> v * 10);
+        //when
+        final Maybe<Integer> result = pipeline.run(" abc ");
+        //then
+        assertThat(result).isEqualTo(Maybe.just(30));
+    }
+
+    @Test
+    void filterMatchKeepsValue() {
+        assertThat(Maybe.<Integer>pipeline().filter(v -> v > 0).run(1)).isEqualTo(Maybe.just(1));
+    }
+
+    @Test
+    void filterMismatchGivesNothingAndSkipsLaterSteps() {
+        //given
+        final AtomicInteger called = new AtomicInteger();
+        final MaybePipeline<Integer, Integer> pipeline = Maybe.<Integer>pipeline()
+                .filter(v -> v > 0)
+                .map(v -> called.incrementAndGet());
+        //when
+        final Maybe<Integer> result = pipeline.run(-1);
+        //then
+        assertThat(result).isEqualTo(Maybe.nothing());
+        assertThat(called).hasValue(0);
+    }
+
+    @Test
+    void flatMapJustContinuesWithValue() {
+        assertThat(Maybe.<Integer>pipeline().flatMap(v -> Maybe.just(v + 1)).map(v -> v * 2).run(1))
+                .isEqualTo(Maybe.just(4));
+    }
+
+    @Test
+    void flatMapNothingGivesNothing() {
+        assertThat(Maybe.<Integer>pipeline().flatMap(v -> Maybe.<Integer>nothing()).map(v -> v * 2).run(1))
+                .isEqualTo(Maybe.nothing());
+    }
+
+    @Test
+    void pipelineIsReusable() {
+        //given
+        final MaybePipeline<Integer, Integer> pipeline = Maybe.<Integer>pipeline()
+                .filter(v -> v % 2 == 0)
+                .map(v -> v / 2);
+        //then
+        assertThat(pipeline.run(4)).isEqualTo(Maybe.just(2));
+        assertThat(pipeline.run(3)).isEqualTo(Maybe.nothing());
+        assertThat(pipeline.run(8)).isEqualTo(Maybe.just(4));
+    }
+
+    @Test
+    void addingStepDoesNotChangeOriginalPipeline() {
+        //given
+        final MaybePipeline<Integer, Integer> original = Maybe.<Integer>pipeline().map(v -> v + 1);
+        //when
+        original.map(v -> v * 100);
+        //then
+        assertThat(original.run(1)).isEqualTo(Maybe.just(2));
+    }
+
+    @Test
+    void runMaybeWithJustUsesValue() {
+        assertThat(Maybe.<Integer>pipeline().map(v -> v + 1).runMaybe(Maybe.just(1))).isEqualTo(Maybe.just(2));
+    }
+
+    @Test
+    void runMaybeWithNothingGivesNothing() {
+        assertThat(Maybe.<Integer>pipeline().map(v -> v + 1).runMaybe(Maybe.<Integer>nothing()))
+                .isEqualTo(Maybe.nothing());
+    }
+
+    @Test
+    void runWithMaybeAsValueOfObjectPipelineDoesNotUnwrap() {
+        //given
+        final Maybe<Object> maybe = Maybe.just("value");
+        final MaybePipeline<Object, Object> pipeline = Maybe.<Object>pipeline().map(v -> v);
+        //when
+        final Maybe<Object> result = pipeline.run(maybe);
+        //then
+        assertThat(result).isEqualTo(Maybe.just(maybe));
+    }
+
+    @Test
+    void sameResultAsMapChain() {
+        //given
+        final Maybe<String> maybe = Maybe.just("value");
+        final MaybePipeline<String, Integer> pipeline = Maybe.<String>pipeline()
+                .map(String::length)
+                .filter(v -> v > 3)
+                .map(v -> v + 1);
+        //then
+        assertThat(pipeline.runMaybe(maybe))
+                .isEqualTo(maybe.map(String::length).filter(v -> v > 3).map(v -> v + 1));
+    }
+}
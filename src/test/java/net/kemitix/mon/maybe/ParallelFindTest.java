@@ -0,0 +1,87 @@
+package net.kemitix.mon.maybe;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+class ParallelFindTest implements WithAssertions {
+
+    private static final int SIZE = 100_000;
+
+    private final List<Integer> items = IntStream.range(0, SIZE).boxed().collect(Collectors.toList());
+
+    @Test
+    void parallelFindFirstEmptyListIsNothing() {
+        assertThat(Maybe.parallelFindFirst(Collections.<Integer>emptyList(), v -> true).isNothing()).isTrue();
+    }
+
+    @Test
+    void parallelFindFirstNoMatchIsNothing() {
+        assertThat(Maybe.parallelFindFirst(items, v -> v < 0).isNothing()).isTrue();
+    }
+
+    @Test
+    void parallelFindFirstIsEarliestMatchInListOrder() {
+        //given
+        final int first = SIZE / 3;
+        //when
+        final Maybe<Integer> result = Maybe.parallelFindFirst(items, v -> v >= first && v % 7 == first % 7);
+        //then
+        assertThat(result).isEqualTo(Maybe.just(first));
+    }
+
+    @Test
+    void parallelFindFirstWorksOnNonRandomAccessList() {
+        //given
+        final List<Integer> linked = new LinkedList<>(items);
+        //when
+        final Maybe<Integer> result = Maybe.parallelFindFirst(linked, v -> v > 10);
+        //then
+        assertThat(result).isEqualTo(Maybe.just(11));
+    }
+
+    @Test
+    void parallelFindAnyNoMatchIsNothing() {
+        assertThat(Maybe.parallelFindAny(items, v -> v < 0).isNothing()).isTrue();
+    }
+
+    @Test
+    void parallelFindAnyIsAMatch() {
+        //when
+        final Maybe<Integer> result = Maybe.parallelFindAny(items, v -> v % 1000 == 999);
+        //then
+        assertThat(result.orElse(0) % 1000).isEqualTo(999);
+    }
+
+    @Test
+    void parallelFindAnySkipsRemainingWorkOnceMatched() {
+        //given
+        final AtomicInteger calls = new AtomicInteger();
+        //when
+        final Maybe<Integer> result = Maybe.parallelFindAny(items, v -> {
+            calls.incrementAndGet();
+            return true;
+        });
+        //then
+        assertThat(result.isJust()).isTrue();
+        assertThat(calls.get()).isLessThan(SIZE);
+    }
+
+    @Test
+    void parallelFindFirstPredicateErrorIsThrown() {
+        assertThatIllegalStateException()
+                .isThrownBy(() -> Maybe.parallelFindFirst(items, v -> {
+                    if (v == SIZE - 1) {
+                        throw new IllegalStateException("failed");
+                    }
+                    return false;
+                }));
+    }
+
+}
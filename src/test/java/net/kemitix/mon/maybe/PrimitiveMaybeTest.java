@@ -0,0 +1,209 @@
+package net.kemitix.mon.maybe;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class PrimitiveMaybeTest implements WithAssertions {
+
+    @Test
+    void justIntIsJust() {
+        //when
+        final MaybeInt maybe = MaybeInt.just(1);
+        //then
+        assertThat(maybe.isJust()).isTrue();
+        assertThat(maybe.isNothing()).isFalse();
+    }
+
+    @Test
+    void nothingIntIsNothing() {
+        //when
+        final MaybeInt maybe = MaybeInt.nothing();
+        //then
+        assertThat(maybe.isJust()).isFalse();
+        assertThat(maybe.isNothing()).isTrue();
+    }
+
+    @Test
+    void justIntMapAppliesFunction() {
+        assertThat(MaybeInt.just(2).map(v -> v * 3).orElse(0)).isEqualTo(6);
+    }
+
+    @Test
+    void nothingIntMapIsNothing() {
+        //given
+        final AtomicInteger calls = new AtomicInteger();
+        //when
+        final MaybeInt result = MaybeInt.nothing().map(calls::addAndGet);
+        //then
+        assertThat(result.isNothing()).isTrue();
+        assertThat(calls).hasValue(0);
+    }
+
+    @Test
+    void justIntFilterPassKeepsValue() {
+        assertThat(MaybeInt.just(2).filter(v -> v > 0).orElse(0)).isEqualTo(2);
+    }
+
+    @Test
+    void justIntFilterFailIsNothing() {
+        assertThat(MaybeInt.just(2).filter(v -> v < 0).isNothing()).isTrue();
+    }
+
+    @Test
+    void justIntFlatMapGivesFunctionResult() {
+        assertThat(MaybeInt.just(2).flatMap(v -> MaybeInt.nothing()).isNothing()).isTrue();
+        assertThat(MaybeInt.just(2).flatMap(v -> MaybeInt.just(v + 1))).isEqualTo(MaybeInt.just(3));
+    }
+
+    @Test
+    void nothingIntOrElseGetUsesSupplier() {
+        assertThat(MaybeInt.nothing().orElseGet(() -> 7)).isEqualTo(7);
+    }
+
+    @Test
+    void justIntOrElseGetIgnoresSupplier() {
+        assertThat(MaybeInt.just(1).orElseGet(() -> 7)).isEqualTo(1);
+    }
+
+    @Test
+    void nothingIntOrElseThrowThrows() {
+        assertThatIllegalStateException()
+                .isThrownBy(() -> MaybeInt.nothing().orElseThrow(IllegalStateException::new));
+    }
+
+    @Test
+    void justIntOrElseThrowGivesValue() throws Exception {
+        assertThat(MaybeInt.just(1).orElseThrow(IllegalStateException::new)).isEqualTo(1);
+    }
+
+    @Test
+    void justIntMatchValueUsesJustMatcher() {
+        assertThat(MaybeInt.just(4).matchValue(v -> "just " + v, () -> "nothing"))
+                .isEqualTo("just 4");
+    }
+
+    @Test
+    void nothingIntMatchValueUsesNothingMatcher() {
+        assertThat(MaybeInt.nothing().matchValue(v -> "just " + v, () -> "nothing"))
+                .isEqualTo("nothing");
+    }
+
+    @Test
+    void justIntMatchCallsConsumer() {
+        //given
+        final AtomicInteger captured = new AtomicInteger();
+        //when
+        MaybeInt.just(5).match(captured::set, () -> captured.set(-1));
+        //then
+        assertThat(captured).hasValue(5);
+    }
+
+    @Test
+    void nothingIntMatchCallsRunnable() {
+        //given
+        final AtomicInteger captured = new AtomicInteger();
+        //when
+        MaybeInt.nothing().match(captured::set, () -> captured.set(-1));
+        //then
+        assertThat(captured).hasValue(-1);
+    }
+
+    @Test
+    void justIntPeekAndIfNothing() {
+        //given
+        final AtomicInteger captured = new AtomicInteger();
+        final MaybeInt maybe = MaybeInt.just(3);
+        //when
+        final MaybeInt result = maybe.peek(captured::set);
+        result.ifNothing(() -> captured.set(-1));
+        //then
+        assertThat(result).isSameAs(maybe);
+        assertThat(captured).hasValue(3);
+    }
+
+    @Test
+    void intStreamConversion() {
+        assertThat(MaybeInt.just(3).stream().toArray()).containsExactly(3);
+        assertThat(MaybeInt.nothing().stream().count()).isZero();
+    }
+
+    @Test
+    void intOptionalConversion() {
+        assertThat(MaybeInt.just(3).toOptional()).isEqualTo(OptionalInt.of(3));
+        assertThat(MaybeInt.nothing().toOptional()).isEqualTo(OptionalInt.empty());
+        assertThat(MaybeInt.fromOptional(OptionalInt.of(3))).isEqualTo(MaybeInt.just(3));
+        assertThat(MaybeInt.fromOptional(OptionalInt.empty())).isSameAs(MaybeInt.nothing());
+    }
+
+    @Test
+    void intBoxedAndMapToObj() {
+        assertThat(MaybeInt.just(3).boxed()).isEqualTo(Maybe.just(3));
+        assertThat(MaybeInt.nothing().boxed()).isEqualTo(Maybe.nothing());
+        assertThat(MaybeInt.just(3).mapToObj(String::valueOf)).isEqualTo(Maybe.just("3"));
+        assertThat(MaybeInt.nothing().mapToObj(String::valueOf)).isEqualTo(Maybe.nothing());
+    }
+
+    @Test
+    void maybeMapToIntGivesMaybeInt() {
+        assertThat(Maybe.just("abc").mapToInt(String::length)).isEqualTo(MaybeInt.just(3));
+        assertThat(Maybe.<String>nothing().mapToInt(String::length)).isSameAs(MaybeInt.nothing());
+    }
+
+    @Test
+    void maybeMapToLongGivesMaybeLong() {
+        assertThat(Maybe.just("abc").mapToLong(String::length)).isEqualTo(MaybeLong.just(3L));
+        assertThat(Maybe.<String>nothing().mapToLong(String::length)).isSameAs(MaybeLong.nothing());
+    }
+
+    @Test
+    void maybeMapToDoubleGivesMaybeDouble() {
+        assertThat(Maybe.just("abc").mapToDouble(String::length)).isEqualTo(MaybeDouble.just(3.0));
+        assertThat(Maybe.<String>nothing().mapToDouble(String::length)).isSameAs(MaybeDouble.nothing());
+    }
+
+    @Test
+    void convertBetweenPrimitiveMaybes() {
+        assertThat(MaybeInt.just(2).mapToLong(v -> v * 10L)).isEqualTo(MaybeLong.just(20L));
+        assertThat(MaybeLong.just(2L).mapToDouble(v -> v / 4.0)).isEqualTo(MaybeDouble.just(0.5));
+        assertThat(MaybeDouble.just(2.5).mapToInt(v -> (int) v)).isEqualTo(MaybeInt.just(2));
+        assertThat(MaybeDouble.nothing().mapToLong(v -> (long) v)).isSameAs(MaybeLong.nothing());
+    }
+
+    @Test
+    void longMapFilterOrElse() {
+        assertThat(MaybeLong.just(2L).map(v -> v * 3).filter(v -> v > 5).orElse(0L)).isEqualTo(6L);
+        assertThat(MaybeLong.nothing().orElseGet(() -> 7L)).isEqualTo(7L);
+    }
+
+    @Test
+    void longStreamAndOptionalConversion() {
+        assertThat(MaybeLong.just(3L).stream().toArray()).containsExactly(3L);
+        assertThat(MaybeLong.nothing().stream().count()).isZero();
+        assertThat(MaybeLong.just(3L).toOptional()).isEqualTo(OptionalLong.of(3L));
+        assertThat(MaybeLong.fromOptional(OptionalLong.empty())).isSameAs(MaybeLong.nothing());
+    }
+
+    @Test
+    void doubleMapFilterOrElse() {
+        assertThat(MaybeDouble.just(1.5).map(v -> v * 2).filter(v -> v > 2).orElse(0)).isEqualTo(3.0);
+        assertThat(MaybeDouble.nothing().orElseGet(() -> 7.0)).isEqualTo(7.0);
+    }
+
+    @Test
+    void doubleStreamAndOptionalConversion() {
+        assertThat(MaybeDouble.just(1.5).stream().toArray()).containsExactly(1.5);
+        assertThat(MaybeDouble.just(1.5).toOptional()).isEqualTo(OptionalDouble.of(1.5));
+        assertThat(MaybeDouble.fromOptional(OptionalDouble.empty())).isSameAs(MaybeDouble.nothing());
+    }
+
+    @Test
+    void justDoubleNaNEqualsItself() {
+        assertThat(MaybeDouble.just(Double.NaN)).isEqualTo(MaybeDouble.just(Double.NaN));
+    }
+
+}
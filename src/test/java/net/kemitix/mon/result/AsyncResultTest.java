@@ -0,0 +1,201 @@
+package net.kemitix.mon.result;
+
+import net.kemitix.mon.TypeReference;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+class AsyncResultTest implements WithAssertions {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void whenOfThenDoesNotBlockCaller() throws InterruptedException {
+        //given
+        final CountDownLatch latch = new CountDownLatch(1);
+        //when
+        final AsyncResult<Integer> result = AsyncResult.of(() -> {
+            latch.await();
+            return 1;
+        }, executor);
+        //then
+        assertThat(result.isDone()).isFalse();
+        latch.countDown();
+        assertThat(result.toResult()).isEqualTo(Result.ok(1));
+    }
+
+    @Test
+    void whenCallableThrowsThenIsError() {
+        //given
+        final IOException exception = new IOException();
+        //when
+        final AsyncResult<Integer> result = AsyncResult.of(() -> {
+            throw exception;
+        }, executor);
+        //then
+        assertThat(result.toResult().isError()).isTrue();
+        result.toResult().onError(error -> assertThat(error).isSameAs(exception));
+    }
+
+    @Test
+    void whenCallableRunsThenOnExecutorThread() {
+        //given
+        final Thread caller = Thread.currentThread();
+        //when
+        final AsyncResult<Thread> result = AsyncResult.of(Thread::currentThread, executor);
+        //then
+        assertThat(result.toResult().orElseThrowUnchecked()).isNotSameAs(caller);
+    }
+
+    @Test
+    void whenExecutorRejectsThenIsError() {
+        //given
+        executor.shutdown();
+        //when
+        final AsyncResult<Integer> result = AsyncResult.of(() -> 1, executor);
+        //then
+        assertThat(result.toResult().isError()).isTrue();
+    }
+
+    @Test
+    void fromResultIsDone() {
+        //when
+        final AsyncResult<Integer> result = AsyncResult.from(Result.ok(1), executor);
+        //then
+        assertThat(result.isDone()).isTrue();
+        assertThat(result.toResult()).isEqualTo(Result.ok(1));
+    }
+
+    @Test
+    void fromFailedStageIsError() {
+        //given
+        final IOException exception = new IOException();
+        //when
+        final AsyncResult<Integer> result = AsyncResult.from(CompletableFuture.failedFuture(exception), executor);
+        //then
+        result.toResult().match(
+                success -> fail("not a success"),
+                error -> assertThat(error).isSameAs(exception));
+    }
+
+    @Test
+    void mapSuccessIsMapped() {
+        //given
+        final AsyncResult<Integer> result = AsyncResult.of(() -> 2, executor);
+        //when
+        final AsyncResult<String> mapped = result.map(String::valueOf);
+        //then
+        assertThat(mapped.toResult()).isEqualTo(Result.ok("2"));
+    }
+
+    @Test
+    void mapThrowsIsError() {
+        //given
+        final RuntimeException exception = new RuntimeException();
+        final AsyncResult<Integer> result = AsyncResult.of(() -> 2, executor);
+        //when
+        final AsyncResult<Integer> mapped = result.map(v -> {
+            throw exception;
+        });
+        //then
+        mapped.toResult().match(
+                success -> fail("not a success"),
+                error -> assertThat(error).isSameAs(exception));
+    }
+
+    @Test
+    void flatMapSuccessIsNextResult() {
+        //given
+        final AsyncResult<Integer> result = AsyncResult.of(() -> 2, executor);
+        //when
+        final AsyncResult<Integer> next = result.flatMap(v -> AsyncResult.of(() -> v * 3, executor));
+        //then
+        assertThat(next.toResult()).isEqualTo(Result.ok(6));
+    }
+
+    @Test
+    void flatMapErrorDoesNotCallFunction() {
+        //given
+        final RuntimeException exception = new RuntimeException();
+        final AsyncResult<Integer> result = AsyncResult.from(Result.error(TypeReference.create(), exception), executor);
+        //when
+        final AsyncResult<Integer> next = result.flatMap(v -> {
+            throw new AssertionError("should not be called");
+        });
+        //then
+        next.toResult().match(
+                success -> fail("not a success"),
+                error -> assertThat(error).isSameAs(exception));
+    }
+
+    @Test
+    void recoverErrorIsRecovered() {
+        //given
+        final AsyncResult<Integer> result = AsyncResult.of(() -> {
+            throw new IOException();
+        }, executor);
+        //when
+        final AsyncResult<Integer> recovered = result.recover(e -> AsyncResult.from(Result.ok(0), executor));
+        //then
+        assertThat(recovered.toResult()).isEqualTo(Result.ok(0));
+    }
+
+    @Test
+    void recoverSuccessIsUnchanged() {
+        //given
+        final AsyncResult<Integer> result = AsyncResult.of(() -> 1, executor);
+        //when
+        final AsyncResult<Integer> recovered = result.recover(e -> AsyncResult.from(Result.ok(0), executor));
+        //then
+        assertThat(recovered.toResult()).isEqualTo(Result.ok(1));
+    }
+
+    @Test
+    void onSuccessIsCalledForSuccess() {
+        //given
+        final AtomicReference<Integer> captured = new AtomicReference<>();
+        //when
+        AsyncResult.of(() -> 1, executor)
+                .onSuccess(captured::set)
+                .toResult();
+        //then
+        assertThat(captured).hasValue(1);
+    }
+
+    @Test
+    void onErrorIsCalledForError() {
+        //given
+        final IOException exception = new IOException();
+        final AtomicReference<Throwable> captured = new AtomicReference<>();
+        //when
+        AsyncResult.of(() -> {
+            throw exception;
+        }, executor)
+                .onError(captured::set)
+                .toResult();
+        //then
+        assertThat(captured).hasValue(exception);
+    }
+
+    @Test
+    void toFutureCompletesWithResult() {
+        //given
+        final AsyncResult<Integer> result = AsyncResult.of(() -> 1, executor);
+        //when
+        final CompletableFuture<Result<Integer>> future = result.toFuture();
+        //then
+        assertThat(future.join()).isEqualTo(Result.ok(1));
+    }
+}
@@ -0,0 +1,251 @@
+package net.kemitix.mon.result;
+
+import net.kemitix.mon.TypeReference;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+class PrimitiveResultTest implements WithAssertions {
+
+    private final RuntimeException exception = new RuntimeException("error");
+
+    @Nested
+    @DisplayName("IntResult")
+    class IntResultTests {
+
+        @Test
+        void okIsOkay() {
+            final IntResult result = IntResult.ok(1);
+            assertThat(result.isOkay()).isTrue();
+            assertThat(result.isError()).isFalse();
+            assertThat(result.orElseThrowUnchecked()).isEqualTo(1);
+        }
+
+        @Test
+        void errorIsError() {
+            final IntResult result = IntResult.error(exception);
+            assertThat(result.isOkay()).isFalse();
+            assertThat(result.isError()).isTrue();
+            assertThatThrownBy(result::orElseThrow)
+                    .isInstanceOf(CheckedErrorResultException.class)
+                    .hasCause(exception);
+            assertThatThrownBy(result::orElseThrowUnchecked)
+                    .isInstanceOf(ErrorResultException.class)
+                    .hasCause(exception);
+        }
+
+        @Test
+        void equality() {
+            assertThat(IntResult.ok(1)).isEqualTo(IntResult.ok(1))
+                    .hasSameHashCodeAs(IntResult.ok(1))
+                    .isNotEqualTo(IntResult.ok(2))
+                    .isNotEqualTo(IntResult.error(exception));
+            assertThat(IntResult.error(exception)).isEqualTo(IntResult.error(exception));
+        }
+
+        @Test
+        void mapSuccessIsMapped() {
+            assertThat(IntResult.ok(2).map(v -> v * 3)).isEqualTo(IntResult.ok(6));
+        }
+
+        @Test
+        void mapThrowsIsError() {
+            assertThat(IntResult.ok(2).map(v -> v / 0).isError()).isTrue();
+        }
+
+        @Test
+        void mapErrorIsError() {
+            assertThat(IntResult.error(exception).map(v -> v * 3)).isEqualTo(IntResult.error(exception));
+        }
+
+        @Test
+        void mapToObjIsResult() {
+            assertThat(IntResult.ok(2).mapToObj(String::valueOf)).isEqualTo(Result.ok("2"));
+        }
+
+        @Test
+        void mapToLongIsLongResult() {
+            assertThat(IntResult.ok(2).mapToLong(v -> v * 10L)).isEqualTo(LongResult.ok(20L));
+        }
+
+        @Test
+        void mapToDoubleIsDoubleResult() {
+            assertThat(IntResult.ok(1).mapToDouble(v -> v / 2.0)).isEqualTo(DoubleResult.ok(0.5));
+        }
+
+        @Test
+        void flatMapSuccessIsFunctionResult() {
+            assertThat(IntResult.ok(2).flatMap(v -> IntResult.ok(v + 1))).isEqualTo(IntResult.ok(3));
+        }
+
+        @Test
+        void flatMapErrorDoesNotCallFunction() {
+            final AtomicInteger called = new AtomicInteger();
+            IntResult.error(exception).flatMap(v -> IntResult.ok(called.incrementAndGet()));
+            assertThat(called).hasValue(0);
+        }
+
+        @Test
+        void matchSuccessCallsSuccess() {
+            final AtomicInteger captured = new AtomicInteger();
+            IntResult.ok(2).match(captured::set, e -> fail("not an error"));
+            assertThat(captured).hasValue(2);
+        }
+
+        @Test
+        void matchErrorCallsError() {
+            final AtomicReference<Throwable> captured = new AtomicReference<>();
+            IntResult.error(exception).match(v -> fail("not a success"), captured::set);
+            assertThat(captured).hasValue(exception);
+        }
+
+        @Test
+        void recoverErrorIsRecovered() {
+            assertThat(IntResult.error(exception).recover(e -> IntResult.ok(0))).isEqualTo(IntResult.ok(0));
+        }
+
+        @Test
+        void recoverSuccessIsUnchanged() {
+            assertThat(IntResult.ok(1).recover(e -> IntResult.ok(0))).isEqualTo(IntResult.ok(1));
+        }
+
+        @Test
+        void reduceSuccessesIsCombined() {
+            assertThat(IntResult.ok(2).reduce(IntResult.ok(3), Integer::sum)).isEqualTo(IntResult.ok(5));
+        }
+
+        @Test
+        void reduceWithErrorIsError() {
+            assertThat(IntResult.ok(2).reduce(IntResult.error(exception), Integer::sum))
+                    .isEqualTo(IntResult.error(exception));
+            assertThat(IntResult.error(exception).reduce(IntResult.ok(2), Integer::sum))
+                    .isEqualTo(IntResult.error(exception));
+        }
+
+        @Test
+        void boxedIsResult() {
+            assertThat(IntResult.ok(1).boxed()).isEqualTo(Result.ok(1));
+        }
+
+        @Test
+        void toVoidDiscardsValue() {
+            assertThat(IntResult.ok(1).toVoid()).isEqualTo(Result.ok());
+            assertThat(IntResult.error(exception).toVoid()).isEqualTo(Result.error(exception));
+        }
+    }
+
+    @Nested
+    @DisplayName("LongResult")
+    class LongResultTests {
+
+        @Test
+        void mapSuccessIsMapped() {
+            assertThat(LongResult.ok(2L).map(v -> v * 3)).isEqualTo(LongResult.ok(6L));
+        }
+
+        @Test
+        void mapToIntIsIntResult() {
+            assertThat(LongResult.ok(2L).mapToInt(Math::toIntExact)).isEqualTo(IntResult.ok(2));
+        }
+
+        @Test
+        void mapToIntOverflowIsError() {
+            assertThat(LongResult.ok(Long.MAX_VALUE).mapToInt(Math::toIntExact).isError()).isTrue();
+        }
+
+        @Test
+        void boxedIsResult() {
+            assertThat(LongResult.ok(1L).boxed()).isEqualTo(Result.ok(1L));
+        }
+    }
+
+    @Nested
+    @DisplayName("DoubleResult")
+    class DoubleResultTests {
+
+        @Test
+        void mapSuccessIsMapped() {
+            assertThat(DoubleResult.ok(1.5).map(v -> v * 2)).isEqualTo(DoubleResult.ok(3.0));
+        }
+
+        @Test
+        void nanEqualsNan() {
+            assertThat(DoubleResult.ok(Double.NaN)).isEqualTo(DoubleResult.ok(Double.NaN));
+        }
+
+        @Test
+        void mapToLongIsLongResult() {
+            assertThat(DoubleResult.ok(2.7).mapToLong(Math::round)).isEqualTo(LongResult.ok(3L));
+        }
+    }
+
+    @Nested
+    @DisplayName("Result bridges")
+    class BridgeTests {
+
+        @Test
+        void mapToIntSuccessIsIntResult() {
+            assertThat(Result.ok("abc").mapToInt(String::length)).isEqualTo(IntResult.ok(3));
+        }
+
+        @Test
+        void mapToIntErrorIsError() {
+            final Result<String> error = Result.error(TypeReference.create(), exception);
+            assertThat(error.mapToInt(String::length)).isEqualTo(IntResult.error(exception));
+        }
+
+        @Test
+        void mapToLongSuccessIsLongResult() {
+            assertThat(Result.ok("abc").mapToLong(String::length)).isEqualTo(LongResult.ok(3L));
+        }
+
+        @Test
+        void mapToDoubleThrowsIsError() {
+            assertThat(Result.ok("x").mapToDouble(Double::parseDouble).isError()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("applyOver")
+    class ApplyOverTests {
+
+        @Test
+        void intStreamIsFolded() {
+            assertThat(Result.applyOver(IntStream.of(1, 2, 3), v -> v * 2, 0, Integer::sum))
+                    .isEqualTo(IntResult.ok(12));
+        }
+
+        @Test
+        void intStreamErrorStopsProcessing() {
+            //given
+            final AtomicInteger processed = new AtomicInteger();
+            //when
+            final IntResult result = Result.applyOver(IntStream.of(1, 0, 3), v -> {
+                processed.incrementAndGet();
+                return 6 / v;
+            }, 0, Integer::sum);
+            //then
+            assertThat(result.isError()).isTrue();
+            assertThat(processed).hasValue(2);
+        }
+
+        @Test
+        void longStreamIsFolded() {
+            assertThat(Result.applyOver(LongStream.of(1, 2, 3), v -> v * 2, 0, Long::sum))
+                    .isEqualTo(LongResult.ok(12L));
+        }
+
+        @Test
+        void doubleStreamIsFolded() {
+            assertThat(Result.applyOver(DoubleStream.of(1, 2, 3), v -> v * 2, 0, Double::sum))
+                    .isEqualTo(DoubleResult.ok(12.0));
+        }
+    }
+}
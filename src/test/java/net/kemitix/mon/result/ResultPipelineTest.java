@@ -0,0 +1,127 @@
+package net.kemitix.mon.result;
+
+import net.kemitix.mon.TypeReference;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class ResultPipelineTest implements WithAssertions {
+
+    @Test
+    void emptyPipelineIsValue() {
+        //given
+        final ResultPipeline<String, String> pipeline = Result.pipeline();
+        //when
+        final Result<String> result = pipeline.run("value");
+        //then
+        assertThat(result).isEqualTo(Result.ok("value"));
+    }
+
+    @Test
+    void functionsAreAppliedInOrder() {
+        //given
+        final ResultPipeline<String, Integer> pipeline = Result.<String>pipeline()
+                .map(String::trim)
+                .map(Integer::parseInt)
+                .map(v -> v * 2);
+        //when
+        final Result<Integer> result = pipeline.run(" 21 ");
+        //then
+        assertThat(result).isEqualTo(Result.ok(42));
+    }
+
+    @Test
+    void whenFunctionThrowsThenIsErrorAndLaterFunctionsAreNotApplied() {
+        //given
+        final RuntimeException exception = new RuntimeException();
+        final List<String> applied = new ArrayList<>();
+        final ResultPipeline<String, String> pipeline = Result.<String>pipeline()
+                .map(v -> {
+                    applied.add("first");
+                    throw exception;
+                })
+                .map(v -> {
+                    applied.add("second");
+                    return v;
+                });
+        //when
+        final Result<String> result = pipeline.run("value");
+        //then
+        assertThat(result).isEqualTo(Result.error(TypeReference.create(), exception));
+        assertThat(applied).containsExactly("first");
+    }
+
+    @Test
+    void pipelineCanBeReused() {
+        //given
+        final ResultPipeline<Integer, Integer> pipeline = Result.<Integer>pipeline()
+                .map(v -> v + 1);
+        //then
+        assertThat(pipeline.run(1)).isEqualTo(Result.ok(2));
+        assertThat(pipeline.run(2)).isEqualTo(Result.ok(3));
+    }
+
+    @Test
+    void mapDoesNotChangeOriginalPipeline() {
+        //given
+        final ResultPipeline<Integer, Integer> original = Result.<Integer>pipeline()
+                .map(v -> v + 1);
+        //when
+        original.map(v -> v * 10);
+        //then
+        assertThat(original.run(1)).isEqualTo(Result.ok(2));
+    }
+
+    @Test
+    void runResultWithSuccessUsesValue() {
+        //given
+        final ResultPipeline<Integer, Integer> pipeline = Result.<Integer>pipeline()
+                .map(v -> v + 1);
+        //when
+        final Result<Integer> result = pipeline.runResult(Result.ok(1));
+        //then
+        assertThat(result).isEqualTo(Result.ok(2));
+    }
+
+    @Test
+    void runResultWithErrorIsError() {
+        //given
+        final RuntimeException exception = new RuntimeException();
+        final ResultPipeline<Integer, Integer> pipeline = Result.<Integer>pipeline()
+                .map(v -> v + 1);
+        //when
+        final Result<Integer> result = pipeline.runResult(Result.error(TypeReference.create(), exception));
+        //then
+        assertThat(result).isEqualTo(Result.error(TypeReference.create(), exception));
+    }
+
+    @Test
+    void runWithResultValueUsesResultAsValue() {
+        //given
+        final ResultPipeline<Result<Integer>, Boolean> pipeline = Result.<Result<Integer>>pipeline()
+                .map(Result::isOkay);
+        //when
+        final Result<Boolean> result = pipeline.run(Result.ok(1));
+        //then
+        assertThat(result).isEqualTo(Result.ok(true));
+    }
+
+    @Test
+    void matchesEquivalentMapChain() {
+        //given
+        final ResultPipeline<Integer, String> pipeline = Result.<Integer>pipeline()
+                .map(v -> v + 1)
+                .map(v -> v * 2)
+                .map(String::valueOf);
+        //when
+        final Result<String> fused = pipeline.run(4);
+        final Result<String> chained = Result.ok(4)
+                .map(v -> v + 1)
+                .map(v -> v * 2)
+                .map(String::valueOf);
+        //then
+        assertThat(fused).isEqualTo(chained);
+    }
+}
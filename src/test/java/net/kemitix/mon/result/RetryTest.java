@@ -0,0 +1,354 @@
+package net.kemitix.mon.result;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class RetryTest implements WithAssertions {
+
+    private final FakeClock clock = new FakeClock();
+
+    private static class FakeClock implements RetryClock {
+
+        private final List<Long> sleeps = new ArrayList<>();
+        private final List<Long> scheduled = new ArrayList<>();
+        private long now;
+
+        @Override
+        public long nanoTime() {
+            return now;
+        }
+
+        @Override
+        public void sleep(final long nanos) {
+            sleeps.add(nanos);
+            now += nanos;
+        }
+
+        @Override
+        public void schedule(final Runnable task, final long delayNanos) {
+            scheduled.add(delayNanos);
+            task.run();
+        }
+    }
+
+    private static Callable<String> failing(final AtomicInteger calls, final int failures) {
+        return () -> {
+            if (calls.incrementAndGet() <= failures) {
+                throw new IOException("attempt " + calls.get());
+            }
+            return "ok";
+        };
+    }
+
+    @Nested
+    @DisplayName("retry")
+    class RetryTests {
+
+        @Test
+        void successIsNotRetried() {
+            //given
+            final AtomicInteger calls = new AtomicInteger();
+            //when
+            final Result<String> result = Retry.fixed(3, Duration.ofMillis(10))
+                    .withClock(clock)
+                    .run(failing(calls, 0));
+            //then
+            assertThat(result).isEqualTo(Result.ok("ok"));
+            assertThat(calls).hasValue(1);
+            assertThat(clock.sleeps).isEmpty();
+        }
+
+        @Test
+        void failuresAreRetriedUntilSuccess() {
+            //given
+            final AtomicInteger calls = new AtomicInteger();
+            //when
+            final Result<String> result = Retry.fixed(3, Duration.ofMillis(10))
+                    .withClock(clock)
+                    .run(failing(calls, 2));
+            //then
+            assertThat(result).isEqualTo(Result.ok("ok"));
+            assertThat(calls).hasValue(3);
+        }
+
+        @Test
+        void lastErrorIsReturnedWhenAttemptsRunOut() {
+            //given
+            final AtomicInteger calls = new AtomicInteger();
+            //when
+            final Result<String> result = Retry.fixed(3, Duration.ofMillis(10))
+                    .withClock(clock)
+                    .run(failing(calls, 5));
+            //then
+            assertThat(calls).hasValue(3);
+            assertThatThrownBy(result::orElseThrow)
+                    .hasCauseInstanceOf(IOException.class)
+                    .hasMessageContaining("attempt 3");
+        }
+
+        @Test
+        void fixedDelayIsTheSameEachTime() {
+            //when
+            Retry.fixed(4, Duration.ofNanos(100))
+                    .withClock(clock)
+                    .run(failing(new AtomicInteger(), 5));
+            //then
+            assertThat(clock.sleeps).containsExactly(100L, 100L, 100L);
+        }
+
+        @Test
+        void exponentialDelayDoublesUpToMax() {
+            //when
+            Retry.exponential(6, Duration.ofNanos(100), Duration.ofNanos(500))
+                    .withClock(clock)
+                    .run(failing(new AtomicInteger(), 10));
+            //then
+            assertThat(clock.sleeps).containsExactly(100L, 200L, 400L, 500L, 500L);
+        }
+
+        @Test
+        void exponentialDelayDoesNotOverflow() {
+            final Retry retry = Retry.exponential(100, Duration.ofSeconds(1), Duration.ofHours(1));
+            assertThat(retry.delay(99)).isEqualTo(Duration.ofHours(1).toNanos());
+        }
+
+        @Test
+        void jitterReducesDelayWithinFactor() {
+            //when
+            Retry.fixed(50, Duration.ofNanos(1000))
+                    .withJitter(0.25)
+                    .withClock(clock)
+                    .run(failing(new AtomicInteger(), 100));
+            //then
+            assertThat(clock.sleeps).hasSize(49)
+                    .allSatisfy(delay -> assertThat(delay).isBetween(750L, 1000L));
+        }
+
+        @Test
+        void jitterUsesRandomFromClock() {
+            //given
+            final FakeClock halfway = new FakeClock() {
+                @Override
+                public double random() {
+                    return 0.5;
+                }
+            };
+            //when
+            Retry.fixed(3, Duration.ofNanos(1000))
+                    .withJitter(0.25)
+                    .withClock(halfway)
+                    .run(failing(new AtomicInteger(), 100));
+            //then
+            assertThat(halfway.sleeps).containsExactly(875L, 875L);
+        }
+
+        @Test
+        void deadlineStopsRetries() {
+            //given
+            final AtomicInteger calls = new AtomicInteger();
+            //when
+            final Result<String> result = Retry.fixed(10, Duration.ofNanos(100))
+                    .withDeadline(Duration.ofNanos(250))
+                    .withClock(clock)
+                    .run(failing(calls, 10));
+            //then
+            assertThat(result.isError()).isTrue();
+            assertThat(calls).hasValue(3);
+            assertThat(clock.sleeps).containsExactly(100L, 100L);
+        }
+
+        @Test
+        void nonMatchingErrorIsNotRetried() {
+            //given
+            final AtomicInteger calls = new AtomicInteger();
+            //when
+            final Result<String> result = Retry.fixed(3, Duration.ofNanos(100))
+                    .withRetryOn(e -> !(e instanceof IOException))
+                    .withClock(clock)
+                    .run(failing(calls, 5));
+            //then
+            assertThat(result.isError()).isTrue();
+            assertThat(calls).hasValue(1);
+        }
+
+        @Test
+        void interruptedSleepStopsRetries() {
+            //given
+            final RetryClock interrupting = new FakeClock() {
+                @Override
+                public void sleep(final long nanos) throws InterruptedException {
+                    throw new InterruptedException();
+                }
+            };
+            //when
+            final Result<String> result = Retry.fixed(3, Duration.ofNanos(100))
+                    .withClock(interrupting)
+                    .run(failing(new AtomicInteger(), 5));
+            //then
+            assertThat(Thread.interrupted()).isTrue();
+            assertThatThrownBy(result::orElseThrow)
+                    .hasCauseInstanceOf(InterruptedException.class);
+        }
+
+        @Test
+        void invalidArgumentsAreRejected() {
+            assertThatIllegalArgumentException().isThrownBy(() -> Retry.fixed(0, Duration.ZERO));
+            assertThatIllegalArgumentException().isThrownBy(() -> Retry.fixed(1, Duration.ZERO).withJitter(2));
+        }
+    }
+
+    @Nested
+    @DisplayName("hedging")
+    class HedgingTests {
+
+        private final ExecutorService executor = Executors.newCachedThreadPool();
+
+        @AfterEach
+        void tearDown() {
+            executor.shutdownNow();
+        }
+
+        @Test
+        void slowAttemptIsHedgedAndFirstSuccessWins() throws InterruptedException {
+            //given
+            final CountDownLatch release = new CountDownLatch(1);
+            final AtomicInteger calls = new AtomicInteger();
+            final Retry retry = Retry.fixed(1, Duration.ZERO)
+                    .withHedging(executor, 95, Duration.ofMillis(10))
+                    .withClock(clock);
+            //when
+            final Result<String> result = retry.run(() -> {
+                if (calls.incrementAndGet() == 1) {
+                    release.await();
+                    return "slow";
+                }
+                return "fast";
+            });
+            release.countDown();
+            //then
+            assertThat(result).isEqualTo(Result.ok("fast"));
+            assertThat(calls).hasValue(2);
+            assertThat(clock.scheduled).containsExactly(Duration.ofMillis(10).toNanos());
+        }
+
+        @Test
+        void losingAttemptIsCancelled() throws InterruptedException {
+            //given
+            final CountDownLatch interrupted = new CountDownLatch(1);
+            final AtomicInteger calls = new AtomicInteger();
+            final Retry retry = Retry.fixed(1, Duration.ZERO)
+                    .withHedging(executor, 95, Duration.ofMillis(10))
+                    .withClock(clock);
+            //when
+            final Result<String> result = retry.run(() -> {
+                if (calls.incrementAndGet() == 1) {
+                    try {
+                        new CountDownLatch(1).await();
+                    } catch (InterruptedException e) {
+                        interrupted.countDown();
+                        throw e;
+                    }
+                    return "slow";
+                }
+                return "fast";
+            });
+            //then
+            assertThat(result).isEqualTo(Result.ok("fast"));
+            assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+        }
+
+        @Test
+        void failedHedgeWaitsForOtherAttempt() {
+            //given
+            final AtomicInteger calls = new AtomicInteger();
+            final CountDownLatch hedgeFailed = new CountDownLatch(1);
+            final Retry retry = Retry.fixed(1, Duration.ZERO)
+                    .withHedging(executor, 95, Duration.ofMillis(10))
+                    .withClock(clock);
+            //when
+            final Result<String> result = retry.run(() -> {
+                if (calls.incrementAndGet() == 1) {
+                    hedgeFailed.await(1, TimeUnit.SECONDS);
+                    return "primary";
+                }
+                hedgeFailed.countDown();
+                throw new IOException("hedge");
+            });
+            //then
+            assertThat(result).isEqualTo(Result.ok("primary"));
+        }
+
+        @Test
+        void attemptThatOutlivesDeadlineIsCancelled() throws InterruptedException {
+            //given
+            final CountDownLatch interrupted = new CountDownLatch(2);
+            final Retry retry = Retry.fixed(1, Duration.ZERO)
+                    .withHedging(executor, 95, Duration.ofMillis(10))
+                    .withDeadline(Duration.ofMillis(50))
+                    .withClock(clock);
+            //when
+            final Result<String> result = retry.run(() -> {
+                try {
+                    new CountDownLatch(1).await();
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                    throw e;
+                }
+                return "late";
+            });
+            //then
+            assertThatThrownBy(result::orElseThrow).hasCauseInstanceOf(TimeoutException.class);
+            assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+        }
+
+        @Test
+        void failedAttemptIsRetried() {
+            //given
+            final AtomicInteger calls = new AtomicInteger();
+            final Retry retry = Retry.fixed(2, Duration.ZERO)
+                    .withHedging(executor, 95, Duration.ZERO)
+                    .withClock(clock);
+            //when
+            final Result<String> result = retry.run(failing(calls, 1));
+            //then
+            assertThat(result.isOkay()).isTrue();
+        }
+
+        @Test
+        void delayFollowsPercentileOfRecordedLatencies() {
+            //given
+            final LatencyTracker tracker = new LatencyTracker(90, 1000);
+            //when
+            for (int i = 1; i <= 100; i++) {
+                tracker.record(i);
+            }
+            //then
+            assertThat(tracker.delay()).isEqualTo(90);
+        }
+
+        @Test
+        void initialDelayUsedUntilEnoughSamples() {
+            //given
+            final LatencyTracker tracker = new LatencyTracker(90, 1000);
+            //when
+            tracker.record(1);
+            //then
+            assertThat(tracker.delay()).isEqualTo(1000);
+        }
+    }
+}
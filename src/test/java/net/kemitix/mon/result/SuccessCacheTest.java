@@ -0,0 +1,79 @@
+package net.kemitix.mon.result;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+class SuccessCacheTest implements WithAssertions {
+
+    @Test
+    void booleansAreShared() {
+        assertThat(Result.ok(true)).isSameAs(Result.ok(true));
+        assertThat(Result.ok(false)).isSameAs(Result.ok(false));
+        assertThat(Result.ok(true)).isNotEqualTo(Result.ok(false));
+    }
+
+    @Test
+    void smallIntegersAreShared() {
+        assertThat(Result.ok(-128)).isSameAs(Result.ok(-128));
+        assertThat(Result.ok(0)).isSameAs(Result.ok(0));
+        assertThat(Result.ok(127)).isSameAs(Result.ok(127));
+    }
+
+    @Test
+    void largeIntegersAreNotShared() {
+        assertThat(Result.ok(128)).isNotSameAs(Result.ok(128))
+                .isEqualTo(Result.ok(128));
+        assertThat(Result.ok(-129)).isNotSameAs(Result.ok(-129));
+    }
+
+    @Test
+    void sharedIntegerHasCorrectValue() {
+        assertThat(Result.ok(-128).orElseThrowUnchecked()).isEqualTo(-128);
+        assertThat(Result.ok(127).orElseThrowUnchecked()).isEqualTo(127);
+    }
+
+    @Test
+    void emptyStringIsShared() {
+        assertThat(Result.ok("")).isSameAs(Result.ok(""));
+        assertThat(Result.ok("a")).isNotSameAs(Result.ok("a"));
+    }
+
+    @Test
+    void emptyImmutablesAreShared() {
+        assertThat(Result.ok(Optional.empty())).isSameAs(Result.ok(Optional.empty()));
+        assertThat(Result.ok(Collections.emptyList())).isSameAs(Result.ok(Collections.emptyList()));
+        assertThat(Result.ok(Collections.emptySet())).isSameAs(Result.ok(Collections.emptySet()));
+        assertThat(Result.ok(Collections.emptyMap())).isSameAs(Result.ok(Collections.emptyMap()));
+        assertThat(Result.ok(List.of())).isSameAs(Result.ok(List.of()));
+        assertThat(Result.ok(Set.of())).isSameAs(Result.ok(Set.of()));
+        assertThat(Result.ok(Map.of())).isSameAs(Result.ok(Map.of()));
+    }
+
+    @Test
+    void mutableEmptyCollectionIsNotShared() {
+        //given
+        final List<String> list = new ArrayList<>();
+        //when
+        final Result<List<String>> result = Result.ok(list);
+        //then
+        assertThat(result.orElseThrowUnchecked()).isSameAs(list);
+        assertThat(result).isNotSameAs(Result.ok(new ArrayList<String>()));
+    }
+
+    @Test
+    void mapToBooleanIsShared() {
+        assertThat(Result.ok("a").map(String::isEmpty)).isSameAs(Result.ok(false));
+    }
+
+    @Test
+    void nullIsNotShared() {
+        assertThat(Result.ok(null)).isNotSameAs(Result.ok(null));
+    }
+}
@@ -0,0 +1,255 @@
+package net.kemitix.mon.result;
+
+import net.kemitix.mon.TypeReference;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+class ValidationTest implements WithAssertions {
+
+    private final RuntimeException error1 = new RuntimeException("error 1");
+    private final RuntimeException error2 = new RuntimeException("error 2");
+    private final RuntimeException error3 = new RuntimeException("error 3");
+
+    @Test
+    void validIsValid() {
+        final Validation<String> validation = Validation.valid("value");
+        assertThat(validation.isValid()).isTrue();
+        assertThat(validation.isInvalid()).isFalse();
+        assertThat(validation.errors()).isEmpty();
+    }
+
+    @Test
+    void invalidIsInvalid() {
+        final Validation<String> validation = Validation.invalid(error1);
+        assertThat(validation.isValid()).isFalse();
+        assertThat(validation.isInvalid()).isTrue();
+        assertThat(validation.errors()).containsExactly(error1);
+    }
+
+    @Test
+    void andAccumulatesErrorsInOrder() {
+        //when
+        final Validation<String> validation = Validation.valid("value")
+                .and(Validation.invalid(error1))
+                .and(Validation.valid(1))
+                .and(Validation.invalid(error2))
+                .and(Validation.invalid(error3));
+        //then
+        assertThat(validation.errors()).containsExactly(error1, error2, error3);
+    }
+
+    @Test
+    void andValidChecksReturnsSameInstance() {
+        //given
+        final Validation<String> validation = Validation.valid("value");
+        //when
+        final Validation<String> result = validation
+                .and(Validation.valid(1))
+                .and(Validation.valid(2));
+        //then
+        assertThat(result).isSameAs(validation);
+    }
+
+    @Test
+    void errorsAreNotWrapped() {
+        assertThat(Validation.invalid(error1).errors().get(0)).isSameAs(error1);
+    }
+
+    @Test
+    void branchingFromSharedErrorsDoesNotLeak() {
+        //given
+        final Validation<String> base = Validation.<String>invalid(error1);
+        //when
+        final Validation<String> left = base.and(Validation.invalid(error2));
+        final Validation<String> right = base.and(Validation.invalid(error3));
+        //then
+        assertThat(base.errors()).containsExactly(error1);
+        assertThat(left.errors()).containsExactly(error1, error2);
+        assertThat(right.errors()).containsExactly(error1, error3);
+    }
+
+    @Test
+    void manyErrorsAreAllKept() {
+        //given
+        Validation<String> validation = Validation.valid("value");
+        //when
+        for (int i = 0; i < 100; i++) {
+            validation = validation.and(Validation.invalid(new RuntimeException(String.valueOf(i))));
+        }
+        //then
+        assertThat(validation.errors()).hasSize(100);
+        assertThat(validation.errors().get(99)).hasMessage("99");
+    }
+
+    @Test
+    void errorsAreUnmodifiable() {
+        final List<Throwable> errors = Validation.invalid(error1).errors();
+        assertThatThrownBy(() -> errors.add(error2))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void combineValidsAppliesFunction() {
+        assertThat(Validation.valid(2).combine(Validation.valid(3), Integer::sum))
+                .isEqualTo(Validation.valid(5));
+    }
+
+    @Test
+    void combineInvalidsAccumulatesErrors() {
+        //when
+        final Validation<Integer> result = Validation.<Integer>invalid(error1)
+                .combine(Validation.<Integer>invalid(error2), Integer::sum);
+        //then
+        assertThat(result.errors()).containsExactly(error1, error2);
+    }
+
+    @Test
+    void combineWithOneInvalidIsInvalid() {
+        assertThat(Validation.valid(2).combine(Validation.<Integer>invalid(error1), Integer::sum).errors())
+                .containsExactly(error1);
+        assertThat(Validation.<Integer>invalid(error1).combine(Validation.valid(2), Integer::sum).errors())
+                .containsExactly(error1);
+    }
+
+    @Test
+    void combineThrowsIsInvalid() {
+        assertThat(Validation.valid(2).combine(Validation.valid(3), (a, b) -> {
+            throw error1;
+        }).errors()).containsExactly(error1);
+    }
+
+    @Test
+    void combineWithOtherImplementationUsesItsValue() {
+        assertThat(Validation.valid(2).combine(foreign(Validation.valid(3)), Integer::sum))
+                .isEqualTo(Validation.valid(5));
+    }
+
+    @Test
+    void mapValidIsMapped() {
+        assertThat(Validation.valid("abc").map(String::length)).isEqualTo(Validation.valid(3));
+    }
+
+    @Test
+    void mapThrowsIsInvalid() {
+        assertThat(Validation.valid("abc").map(v -> {
+            throw error1;
+        }).errors()).containsExactly(error1);
+    }
+
+    @Test
+    void flatMapInvalidDoesNotCallFunction() {
+        //given
+        final AtomicBoolean called = new AtomicBoolean();
+        //when
+        Validation.<String>invalid(error1).flatMap(v -> {
+            called.set(true);
+            return Validation.invalid(error2);
+        });
+        //then
+        assertThat(called).isFalse();
+    }
+
+    @Test
+    void sequenceAllValidIsValidList() {
+        assertThat(Validation.sequence(Arrays.asList(Validation.valid(1), Validation.valid(2))))
+                .isEqualTo(Validation.valid(Arrays.asList(1, 2)));
+    }
+
+    @Test
+    void sequenceCollectsEveryError() {
+        //given
+        final List<Validation<Integer>> validations = Arrays.asList(
+                Validation.invalid(error1),
+                Validation.valid(2),
+                Validation.invalid(error2));
+        //when
+        final Validation<List<Integer>> result = Validation.sequence(validations);
+        //then
+        assertThat(result.errors()).containsExactly(error1, error2);
+    }
+
+    @Test
+    void sequenceWithOtherImplementationUsesItsValue() {
+        assertThat(Validation.sequence(Arrays.asList(Validation.valid(1), foreign(Validation.valid(2)))))
+                .isEqualTo(Validation.valid(Arrays.asList(1, 2)));
+    }
+
+    @Test
+    void matchValidCallsValid() {
+        final AtomicReference<String> captured = new AtomicReference<>();
+        Validation.valid("value").match(captured::set, errors -> fail("not invalid"));
+        assertThat(captured).hasValue("value");
+    }
+
+    @Test
+    void matchInvalidCallsInvalid() {
+        final AtomicReference<List<Throwable>> captured = new AtomicReference<>();
+        Validation.<String>invalid(error1).match(v -> fail("not valid"), captured::set);
+        assertThat(captured.get()).containsExactly(error1);
+    }
+
+    @Test
+    void fromSuccessIsValid() {
+        assertThat(Validation.from(Result.ok("value"))).isEqualTo(Validation.valid("value"));
+    }
+
+    @Test
+    void fromErrorIsInvalid() {
+        assertThat(Validation.from(Result.error(TypeReference.<String>create(), error1)))
+                .isEqualTo(Validation.invalid(error1));
+    }
+
+    @Test
+    void fromInvalidToResultHasAllErrors() {
+        //given
+        final Validation<String> validation = Validation.<String>invalid(error1)
+                .and(Validation.invalid(error2));
+        //when
+        final Validation<String> result = Validation.from(validation.toResult());
+        //then
+        assertThat(result).isEqualTo(validation);
+    }
+
+    @Test
+    void fromValidToResultIsValid() {
+        //given
+        final Validation<String> validation = Validation.valid("value");
+        //when
+        final Validation<String> result = Validation.from(validation.toResult());
+        //then
+        assertThat(result).isEqualTo(validation);
+    }
+
+    @Test
+    void validToResultIsSuccess() {
+        assertThat(Validation.valid("value").toResult()).isEqualTo(Result.ok("value"));
+    }
+
+    @Test
+    void invalidToResultHoldsAllErrors() {
+        //given
+        final Validation<String> validation = Validation.<String>invalid(error1)
+                .and(Validation.invalid(error2));
+        //when
+        final Result<String> result = validation.toResult();
+        //then
+        assertThatThrownBy(result::orElseThrowUnchecked)
+                .hasCauseInstanceOf(ValidationException.class)
+                .satisfies(e -> assertThat(((ValidationException) e.getCause()).getErrors())
+                        .containsExactly(error1, error2));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Validation<T> foreign(final Validation<T> delegate) {
+        return (Validation<T>) Proxy.newProxyInstance(
+                Validation.class.getClassLoader(),
+                new Class<?>[]{Validation.class},
+                (proxy, method, args) -> method.invoke(delegate, args));
+    }
+}
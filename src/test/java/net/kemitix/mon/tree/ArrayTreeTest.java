@@ -0,0 +1,160 @@
+package net.kemitix.mon.tree;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+
+class ArrayTreeTest implements WithAssertions {
+
+    private static final int DEEP = 1_000_000;
+
+    private final Tree<Integer> tree = wideTree(3, 4, new AtomicInteger());
+
+    @Test
+    void compactTreeHasSameShapeAndItems() {
+        //when
+        final Tree<Integer> compact = Tree.compact(tree);
+        //then
+        assertThat(compact).isInstanceOf(ArrayTree.class);
+        assertThat(preOrder(compact)).isEqualTo(preOrder(tree));
+    }
+
+    @Test
+    void compactOfCompactIsSameTree() {
+        //given
+        final Tree<Integer> compact = Tree.compact(tree);
+        //then
+        assertThat(Tree.compact(compact)).isSameAs(compact);
+    }
+
+    @Test
+    void countIgnoresEmptyItems() {
+        //given
+        final Tree<String> compact = Tree.compact(
+                Tree.of(null, asList(Tree.leaf("a"), Tree.leaf(null), Tree.leaf("b"))));
+        //then
+        assertThat(compact.count()).isEqualTo(2);
+        assertThat(compact.item().isNothing()).isTrue();
+    }
+
+    @Test
+    void countMatchesOriginal() {
+        assertThat(Tree.compact(tree).count()).isEqualTo(tree.count());
+    }
+
+    @Test
+    void mapGivesSameResultAsOriginal() {
+        //when
+        final Tree<String> result = Tree.compact(tree).map(String::valueOf);
+        //then
+        assertThat(preOrder(result)).isEqualTo(preOrder(tree.map(String::valueOf)));
+    }
+
+    @Test
+    void parallelMapGivesSameResultAsOriginal() {
+        //when
+        final Tree<String> result = Tree.compact(tree).parallelMap(String::valueOf);
+        //then
+        assertThat(preOrder(result)).isEqualTo(preOrder(tree.map(String::valueOf)));
+    }
+
+    @Test
+    void subTreeViewsMatchOriginal() {
+        //given
+        final Tree<Integer> compact = Tree.compact(tree);
+        //when
+        final Tree<Integer> subTree = compact.subTrees().get(1).subTrees().get(2);
+        //then
+        final Tree<Integer> expected = tree.subTrees().get(1).subTrees().get(2);
+        assertThat(preOrder(subTree)).isEqualTo(preOrder(expected));
+        assertThat(subTree.count()).isEqualTo(expected.count());
+        assertThat(preOrder(subTree.map(v -> -v))).isEqualTo(preOrder(expected.map(v -> -v)));
+    }
+
+    @Test
+    void subTreesIsUnmodifiable() {
+        //given
+        final List<Tree<Integer>> subTrees = Tree.compact(tree).subTrees();
+        //then
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> subTrees.add(Tree.leaf(0)));
+    }
+
+    @Test
+    void equalWhenSameShapeAndItems() {
+        //given
+        final Tree<Integer> compact = Tree.compact(tree);
+        final Tree<Integer> subTree = compact.subTrees().get(0);
+        final Tree<Integer> copy = Tree.compact(tree.subTrees().get(0));
+        //then
+        assertThat(subTree).isEqualTo(copy);
+        assertThat(subTree.hashCode()).isEqualTo(copy.hashCode());
+        assertThat(compact).isNotEqualTo(Tree.compact(tree.map(v -> v + 1)));
+    }
+
+    @Test
+    void builderCanBuildCompactTree() {
+        //given
+        final TreeBuilder<Integer> builder = Tree.builder(Integer.class)
+                .item(1)
+                .addChildren(asList(2, 3));
+        //when
+        final Tree<Integer> result = builder.buildCompact();
+        //then
+        assertThat(result).isInstanceOf(ArrayTree.class);
+        assertThat(preOrder(result)).containsExactly(1, 2, 2, 0, 3, 0);
+    }
+
+    @Test
+    void canCompactCountAndMapVeryDeepTree() {
+        //given
+        Tree<Integer> deep = Tree.leaf(0);
+        for (int level = 1; level < DEEP; level++) {
+            deep = Tree.of(level, singletonList(deep));
+        }
+        //when
+        final Tree<Integer> compact = Tree.compact(deep);
+        final Tree<Integer> mapped = compact.map(v -> v + 1);
+        //then
+        assertThat(compact.count()).isEqualTo(DEEP);
+        assertThat(mapped.count()).isEqualTo(DEEP);
+        assertThat(mapped.item().toOptional()).contains(DEEP);
+    }
+
+    private static Tree<Integer> wideTree(final int width, final int depth, final AtomicInteger next) {
+        final int item = next.getAndIncrement();
+        if (depth == 0) {
+            return Tree.leaf(item);
+        }
+        final List<Tree<Integer>> subTrees = new ArrayList<>(width);
+        for (int i = 0; i < width; i++) {
+            subTrees.add(wideTree(width, depth - 1, next));
+        }
+        return Tree.of(item, subTrees);
+    }
+
+    private static <T> List<Object> preOrder(final Tree<T> tree) {
+        final List<Object> items = new ArrayList<>();
+        final Deque<Tree<T>> pending = new ArrayDeque<>();
+        pending.push(tree);
+        while (!pending.isEmpty()) {
+            final Tree<T> node = pending.pop();
+            final List<Tree<T>> subTrees = node.subTrees();
+            items.add(node.item().orElse(null));
+            items.add(subTrees.size());
+            for (int i = subTrees.size() - 1; i >= 0; i--) {
+                pending.push(subTrees.get(i));
+            }
+        }
+        return items;
+    }
+
+}
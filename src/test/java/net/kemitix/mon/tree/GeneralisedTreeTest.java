@@ -3,13 +3,21 @@ package net.kemitix.mon.tree;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 
 class GeneralisedTreeTest implements WithAssertions {
 
+    private static final int DEEP = 1_000_000;
+
     @Test
     void canCreateAnEmptyLeaf() {
         //when
@@ -59,6 +67,18 @@ class GeneralisedTreeTest implements WithAssertions {
         assertThat(tree.subTrees()).containsExactly(Tree.leaf(leafItem));
     }
 
+    @Test
+    void subTreesIsUnmodifiableAndNotCopied() {
+        //given
+        final Tree<String> tree = Tree.of("tree", singletonList(Tree.leaf("leaf")));
+        //when
+        final List<Tree<String>> subTrees = tree.subTrees();
+        //then
+        assertThat(tree.subTrees()).isSameAs(subTrees);
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> subTrees.add(Tree.leaf("other")));
+    }
+
     @Test
     void canMapNestedTrees() {
         //given
@@ -84,4 +104,135 @@ class GeneralisedTreeTest implements WithAssertions {
         );
     }
 
-}
\ No newline at end of file
+    @Test
+    void canMapMixedTreesUsingEachSubTreesOwnMap() {
+        //given
+        final Tree<Integer> tree = Tree.of(1, asList(MutableTree.leaf(2), Tree.leaf(3)));
+        //when
+        final Tree<Integer> result = tree.map(v -> v * 10);
+        //then
+        final List<Tree<Integer>> subTrees = result.subTrees();
+        assertThat(result.item().toOptional()).contains(10);
+        assertThat(subTrees.get(0)).isInstanceOf(MutableTree.class);
+        assertThat(subTrees.get(0).item().toOptional()).contains(20);
+        assertThat(subTrees.get(1).item().toOptional()).contains(30);
+    }
+
+    @Test
+    void canCountVeryDeepTree() {
+        //given
+        final Tree<Integer> tree = deepTree(DEEP);
+        //when
+        final int count = tree.count();
+        //then
+        assertThat(count).isEqualTo(DEEP);
+    }
+
+    @Test
+    void canMapVeryDeepTree() {
+        //given
+        final Tree<Integer> tree = deepTree(DEEP);
+        //when
+        final Tree<String> result = tree.map(String::valueOf);
+        //then
+        assertThat(result.count()).isEqualTo(DEEP);
+        assertThat(result.item().toOptional()).contains(String.valueOf(DEEP - 1));
+        Tree<String> leaf = result;
+        while (!leaf.subTrees().isEmpty()) {
+            leaf = leaf.subTrees().get(0);
+        }
+        assertThat(leaf.item().toOptional()).contains("0");
+    }
+
+    @Test
+    void parallelMapKeepsShapeAndOrder() {
+        //given
+        final Tree<Integer> tree = wideTree(6, 5, new AtomicInteger());
+        //when
+        final Tree<String> result = tree.parallelMap(String::valueOf);
+        //then
+        assertThat(preOrder(result)).isEqualTo(preOrder(tree.map(String::valueOf)));
+    }
+
+    @Test
+    void parallelMapForksBelowSingleSubTreeRoot() throws Exception {
+        //given
+        final Tree<Integer> tree = Tree.of(-1, singletonList(wideTree(16, 2, new AtomicInteger())));
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        //when
+        final Tree<String> result = pool.submit(() -> tree.parallelMap(String::valueOf)).get();
+        pool.shutdown();
+        //then
+        assertThat(preOrder(result)).isEqualTo(preOrder(tree.map(String::valueOf)));
+    }
+
+    @Test
+    void parallelMapOfSmallTreeKeepsShapeAndOrder() {
+        //given
+        final Tree<Integer> tree = wideTree(3, 2, new AtomicInteger());
+        //when
+        final Tree<String> result = tree.parallelMap(String::valueOf);
+        //then
+        assertThat(preOrder(result)).isEqualTo(preOrder(tree.map(String::valueOf)));
+    }
+
+    @Test
+    void parallelMapOfLeafIsLeaf() {
+        //when
+        final Tree<Integer> result = Tree.leaf(1).parallelMap(v -> v + 1);
+        //then
+        assertThat(result.item().toOptional()).contains(2);
+        assertThat(result.subTrees()).isEmpty();
+    }
+
+    @Test
+    void parallelMapOfVeryDeepTree() {
+        //given
+        Tree<Integer> tree = Tree.leaf(0);
+        for (int level = 1; level < DEEP; level++) {
+            tree = Tree.of(level, asList(tree, Tree.leaf(-level)));
+        }
+        //when
+        final Tree<Integer> result = tree.parallelMap(v -> v * 2);
+        //then
+        assertThat(result.count()).isEqualTo(DEEP * 2 - 1);
+        assertThat(result.item().toOptional()).contains((DEEP - 1) * 2);
+    }
+
+    private static <T> List<Object> preOrder(final Tree<T> tree) {
+        final List<Object> items = new ArrayList<>();
+        final Deque<Tree<T>> pending = new ArrayDeque<>();
+        pending.push(tree);
+        while (!pending.isEmpty()) {
+            final Tree<T> node = pending.pop();
+            final List<Tree<T>> subTrees = node.subTrees();
+            items.add(node.item().orElse(null));
+            items.add(subTrees.size());
+            for (int i = subTrees.size() - 1; i >= 0; i--) {
+                pending.push(subTrees.get(i));
+            }
+        }
+        return items;
+    }
+
+    private static Tree<Integer> wideTree(final int width, final int depth, final AtomicInteger next) {
+        final int item = next.getAndIncrement();
+        if (depth == 0) {
+            return Tree.leaf(item);
+        }
+        final List<Tree<Integer>> subTrees = new ArrayList<>(width);
+        for (int i = 0; i < width; i++) {
+            subTrees.add(wideTree(width, depth - 1, next));
+        }
+        return Tree.of(item, subTrees);
+    }
+
+    private static Tree<Integer> deepTree(final int depth) {
+        Tree<Integer> tree = Tree.leaf(0);
+        for (int level = 1; level < depth; level++) {
+            tree = Tree.of(level, singletonList(tree));
+        }
+        return tree;
+    }
+
+}
@@ -3,6 +3,7 @@ package net.kemitix.mon.tree;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
@@ -12,6 +13,8 @@ import static java.util.Collections.singletonList;
 
 class MutableTreeTest implements WithAssertions {
 
+    private static final int DEEP = 1_000_000;
+
     @Test
     void canCreateAnEmptyLeaf() {
         //when
@@ -64,6 +67,20 @@ class MutableTreeTest implements WithAssertions {
         assertThat(tree.subTrees()).containsExactly(leaf);
     }
 
+    @Test
+    void subTreesIsUnmodifiableViewOfCurrentSubTrees() {
+        //given
+        final MutableTree<String> tree = MutableTree.leaf("tree");
+        final List<Tree<String>> subTrees = tree.subTrees();
+        //when
+        tree.add(Tree.leaf("leaf"));
+        //then
+        assertThat(subTrees).hasSize(1);
+        assertThat(tree.subTrees()).isSameAs(subTrees);
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> subTrees.add(Tree.leaf("other")));
+    }
+
     @Test
     void canMapNestedTrees() {
         //given
@@ -105,4 +122,60 @@ class MutableTreeTest implements WithAssertions {
         assertThat(subTrees.get(0).item().toOptional()).contains(leafItem);
     }
 
-}
\ No newline at end of file
+    @Test
+    void canCountVeryDeepTree() {
+        //given
+        final MutableTree<Integer> tree = deepTree(DEEP);
+        //when
+        final int count = tree.count();
+        //then
+        assertThat(count).isEqualTo(DEEP);
+    }
+
+    @Test
+    void canMapVeryDeepTree() {
+        //given
+        final MutableTree<Integer> tree = deepTree(DEEP);
+        //when
+        final MutableTree<Integer> result = tree.map(v -> v * 2);
+        //then
+        assertThat(result.count()).isEqualTo(DEEP);
+        assertThat(result.item().toOptional()).contains((DEEP - 1) * 2);
+    }
+
+    @Test
+    void canCloneVeryDeepNonMutableTree() {
+        //given
+        Tree<Integer> tree = Tree.leaf(0);
+        for (int level = 1; level < DEEP; level++) {
+            tree = Tree.of(level, singletonList(tree));
+        }
+        //when
+        final MutableTree<Integer> mutableTree = MutableTree.of(tree);
+        //then
+        assertThat(mutableTree.count()).isEqualTo(DEEP);
+    }
+
+    @Test
+    void parallelMapKeepsShapeAndOrder() {
+        //given
+        final List<MutableTree<Integer>> subTrees = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            subTrees.add(MutableTree.of(i, asList(MutableTree.leaf(i * 10), MutableTree.leaf(i * 100))));
+        }
+        final MutableTree<Integer> tree = MutableTree.of(-1, subTrees);
+        //when
+        final MutableTree<String> result = tree.parallelMap(String::valueOf);
+        //then
+        assertThat(result).usingRecursiveComparison().isEqualTo(tree.map(String::valueOf));
+    }
+
+    private static MutableTree<Integer> deepTree(final int depth) {
+        MutableTree<Integer> tree = MutableTree.leaf(0);
+        for (int level = 1; level < depth; level++) {
+            tree = MutableTree.of(level, singletonList(tree));
+        }
+        return tree;
+    }
+
+}
@@ -5,6 +5,7 @@ import net.kemitix.mon.maybe.Maybe;
 import org.junit.jupiter.api.Test;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
 
 import static java.util.Arrays.asList;
@@ -93,6 +94,158 @@ class TreeBuilderTest {
                         MutableTree.leaf(child3Node))));
     }
 
+    @Test
+    void whenSelectAmongManyChildrenThenFindsFirstMatchingChild() {
+        //given
+        final TreeBuilder<Integer> builder = Tree.builder(Integer.class);
+        for (int i = 0; i < 100; i++) {
+            builder.addChild(i % 50);
+        }
+        //when
+        final Maybe<TreeBuilder<Integer>> selected = builder.select(42);
+        selected.map(childBuilder -> childBuilder.addChild(-1));
+        //then
+        final List<Tree<Integer>> subTrees = builder.build().subTrees();
+        assertThat(subTrees.get(42).subTrees()).hasSize(1);
+        assertThat(subTrees.get(92).subTrees()).isEmpty();
+        assertThat(builder.select(50).isNothing()).isTrue();
+    }
+
+    @Test
+    void whenSelectedChildItemChangedThenSelectUsesNewItem() {
+        //given
+        final TreeBuilder<Integer> builder = Tree.builder(Integer.class);
+        for (int i = 0; i < 20; i++) {
+            builder.addChild(i);
+        }
+        builder.select(5);
+        //when
+        builder.select(5).map(childBuilder -> childBuilder.item(500));
+        //then
+        assertThat(builder.select(5).isNothing()).isTrue();
+        assertThat(builder.select(500).isJust()).isTrue();
+    }
+
+    @Test
+    void whenAddedSubTreeItemChangedElsewhereThenSelectUsesNewItem() {
+        //given
+        final TreeBuilder<Integer> builder = Tree.builder(Integer.class);
+        for (int i = 0; i < 20; i++) {
+            builder.addChild(i);
+        }
+        final Tree<Integer> child = Tree.builder(Integer.class).item(100).build();
+        builder.add(child);
+        builder.select(5);
+        //when
+        Tree.builder(child).item(200);
+        //then
+        assertThat(builder.select(100).isNothing()).isTrue();
+        assertThat(builder.select(200).isJust()).isTrue();
+    }
+
+    @Test
+    void whenSharedSubTreeItemChangedThenEachTreeSeesNewItem() {
+        //given
+        final Tree<Integer> child = Tree.builder(Integer.class).item(100).build();
+        final TreeBuilder<Integer> first = Tree.builder(Integer.class);
+        final TreeBuilder<Integer> second = Tree.builder(Integer.class);
+        for (int i = 0; i < 20; i++) {
+            first.addChild(i);
+            second.addChild(i);
+        }
+        first.add(child);
+        second.add(child);
+        first.select(5);
+        second.select(5);
+        //when
+        Tree.builder(child).item(200);
+        //then
+        assertThat(first.select(200).isJust()).isTrue();
+        assertThat(second.select(200).isJust()).isTrue();
+        assertThat(first.build().subTrees().get(20).item()).isEqualTo(Maybe.just(200));
+        assertThat(second.build().subTrees().get(20).item()).isEqualTo(Maybe.just(200));
+    }
+
+    @Test
+    void whenChildRenamedToDuplicateItemThenSelectFindsFirst() {
+        //given
+        final TreeBuilder<Integer> builder = Tree.builder(Integer.class);
+        for (int i = 0; i < 20; i++) {
+            builder.addChild(i);
+        }
+        builder.select(5);
+        //when
+        builder.select(3).map(childBuilder -> childBuilder.item(2));
+        builder.select(2).map(childBuilder -> childBuilder.item(-2));
+        //then
+        final List<Tree<Integer>> subTrees = builder.build().subTrees();
+        assertThat(subTrees.get(2).item()).isEqualTo(Maybe.just(-2));
+        assertThat(subTrees.get(3).item()).isEqualTo(Maybe.just(2));
+        assertThat(builder.select(2).isJust()).isTrue();
+        assertThat(builder.select(3).isNothing()).isTrue();
+    }
+
+    @Test
+    void whenSelectNullThenFindsChildWithoutItem() {
+        //given
+        final TreeBuilder<Integer> builder = Tree.builder(Integer.class);
+        for (int i = 0; i < 20; i++) {
+            builder.addChild(i);
+        }
+        builder.addChild(null);
+        //when
+        final Maybe<TreeBuilder<Integer>> selected = builder.select(null);
+        //then
+        assertThat(selected.isJust()).isTrue();
+    }
+
+    @Test
+    void whenSelectOrAddMissingChildThenChildIsAdded() {
+        //given
+        final TreeBuilder<String> builder = Tree.builder(String.class).item("root");
+        //when
+        builder.selectOrAdd("child").addChild("grandchild");
+        builder.selectOrAdd("child").addChild("other");
+        //then
+        final Tree<String> result = builder.build();
+        assertThat(result.count()).isEqualTo(4);
+        assertThat(result.subTrees()).hasSize(1);
+        assertThat(result.subTrees().get(0).subTrees()).hasSize(2);
+    }
+
+    @Test
+    void whenAddPathsThenSharedPrefixesShareSubTrees() {
+        //when
+        final Tree<String> result = Tree.builder(String.class)
+                .item("/")
+                .addPaths(asList(
+                        asList("usr", "local", "bin"),
+                        asList("usr", "lib"),
+                        asList("etc")))
+                .build();
+        //then
+        assertThat(result.count()).isEqualTo(6);
+        final List<Tree<String>> topLevel = result.subTrees();
+        assertThat(topLevel).hasSize(2);
+        assertThat(topLevel.get(0).item().toOptional()).contains("usr");
+        assertThat(topLevel.get(0).subTrees()).hasSize(2);
+        assertThat(topLevel.get(1).item().toOptional()).contains("etc");
+    }
+
+    @Test
+    void whenAddManyPathsThenTrieHasEveryPath() {
+        //given
+        final TreeBuilder<Integer> builder = Tree.builder(Integer.class);
+        //when
+        for (int i = 0; i < 100_000; i++) {
+            builder.addPath(asList(i % 10, i % 1000, i));
+        }
+        //then
+        final Tree<Integer> result = builder.build();
+        assertThat(result.subTrees()).hasSize(10);
+        assertThat(result.count()).isEqualTo(10 + 1000 + 100_000);
+    }
+
     private Node createANode() {
         return new Node(createAName());
     }